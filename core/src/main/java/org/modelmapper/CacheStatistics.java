@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper;
+
+/**
+ * A point in time view of the statistics of one of the caches that ModelMapper shares across
+ * instances.
+ *
+ * @see ModelMapper#getCacheStatistics()
+ */
+public final class CacheStatistics {
+  private final String name;
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final long size;
+
+  public CacheStatistics(String name, long hitCount, long missCount, long evictionCount,
+      long size) {
+    this.name = name;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the number of lookups that found a cached entry.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of lookups that did not find a cached entry.
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the number of entries that were evicted to keep the cache within its bounds.
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Returns the number of cached entries, which may include entries for classes that have since
+   * been unloaded.
+   */
+  public long getSize() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s[hits=%d, misses=%d, evictions=%d, size=%d]", name, hitCount,
+        missCount, evictionCount, size);
+  }
+}
@@ -17,13 +17,28 @@ package org.modelmapper;
 
 import net.jodah.typetools.TypeResolver;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import org.modelmapper.config.Configuration;
+import org.modelmapper.internal.Caches;
 import org.modelmapper.internal.Errors;
 import org.modelmapper.internal.InheritingConfiguration;
 import org.modelmapper.internal.MappingEngineImpl;
+import org.modelmapper.internal.MappingPlan;
+import org.modelmapper.internal.TypeMapSnapshot;
+import org.modelmapper.internal.TypeMapWarmer;
 import org.modelmapper.internal.util.Assert;
 import org.modelmapper.internal.util.Types;
 
@@ -542,6 +557,123 @@ public class ModelMapper {
     return mapInternal(source, null, destinationType, typeMapName);
   }
 
+  /**
+   * Maps each of the {@code sources} to an instance of {@code destinationType}, returning the
+   * results in iteration order. Mapping is performed as for {@link #map(Object, Class)}, except that
+   * the TypeMap or Converter to use is resolved once per distinct source type rather than once per
+   * source. Null sources are mapped to null.
+   * 
+   * @param <D> destination type
+   * @param sources objects to map from
+   * @param destinationType type to map to
+   * @return fully mapped instances of {@code destinationType}
+   * @throws IllegalArgumentException if {@code sources} or {@code destinationType} are null
+   * @throws ConfigurationException if the ModelMapper cannot find or create a TypeMap for the
+   *           arguments
+   * @throws MappingException if a runtime error occurs while mapping
+   */
+  public <D> List<D> mapAll(Iterable<?> sources, Class<D> destinationType) {
+    Assert.notNull(sources, "sources");
+    Assert.notNull(destinationType, "destinationType");
+    MappingPlan<D> plan = engine.planFor(TypeToken.<D>of(destinationType), null);
+    List<D> destinations = sources instanceof Collection
+        ? new ArrayList<D>(((Collection<?>) sources).size())
+        : new ArrayList<D>();
+    for (Object source : sources)
+      destinations.add(source == null ? null : plan.map(source));
+    return destinations;
+  }
+
+  /**
+   * Maps each of the {@code sources} to the destination at the same index in
+   * {@code destinations}. Mapping is performed as for {@link #map(Object, Object)}, except that the
+   * TypeMap or Converter to use is resolved once per distinct source and destination type rather
+   * than once per source. Null sources, and sources whose destination is null, are skipped.
+   * 
+   * @param <D> destination type
+   * @param sources objects to map from
+   * @param destinations objects to map to
+   * @throws IllegalArgumentException if {@code sources} or {@code destinations} are null, or if
+   *           their sizes differ
+   * @throws ConfigurationException if the ModelMapper cannot find or create a TypeMap for the
+   *           arguments
+   * @throws MappingException if a runtime error occurs while mapping
+   */
+  public <D> void mapInto(List<?> sources, List<D> destinations) {
+    Assert.notNull(sources, "sources");
+    Assert.notNull(destinations, "destinations");
+    Assert.isTrue(sources.size() == destinations.size(),
+        "sources and destinations must be of the same size");
+    MappingPlan<D> plan = engine.planFor(TypeToken.<D>of(Object.class), null);
+    Iterator<D> destinationIterator = destinations.iterator();
+    for (Object source : sources) {
+      D destination = destinationIterator.next();
+      if (source != null && destination != null)
+        plan.map(source, destination);
+    }
+  }
+
+  /**
+   * Returns a stream which lazily maps each of the {@code sources} to an instance of
+   * {@code destinationType} as elements are consumed. Mapping is performed as for
+   * {@link #mapAll(Iterable, Class)}, with one plan shared by every element, so the returned stream
+   * may be split and consumed in parallel if the {@code sources} are. Null sources are mapped to
+   * null.
+   * 
+   * @param <D> destination type
+   * @param sources objects to map from
+   * @param destinationType type to map to
+   * @return stream of fully mapped instances of {@code destinationType}
+   * @throws IllegalArgumentException if {@code sources} or {@code destinationType} are null
+   * @throws ConfigurationException if the ModelMapper cannot find or create a TypeMap for an
+   *           element as it is consumed
+   * @throws MappingException if a runtime error occurs while mapping an element as it is consumed
+   */
+  public <D> Stream<D> mapStream(Stream<?> sources, Class<D> destinationType) {
+    Assert.notNull(sources, "sources");
+    Assert.notNull(destinationType, "destinationType");
+    final MappingPlan<D> plan = engine.planFor(TypeToken.<D>of(destinationType), null);
+    return sources.map(source -> source == null ? null : plan.map(source));
+  }
+
+  /**
+   * Returns an iterator which lazily maps each of the {@code sources} to an instance of
+   * {@code destinationType} as elements are iterated. Mapping is performed as for
+   * {@link #mapAll(Iterable, Class)}. Null sources are mapped to null. Removal is delegated to the
+   * {@code sources}.
+   * 
+   * @param <D> destination type
+   * @param sources objects to map from
+   * @param destinationType type to map to
+   * @return iterator of fully mapped instances of {@code destinationType}
+   * @throws IllegalArgumentException if {@code sources} or {@code destinationType} are null
+   * @throws ConfigurationException if the ModelMapper cannot find or create a TypeMap for an
+   *           element as it is iterated
+   * @throws MappingException if a runtime error occurs while mapping an element as it is iterated
+   */
+  public <D> Iterator<D> mapIterator(final Iterator<?> sources, Class<D> destinationType) {
+    Assert.notNull(sources, "sources");
+    Assert.notNull(destinationType, "destinationType");
+    final MappingPlan<D> plan = engine.planFor(TypeToken.<D>of(destinationType), null);
+    return new Iterator<D>() {
+      @Override
+      public boolean hasNext() {
+        return sources.hasNext();
+      }
+
+      @Override
+      public D next() {
+        Object source = sources.next();
+        return source == null ? null : plan.map(source);
+      }
+
+      @Override
+      public void remove() {
+        sources.remove();
+      }
+    };
+  }
+
   /**
    * Validates that <b>every</b> top level destination property for each configured TypeMap is
    * mapped to one and only one source property, or that a {@code Converter} was
@@ -563,6 +695,107 @@ public class ModelMapper {
     errors.throwValidationExceptionIfErrorsExist();
   }
 
+  /**
+   * Builds the TypeMaps for the {@code typePairs} in parallel using the {@code executor}, so that
+   * they need not be created the first time they are used. Along with each TypeMap's implicit
+   * mappings, the TypeMaps that would be created for its properties when first mapped are built,
+   * as is the TypeMap's execution plan when
+   * {@link Configuration#isTypeMapCompilationEnabled() compilation} is enabled. Waits for all builds
+   * to complete.
+   * 
+   * @param typePairs the type pairs to build TypeMaps for
+   * @param executor to build TypeMaps with
+   * @return a report of the TypeMaps that were built, how long each took and any failures
+   * @throws IllegalArgumentException if {@code typePairs} or {@code executor} are null
+   */
+  public WarmUpReport warmUp(Collection<? extends TypePair<?, ?>> typePairs, Executor executor) {
+    Assert.notNull(typePairs, "typePairs");
+    Assert.notNull(executor, "executor");
+    long start = System.nanoTime();
+    final Queue<WarmUpReport.Entry> entries = new ConcurrentLinkedQueue<WarmUpReport.Entry>();
+    TypeMapWarmer.warmUp(typePairs, executor, config, engine, new TypeMapWarmer.Listener() {
+      @Override
+      public void built(TypePair<?, ?> typePair, boolean nested, long buildNanos,
+          RuntimeException failure) {
+        entries.add(new WarmUpReport.Entry(typePair, nested, buildNanos, failure));
+      }
+    });
+    return new WarmUpReport(new ArrayList<WarmUpReport.Entry>(entries), System.nanoTime() - start);
+  }
+
+  /**
+   * Rebuilds, in the background using the {@code executor}, the TypeMaps whose implicit mappings
+   * are stale since the configuration's matching settings, the converters or the TypeMaps for their
+   * property types changed, such as after {@link Configuration#setMatchingStrategy setting the
+   * matching strategy} or {@link #addConverter(Converter) adding a converter}. Only TypeMaps that
+   * consist solely of implicit mappings, and that have not been modified since they were built,
+   * are rebuilt. The mappings of each stale TypeMap are replaced atomically once rebuilt, unless the
+   * TypeMap is modified in the meantime, so that mappings in progress use either the stale or the
+   * rebuilt mappings and references to the TypeMap remain valid. TypeMaps that are unaffected by
+   * the changes are left as is.
+   * 
+   * @param executor to rebuild TypeMaps with
+   * @return a future of the number of TypeMaps rebuilt, which completes exceptionally with a
+   *         {@link ConfigurationException} if any TypeMap cannot be rebuilt, leaving that TypeMap
+   *         in place
+   * @throws IllegalArgumentException if {@code executor} is null
+   */
+  public CompletableFuture<Integer> rebuildStaleTypeMaps(Executor executor) {
+    Assert.notNull(executor, "executor");
+    return config.typeMapStore.rebuildStale(executor);
+  }
+
+  /**
+   * Returns the statistics of the type and property metadata caches that are shared by all
+   * ModelMapper instances. The caches hold entries for at most a bounded number of types, and at
+   * most a bounded number of entries per type, evicting the least recently used types or entries
+   * once a bound is exceeded. The statistics named {@code GeneratedInvoker} count the accessor and
+   * mutator methods that invokers were generated for as hits, and the methods that are invoked
+   * reflectively since an invoker could not be generated for them, such as when their package is
+   * not open to ModelMapper, as misses.
+   */
+  public static List<CacheStatistics> getCacheStatistics() {
+    return Caches.statistics();
+  }
+
+  /**
+   * Writes a snapshot of the implicit mappings of this ModelMapper's TypeMaps to the
+   * {@code output}, which can be {@link #loadSnapshot(InputStream) loaded} by a later ModelMapper
+   * to skip implicit matching. Only TypeMaps that consist solely of implicit mappings, and that
+   * have no converters, conditions or providers, are written. No TypeMaps are written while
+   * converters other than the built-in converters are registered, or while the matching strategy,
+   * name tokenizers, name transformers or naming conventions are not the built-in ones from
+   * {@link org.modelmapper.convention}. The {@code output} is not closed.
+   * 
+   * @param output to write the snapshot to
+   * @return the number of TypeMaps written
+   * @throws IllegalArgumentException if {@code output} is null
+   * @throws IOException if the snapshot cannot be written
+   */
+  public int saveSnapshot(OutputStream output) throws IOException {
+    Assert.notNull(output, "output");
+    return TypeMapSnapshot.write(config.typeMapStore.get(), config, output);
+  }
+
+  /**
+   * Loads a snapshot that was {@link #saveSnapshot(OutputStream) saved} by another ModelMapper.
+   * When a TypeMap without explicit mappings is subsequently created for a type pair in the
+   * snapshot, the snapshot's mappings are used in place of implicit matching, provided that this
+   * ModelMapper's configuration, the properties of the types reachable from the pair and the
+   * TypeMaps that matching looks up for the pair's property types are unchanged since the snapshot
+   * was saved, and that it uses only built-in converters and matching settings as for
+   * {@link #saveSnapshot(OutputStream)}. Otherwise the TypeMap is matched as usual. The
+   * {@code input} is not closed.
+   * 
+   * @param input to read the snapshot from
+   * @throws IllegalArgumentException if {@code input} is null
+   * @throws IOException if the snapshot cannot be read
+   */
+  public void loadSnapshot(InputStream input) throws IOException {
+    Assert.notNull(input, "input");
+    config.typeMapStore.setSnapshot(TypeMapSnapshot.read(input));
+  }
+
   /**
    * Register a module
    *
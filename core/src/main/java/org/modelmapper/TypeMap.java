@@ -52,6 +52,20 @@ public interface TypeMap<S, D> {
    */
   Condition<?, ?> getCondition();
 
+  /**
+   * Compiles the TypeMap into an execution plan that resolves each mapping's accessors, mutator and
+   * converter up front, so that subsequent mappings do not need to look them up again. Mappings
+   * that use conditions, converters, providers or nested TypeMaps cannot be compiled, in which case
+   * the TypeMap continues to be mapped as usual. The plan is recompiled automatically when the
+   * TypeMap changes. The default implementation does not compile the TypeMap.
+   * 
+   * @return this TypeMap
+   * @see org.modelmapper.config.Configuration#setTypeMapCompilationEnabled(boolean)
+   */
+  default TypeMap<S, D> compile() {
+    return this;
+  }
+
   /**
    * Returns the Converter configured for this TypeMap, else {@code null} if no Converter has been
    * configured.
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper;
+
+import org.modelmapper.internal.util.Assert;
+
+/**
+ * Identifies the TypeMap for a source type, destination type and optional TypeMap name.
+ *
+ * @param <S> source type
+ * @param <D> destination type
+ * @see ModelMapper#warmUp(java.util.Collection, java.util.concurrent.Executor)
+ */
+public final class TypePair<S, D> {
+  private final Class<S> sourceType;
+  private final Class<D> destinationType;
+  private final String typeMapName;
+  private final int hashCode;
+
+  private TypePair(Class<S> sourceType, Class<D> destinationType, String typeMapName) {
+    this.sourceType = Assert.notNull(sourceType, "sourceType");
+    this.destinationType = Assert.notNull(destinationType, "destinationType");
+    this.typeMapName = typeMapName;
+    int result = 31 * sourceType.hashCode() + destinationType.hashCode();
+    hashCode = 31 * result + (typeMapName == null ? 0 : typeMapName.hashCode());
+  }
+
+  /**
+   * Returns a TypePair for the {@code sourceType} and {@code destinationType}.
+   *
+   * @throws IllegalArgumentException if {@code sourceType} or {@code destinationType} are null
+   */
+  public static <S, D> TypePair<S, D> of(Class<S> sourceType, Class<D> destinationType) {
+    return new TypePair<S, D>(sourceType, destinationType, null);
+  }
+
+  /**
+   * Returns a TypePair for the {@code sourceType}, {@code destinationType} and
+   * {@code typeMapName}, where a null {@code typeMapName} identifies the unnamed TypeMap.
+   *
+   * @throws IllegalArgumentException if {@code sourceType} or {@code destinationType} are null
+   */
+  public static <S, D> TypePair<S, D> of(Class<S> sourceType, Class<D> destinationType,
+      String typeMapName) {
+    return new TypePair<S, D>(sourceType, destinationType, typeMapName);
+  }
+
+  public Class<S> getSourceType() {
+    return sourceType;
+  }
+
+  public Class<D> getDestinationType() {
+    return destinationType;
+  }
+
+  /**
+   * Returns the TypeMap name, else {@code null} if the pair identifies an unnamed TypeMap.
+   */
+  public String getTypeMapName() {
+    return typeMapName;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this)
+      return true;
+    if (!(other instanceof TypePair))
+      return false;
+    TypePair<?, ?> otherPair = (TypePair<?, ?>) other;
+    return hashCode == otherPair.hashCode
+        && sourceType.equals(otherPair.sourceType)
+        && destinationType.equals(otherPair.destinationType)
+        && (typeMapName == null ? otherPair.typeMapName == null
+            : typeMapName.equals(otherPair.typeMapName));
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    String str = sourceType.getName() + " to " + destinationType.getName();
+    if (typeMapName != null)
+      str += " as " + typeMapName;
+    return str;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the TypeMaps that were built by a {@link ModelMapper#warmUp(java.util.Collection,
+ * java.util.concurrent.Executor) warm up}, and how long each took to build.
+ */
+public final class WarmUpReport {
+  private final List<Entry> entries;
+  private final long elapsedNanos;
+
+  /**
+   * The outcome of building the TypeMap for a TypePair.
+   */
+  public static final class Entry {
+    private final TypePair<?, ?> typePair;
+    private final boolean nested;
+    private final long buildNanos;
+    private final RuntimeException failure;
+
+    Entry(TypePair<?, ?> typePair, boolean nested, long buildNanos,
+        RuntimeException failure) {
+      this.typePair = typePair;
+      this.nested = nested;
+      this.buildNanos = buildNanos;
+      this.failure = failure;
+    }
+
+    public TypePair<?, ?> getTypePair() {
+      return typePair;
+    }
+
+    /**
+     * Returns whether the TypeMap was built for a property of a requested TypePair, rather than for
+     * a requested TypePair.
+     */
+    public boolean isNested() {
+      return nested;
+    }
+
+    /**
+     * Returns the time taken to build the TypeMap in the given {@code unit}.
+     */
+    public long getBuildTime(TimeUnit unit) {
+      return unit.convert(buildNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the exception that was thrown while building the TypeMap, else {@code null}.
+     */
+    public RuntimeException getFailure() {
+      return failure;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s: %dus%s", typePair, getBuildTime(TimeUnit.MICROSECONDS),
+          failure == null ? "" : " (failed: " + failure.getMessage() + ")");
+    }
+  }
+
+  WarmUpReport(List<Entry> entries, long elapsedNanos) {
+    this.entries = Collections.unmodifiableList(new ArrayList<Entry>(entries));
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns an entry for every TypeMap that was built, in the order the builds completed.
+   */
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Returns the entries of the TypeMaps that failed to build.
+   */
+  public List<Entry> getFailures() {
+    List<Entry> failures = new ArrayList<Entry>();
+    for (Entry entry : entries)
+      if (entry.failure != null)
+        failures.add(entry);
+    return failures;
+  }
+
+  /**
+   * Returns the wall clock time that the warm up took in the given {@code unit}.
+   */
+  public long getElapsedTime(TimeUnit unit) {
+    return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder(String.format("Warmed up %d TypeMaps in %dms",
+        entries.size(), getElapsedTime(TimeUnit.MILLISECONDS)));
+    for (Entry entry : entries)
+      builder.append(System.lineSeparator()).append("  ").append(entry);
+    return builder.toString();
+  }
+}
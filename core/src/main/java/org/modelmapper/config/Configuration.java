@@ -23,6 +23,7 @@ import org.modelmapper.spi.*;
 import org.modelmapper.spi.ConditionalConverter.MatchResult;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Configures conventions used during the matching process.
@@ -127,6 +128,36 @@ public interface Configuration {
    */
   AccessLevel getMethodAccessLevel();
 
+  /**
+   * Returns the Executor used to map the elements of collections and arrays in parallel, else
+   * {@code null} if the common {@link java.util.concurrent.ForkJoinPool} is used.
+   *
+   * @see #setParallelCollectionExecutor(Executor)
+   */
+  Executor getParallelCollectionExecutor();
+
+  /**
+   * Returns the number of threads that the parallel collection executor maps elements with, which
+   * determines how many chunks elements are split into, else {@code 0} if it is the parallelism of
+   * the executor when it is a {@link java.util.concurrent.ForkJoinPool}, and the number of
+   * available processors otherwise.
+   * <p>
+   * Default is {@code 0}.
+   *
+   * @see #setParallelCollectionParallelism(int)
+   */
+  int getParallelCollectionParallelism();
+
+  /**
+   * Returns the number of elements a source collection or array must have in order for its elements
+   * to be mapped in parallel, else {@code 0} if elements are always mapped sequentially.
+   * <p>
+   * Default is {@code 0}.
+   *
+   * @see #setParallelCollectionThreshold(int)
+   */
+  int getParallelCollectionThreshold();
+
   /**
    * Returns the Condition that must apply for a property in order for mapping to take place, else
    * {@code null} if no condition has been configured.
@@ -227,6 +258,16 @@ public interface Configuration {
    */
   boolean isFullTypeMatchingRequired();
 
+  /**
+   * Returns whether accessor and mutator methods, and fields, are accessed through generated
+   * invokers rather than through reflection.
+   * <p>
+   * Default is {@code false}.
+   *
+   * @see #setGeneratedAccessorsEnabled(boolean)
+   */
+  boolean isGeneratedAccessorsEnabled();
+
   /**
    * Returns whether implicit mapping should be enabled. When {@code true} (default), ModelMapper
    * will implicitly map source to destination properties based on configured conventions. When
@@ -261,6 +302,15 @@ public interface Configuration {
    */
   boolean isSkipNullEnabled();
 
+  /**
+   * Returns whether TypeMaps are compiled into execution plans before they are used for mapping.
+   * <p>
+   * Default is {@code false}.
+   *
+   * @see #setTypeMapCompilationEnabled(boolean)
+   */
+  boolean isTypeMapCompilationEnabled();
+
   /**
    * Returns whether OSGi Class Loader Bridging is required.
    *
@@ -356,6 +406,23 @@ public interface Configuration {
    */
   Configuration setFullTypeMatchingRequired(boolean required);
 
+  /**
+   * Sets whether accessor and mutator methods should be invoked through generated invokers. When
+   * {@code true}, ModelMapper generates a dedicated invoker class for each accessor and mutator
+   * method it resolves, and reads and writes fields through method handles, avoiding the overhead
+   * of reflective invocation. Members for which an invoker cannot be generated, such as final
+   * fields or methods that are inaccessible to the running JVM, are still accessed reflectively.
+   * Default is {@code false}.
+   * <p>
+   * Invoker generation for methods requires JDK 9 or later, so only fields are accessed through
+   * invokers on earlier JDKs. The setting applies to properties that are resolved after it is
+   * changed, so it should be set before any TypeMaps are created.
+   *
+   * @param enabled whether generated accessors are enabled
+   * @see #isGeneratedAccessorsEnabled()
+   */
+  Configuration setGeneratedAccessorsEnabled(boolean enabled);
+
   /**
    * Sets whether implicit mapping should be enabled. When {@code true} (default), ModelMapper will
    * implicitly map source to destination properties based on configured conventions. When
@@ -392,6 +459,17 @@ public interface Configuration {
    */
   Configuration setSkipNullEnabled(boolean enabled);
 
+  /**
+   * Sets whether TypeMaps should be compiled into execution plans before they are used for mapping.
+   * When {@code true}, every TypeMap is {@link org.modelmapper.TypeMap#compile() compiled} the
+   * first time it maps a source object. TypeMaps that rely on features which cannot be compiled
+   * continue to be mapped as usual. Default is {@code false}.
+   *
+   * @param enabled whether TypeMap compilation is enabled
+   * @see #isTypeMapCompilationEnabled()
+   */
+  Configuration setTypeMapCompilationEnabled(boolean enabled);
+
   /**
    * Sets whether deep copy should be enabled. When {@code false} (default), ModelMapper will
    * copy the reference to the destination object of a property if they have same type. When {@code true},
@@ -452,6 +530,40 @@ public interface Configuration {
    */
   Configuration setMethodAccessLevel(AccessLevel accessLevel);
 
+  /**
+   * Sets the {@code executor} used to map the elements of collections and arrays in parallel.
+   *
+   * @throws IllegalArgumentException if {@code executor} is null
+   * @see #setParallelCollectionThreshold(int)
+   */
+  Configuration setParallelCollectionExecutor(Executor executor);
+
+  /**
+   * Sets the number of threads that the
+   * {@link #setParallelCollectionExecutor(Executor) parallel collection executor} maps elements
+   * with, such as the size of a fixed thread pool. Elements are split into a few chunks per thread.
+   * A {@code parallelism} of {@code 0} (default) uses the parallelism of the executor when it is a
+   * {@link java.util.concurrent.ForkJoinPool}, and the number of available processors otherwise.
+   *
+   * @throws IllegalArgumentException if {@code parallelism} is negative
+   * @see #getParallelCollectionParallelism()
+   */
+  Configuration setParallelCollectionParallelism(int parallelism);
+
+  /**
+   * Sets the number of elements a source collection or array must have in order for its elements
+   * to be mapped in parallel. Elements are split into chunks which are mapped concurrently by the
+   * {@link #setParallelCollectionExecutor(Executor) parallel collection executor}, and the results
+   * are reassembled in source order. Any errors are collected from every chunk. Elements that are
+   * mapped in parallel do not share circular references with elements of other chunks. A
+   * {@code threshold} of {@code 0} (default) disables parallel mapping.
+   *
+   * @param threshold the minimum number of elements to map in parallel, else {@code 0}
+   * @throws IllegalArgumentException if {@code threshold} is negative
+   * @see #getParallelCollectionThreshold()
+   */
+  Configuration setParallelCollectionThreshold(int threshold);
+
   /**
    * Sets the {@code condition} that must apply for a property in order for mapping to take place.
    * This is overridden by any property conditions defined in a TypeMap or PropertyMap.
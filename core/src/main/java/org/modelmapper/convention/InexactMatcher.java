@@ -15,10 +15,10 @@
  */
 package org.modelmapper.convention;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+
 import org.modelmapper.spi.PropertyNameInfo;
+import org.modelmapper.spi.TokenMatchMemo;
 import org.modelmapper.spi.Tokens;
 
 /**
@@ -30,11 +30,14 @@ class InexactMatcher {
   protected final PropertyNameInfo propertyNameInfo;
   protected final List<Tokens> sourceTokens;
   protected final List<Tokens> destTokens;
+  private final TokenMatchMemo tokenMatchMemo;
 
   InexactMatcher(PropertyNameInfo propertyNameInfo) {
     this.propertyNameInfo = propertyNameInfo;
     sourceTokens = propertyNameInfo.getSourcePropertyTokens();
     destTokens = propertyNameInfo.getDestinationPropertyTokens();
+    tokenMatchMemo = propertyNameInfo instanceof TokenMatchMemo ? (TokenMatchMemo) propertyNameInfo
+        : null;
   }
 
   /**
@@ -43,39 +46,56 @@ class InexactMatcher {
    */
   static int matchTokens(Tokens src, Tokens dst, int dstStartIndex) {
     for (int srcStartIndex = 0; srcStartIndex < src.size(); srcStartIndex++) {
-      TokensIterator srcTokensIterator = TokensIterator.of(src, srcStartIndex);
-      TokensIterator dstTokensIterator = TokensIterator.of(dst, dstStartIndex);
-      StringIterator srcStrIterator = StringIterator.of(srcTokensIterator.next());
-      StringIterator dstStrIterator = StringIterator.of(dstTokensIterator.next());
-      while (srcStrIterator.hasNext() || srcStrIterator.hasNext()) {
-        if (!matchToken(srcStrIterator, dstStrIterator))
+      int srcIndex = srcStartIndex;
+      int dstIndex = dstStartIndex;
+      String srcToken = src.token(srcIndex);
+      String dstToken = dst.token(dstIndex);
+      int srcPos = 0;
+      int dstPos = 0;
+      while (srcPos < srcToken.length()) {
+        boolean matched = true;
+        while (matched && srcPos < srcToken.length() && dstPos < dstToken.length())
+          matched = matchChar(srcToken.charAt(srcPos++), dstToken.charAt(dstPos++));
+        if (!matched)
           break;
-        if (!srcStrIterator.hasNext() && !dstStrIterator.hasNext())
-          return dstTokensIterator.pos() - dstStartIndex + 1;
-        if (!srcStrIterator.hasNext() && !srcTokensIterator.hasNext())
+
+        boolean srcTokenMatched = srcPos == srcToken.length();
+        boolean dstTokenMatched = dstPos == dstToken.length();
+        if (srcTokenMatched && dstTokenMatched)
+          return dstIndex - dstStartIndex + 1;
+        if (srcTokenMatched && srcIndex == src.size() - 1)
           break;
-        if (!dstStrIterator.hasNext() && !dstTokensIterator.hasNext())
+        if (dstTokenMatched && dstIndex == dst.size() - 1)
           break;
-        if (!srcStrIterator.hasNext() && srcTokensIterator.hasNext())
-          srcStrIterator = StringIterator.of(srcTokensIterator.next());
-        if (!dstStrIterator.hasNext() && dstTokensIterator.hasNext())
-          dstStrIterator = StringIterator.of(dstTokensIterator.next());
+        if (srcTokenMatched) {
+          srcToken = src.token(++srcIndex);
+          srcPos = 0;
+        }
+        if (dstTokenMatched) {
+          dstToken = dst.token(++dstIndex);
+          dstPos = 0;
+        }
       }
     }
 
     return 0;
   }
 
-  static boolean matchToken(StringIterator srcStrIterator, StringIterator destStrIterator) {
-    while (srcStrIterator.hasNext() && destStrIterator.hasNext()) {
-      char srcChar = srcStrIterator.next();
-      char destChar = destStrIterator.next();
+  /**
+   * Returns whether the {@code src} elements can be matched to the elements of any of the
+   * {@code dsts}, starting at any of their elements.
+   */
+  static boolean matchesAnyDestination(Tokens src, List<Tokens> dsts) {
+    for (Tokens dst : dsts)
+      for (int dstStartIndex = 0; dstStartIndex < dst.size(); dstStartIndex++)
+        if (matchTokens(src, dst, dstStartIndex) > 0)
+          return true;
+    return false;
+  }
 
-      if (Character.toUpperCase(srcChar) != Character.toUpperCase(destChar)
-          || Character.toLowerCase(srcChar) != Character.toLowerCase(destChar))
-        return false;
-    }
-    return true;
+  static boolean matchChar(char srcChar, char destChar) {
+    return Character.toUpperCase(srcChar) == Character.toUpperCase(destChar)
+        && Character.toLowerCase(srcChar) == Character.toLowerCase(destChar);
   }
 
   /**
@@ -107,56 +127,26 @@ class InexactMatcher {
     int[] matchedTokens = new int[sourceTokens.size()];
     for (int sourceIndex = 0; sourceIndex < sourceTokens.size(); sourceIndex++) {
       Tokens srcTokens = sourceTokens.get(sourceIndex);
-      matchedTokens[sourceIndex] = matchTokens(srcTokens, destTokens, destStartIndex);
+      matchedTokens[sourceIndex] = tokenMatchMemo == null
+          ? matchTokens(srcTokens, destTokens, destStartIndex)
+          : memoizedTokenMatches(srcTokens, destTokens)[destStartIndex];
     }
     return new DestTokensMatcher(matchedTokens);
   }
 
-  static class TokensIterator {
-    private Tokens tokens;
-    private int pos;
-
-    static TokensIterator of(Tokens tokens, int pos) {
-      return new TokensIterator(tokens, pos - 1);
-    }
-
-    TokensIterator(Tokens tokens, int pos) {
-      this.tokens = tokens;
-      this.pos = pos;
-    }
-
-    public boolean hasNext() {
-      return pos < tokens.size() - 1;
-    }
-
-    public String next() {
-      return tokens.token(++pos);
-    }
-
-    public int pos() {
-      return pos;
-    }
-  }
-
-  static class StringIterator {
-    private String text;
-    private int pos = -1;
-
-    static StringIterator of(String text) {
-      return new StringIterator(text);
-    }
-
-    StringIterator(String text) {
-      this.text = text;
-    }
-
-    public boolean hasNext() {
-      return pos < text.length() - 1;
-    }
-
-    public Character next() {
-      return text.charAt(++pos);
-    }
+  /**
+   * Returns the {@link #matchTokens(Tokens, Tokens, int) match counts} of the {@code src} for each
+   * start index of the {@code dst}, memoizing them in the {@code tokenMatchMemo}.
+   */
+  private int[] memoizedTokenMatches(Tokens src, Tokens dst) {
+    int[] matches = tokenMatchMemo.getTokenMatches(src, dst);
+    if (matches == null) {
+      matches = new int[dst.size()];
+      for (int dstStartIndex = 0; dstStartIndex < dst.size(); dstStartIndex++)
+        matches[dstStartIndex] = matchTokens(src, dst, dstStartIndex);
+      tokenMatchMemo.putTokenMatches(src, dst, matches);
+    }
+    return matches;
   }
 
   static class DestTokensMatcher {
@@ -185,12 +175,19 @@ class InexactMatcher {
       return counts[maxIndex];
     }
 
-    Collection<Integer> matchSources() {
-      List<Integer> indexes = new ArrayList<Integer>();
+    /**
+     * Marks the sources that were matched in the {@code matchedSources}.
+     * 
+     * @return the number of sources that were newly marked
+     */
+    int markMatchSources(boolean[] matchedSources) {
+      int marked = 0;
       for (int i = 0; i < counts.length; i++)
-        if (counts[i] > 0)
-          indexes.add(i);
-      return indexes;
+        if (counts[i] > 0 && !matchedSources[i]) {
+          matchedSources[i] = true;
+          marked++;
+        }
+      return marked;
     }
   }
 }
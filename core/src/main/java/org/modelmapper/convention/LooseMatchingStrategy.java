@@ -15,8 +15,11 @@
  */
 package org.modelmapper.convention;
 
+import java.util.List;
+
 import org.modelmapper.spi.MatchingStrategy;
 import org.modelmapper.spi.PropertyNameInfo;
+import org.modelmapper.spi.SourcePropertyFilter;
 import org.modelmapper.spi.Tokens;
 
 /**
@@ -24,12 +27,27 @@ import org.modelmapper.spi.Tokens;
  * 
  * @author Jonathan Halterman
  */
-final class LooseMatchingStrategy implements MatchingStrategy {
+final class LooseMatchingStrategy implements MatchingStrategy, SourcePropertyFilter {
   @Override
   public boolean matches(PropertyNameInfo propertyNameInfo) {
     return new Matcher(propertyNameInfo).match();
   }
 
+  /**
+   * Since the last source property name must have at least one token matched, a source property
+   * can only be matched as the last source property if one of its tokens matches a destination
+   * token.
+   */
+  @Override
+  public boolean canMatch(Tokens sourceTokens, int sourceIndex, List<Tokens> destinationTokens) {
+    return InexactMatcher.matchesAnyDestination(sourceTokens, destinationTokens);
+  }
+
+  @Override
+  public boolean isEverySourcePropertyMatched() {
+    return false;
+  }
+
   /**
    * Since this strategy only requires matching the last source and destination properties, property
    * iteration is done in reverse.
@@ -15,8 +15,6 @@
  */
 package org.modelmapper.convention;
 
-import java.util.regex.Pattern;
-
 import org.modelmapper.spi.NameTokenizer;
 import org.modelmapper.spi.NameableType;
 
@@ -37,10 +35,50 @@ public class NameTokenizers {
   public static final NameTokenizer UNDERSCORE = new UnderscoreNameTokenizer();
 
   private static class CamelCaseNameTokenizer implements NameTokenizer {
-    private static final Pattern camelCase = Pattern.compile("(?<=[A-Z])(?=[A-Z][a-z])|(?<=[^A-Z])(?=[A-Z])|(?<=[A-Za-z])(?=[^A-Za-z])");
-
     public String[] tokenize(String name, NameableType nameableType) {
-      return camelCase.split(name);
+      int count = 1;
+      for (int i = 1; i < name.length(); i++)
+        if (startsToken(name, i))
+          count++;
+      if (count == 1)
+        return new String[] { name };
+
+      String[] tokens = new String[count];
+      int start = 0;
+      int token = 0;
+      for (int i = 1; i < name.length(); i++)
+        if (startsToken(name, i)) {
+          tokens[token++] = name.substring(start, i);
+          start = i;
+        }
+      tokens[token] = name.substring(start);
+      return tokens;
+    }
+
+    /**
+     * Returns whether a token starts at the {@code index} of the {@code name}: at an upper case
+     * letter that follows a non upper case character or that starts a word after an acronym, or at
+     * a non letter that follows a letter.
+     */
+    private static boolean startsToken(String name, int index) {
+      char previous = name.charAt(index - 1);
+      char current = name.charAt(index);
+      if (isUpperCase(current))
+        return !isUpperCase(previous)
+            || index + 1 < name.length() && isLowerCase(name.charAt(index + 1));
+      return isLetter(previous) && !isLetter(current);
+    }
+
+    private static boolean isUpperCase(char c) {
+      return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLowerCase(char c) {
+      return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isLetter(char c) {
+      return isUpperCase(c) || isLowerCase(c);
     }
 
     @Override
@@ -50,10 +88,8 @@ public class NameTokenizers {
   }
 
   private static class UnderscoreNameTokenizer implements NameTokenizer {
-    private static final Pattern underscore = Pattern.compile("_");
-
     public String[] tokenize(String name, NameableType nameableType) {
-      return underscore.split(name);
+      return name.split("_");
     }
 
     @Override
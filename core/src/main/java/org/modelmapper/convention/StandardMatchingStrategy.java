@@ -15,11 +15,11 @@
  */
 package org.modelmapper.convention;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 
 import org.modelmapper.spi.MatchingStrategy;
 import org.modelmapper.spi.PropertyNameInfo;
+import org.modelmapper.spi.SourcePropertyFilter;
 import org.modelmapper.spi.Tokens;
 
 /**
@@ -27,25 +27,40 @@ import org.modelmapper.spi.Tokens;
  * 
  * @author Jonathan Halterman
  */
-final class StandardMatchingStrategy implements MatchingStrategy {
+final class StandardMatchingStrategy implements MatchingStrategy, SourcePropertyFilter {
   @Override
   public boolean matches(PropertyNameInfo propertyNameInfo) {
     return new Matcher(propertyNameInfo).match();
   }
 
+  /**
+   * Since all source property names must have at least one token matched, a source property can
+   * only be matched if one of its tokens matches a destination token.
+   */
+  @Override
+  public boolean canMatch(Tokens sourceTokens, int sourceIndex, List<Tokens> destinationTokens) {
+    return InexactMatcher.matchesAnyDestination(sourceTokens, destinationTokens);
+  }
+
+  @Override
+  public boolean isEverySourcePropertyMatched() {
+    return true;
+  }
+
   static class Matcher extends InexactMatcher {
     Matcher(PropertyNameInfo propertyNameInfo) {
       super(propertyNameInfo);
     }
 
     boolean match() {
-      Set<Integer> matchSources = new HashSet<Integer>();
+      boolean[] matchedSources = new boolean[sourceTokens.size()];
+      int matchedSourceCount = 0;
       for (Tokens destTokens : propertyNameInfo.getDestinationPropertyTokens()) {
         for (int destTokenIndex = 0; destTokenIndex < destTokens.size();) {
           DestTokensMatcher matchedTokens = matchSourcePropertyName(destTokens, destTokenIndex);
           if (matchedTokens.match()) {
             destTokenIndex += matchedTokens.maxMatchTokens();
-            matchSources.addAll(matchedTokens.matchSources());
+            matchedSourceCount += matchedTokens.markMatchSources(matchedSources);
           } else if (matchSourcePropertyType(destTokens.token(destTokenIndex))
               || matchSourceClass(destTokens.token(destTokenIndex)))
             destTokenIndex++;
@@ -54,7 +69,7 @@ final class StandardMatchingStrategy implements MatchingStrategy {
         }
       }
 
-      return matchSources.size() == sourceTokens.size();
+      return matchedSourceCount == sourceTokens.size();
     }
   }
 
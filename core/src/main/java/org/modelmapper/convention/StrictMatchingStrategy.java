@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.modelmapper.spi.MatchingStrategy;
 import org.modelmapper.spi.PropertyNameInfo;
+import org.modelmapper.spi.SourcePropertyFilter;
 import org.modelmapper.spi.Tokens;
 
 /**
@@ -26,7 +27,7 @@ import org.modelmapper.spi.Tokens;
  * 
  * @author Jonathan Halterman
  */
-final class StrictMatchingStrategy implements MatchingStrategy {
+final class StrictMatchingStrategy implements MatchingStrategy, SourcePropertyFilter {
   @Override
   public boolean isExact() {
     return true;
@@ -39,18 +40,36 @@ final class StrictMatchingStrategy implements MatchingStrategy {
     if (sourceTokens.size() != destTokens.size())
       return false;
 
-    for (int propIndex = 0; propIndex < destTokens.size(); propIndex++) {
-      Tokens sTokens = sourceTokens.get(propIndex);
-      Tokens dTokens = destTokens.get(propIndex);
-
-      if (sTokens.size() != dTokens.size())
+    for (int propIndex = 0; propIndex < destTokens.size(); propIndex++)
+      if (!matches(sourceTokens.get(propIndex), destTokens.get(propIndex)))
         return false;
 
-      for (int tokenIndex = 0; tokenIndex < sTokens.size(); tokenIndex++)
-        if (!sTokens.token(tokenIndex).equalsIgnoreCase(dTokens.token(tokenIndex)))
-          return false;
-    }
+    return true;
+  }
 
+  /**
+   * Since source property names must match the destination property names at the same position
+   * of the hierarchy, a source property can only be matched if it matches the destination
+   * property at its position.
+   */
+  @Override
+  public boolean canMatch(Tokens sourceTokens, int sourceIndex, List<Tokens> destinationTokens) {
+    return sourceIndex < destinationTokens.size()
+        && matches(sourceTokens, destinationTokens.get(sourceIndex));
+  }
+
+  @Override
+  public boolean isEverySourcePropertyMatched() {
+    return true;
+  }
+
+  private static boolean matches(Tokens sTokens, Tokens dTokens) {
+    if (sTokens.size() != dTokens.size())
+      return false;
+
+    for (int tokenIndex = 0; tokenIndex < sTokens.size(); tokenIndex++)
+      if (!sTokens.token(tokenIndex).equalsIgnoreCase(dTokens.token(tokenIndex)))
+        return false;
     return true;
   }
 
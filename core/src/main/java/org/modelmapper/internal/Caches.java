@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.List;
+
+import org.modelmapper.CacheStatistics;
+
+/**
+ * Reports on the caches that ModelMapper instances share.
+ */
+public final class Caches {
+  private Caches() {
+  }
+
+  /**
+   * Returns the statistics of the registry caches, followed by the statistics of invoker
+   * generation.
+   */
+  public static List<CacheStatistics> statistics() {
+    List<CacheStatistics> statistics = RegistryCache.statistics();
+    statistics.add(InvokerFactory.getStatistics());
+    return statistics;
+  }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.modelmapper.Converter;
+import org.modelmapper.internal.PropertyInfoImpl.FieldPropertyInfo;
+import org.modelmapper.internal.PropertyInfoImpl.MethodMutator;
+import org.modelmapper.internal.converter.AssignableConverter;
+import org.modelmapper.internal.converter.ConverterStore;
+import org.modelmapper.internal.util.Primitives;
+import org.modelmapper.internal.util.Types;
+import org.modelmapper.spi.Mapping;
+import org.modelmapper.spi.PropertyInfo;
+
+/**
+ * Execution plan for a {@link TypeMapImpl#isSimple() simple} TypeMap. Each mapping is compiled into
+ * a step with its accessor chain, mutator and converters resolved up front, so that mapping runs as
+ * a straight sequence of getter and setter calls without consulting the TypeMapStore, the
+ * ConverterStore or the PropertyInfoRegistry.
+ *
+ * <p>
+ * TypeMaps that are not simple, or whose mappings rely on nested TypeMaps, are not compilable and
+ * are mapped by the {@link MappingEngineImpl} as usual.
+ *
+ * <p>
+ * A plan records the type pairs it found no TypeMap for and the converters it resolved. When the
+ * TypeMapStore or ConverterStore changes, the plan remains in use as long as these are unchanged,
+ * so that adding unrelated TypeMaps or converters does not cause it to be compiled again.
+ *
+ * @param <S> source type
+ * @param <D> destination type
+ */
+class CompiledTypeMap<S, D> {
+  /** The TypeMapStore and ConverterStore versions the plan was last known to be current for */
+  private volatile long storeVersions;
+  /** Compiled steps, else {@code null} if the TypeMap could not be compiled */
+  private final Step[] steps;
+  /** Source and destination types of the property type pairs that no TypeMap was found for */
+  private final List<Class<?>[]> typeMapLookups;
+  private final List<ConverterLookup> converterLookups;
+
+  private CompiledTypeMap(long storeVersions, Step[] steps, Dependencies dependencies) {
+    this.storeVersions = storeVersions;
+    this.steps = steps;
+    typeMapLookups = dependencies.typeMapLookups;
+    converterLookups = dependencies.converterLookups;
+  }
+
+  /**
+   * A converter that was resolved for a source and destination type.
+   */
+  private static final class ConverterLookup {
+    final Class<?> sourceType;
+    final Class<?> destinationType;
+    final Converter<?, ?> converter;
+
+    ConverterLookup(Class<?> sourceType, Class<?> destinationType, Converter<?, ?> converter) {
+      this.sourceType = sourceType;
+      this.destinationType = destinationType;
+      this.converter = converter;
+    }
+  }
+
+  /**
+   * The TypeMap and converter lookups made while compiling a plan.
+   */
+  private static final class Dependencies {
+    final List<Class<?>[]> typeMapLookups = new ArrayList<Class<?>[]>();
+    final List<ConverterLookup> converterLookups = new ArrayList<ConverterLookup>();
+
+    /**
+     * Returns whether a TypeMap exists for the {@code sourceType} and {@code destinationType},
+     * recording the lookup if none does. TypeMaps are never removed from the store, so only
+     * missing TypeMaps need to be recorded.
+     */
+    boolean hasTypeMap(TypeMapStore typeMapStore, Class<?> sourceType, Class<?> destinationType) {
+      if (typeMapStore.get(sourceType, destinationType, null) != null)
+        return true;
+      typeMapLookups.add(new Class<?>[] { sourceType, destinationType });
+      return false;
+    }
+
+    Converter<Object, Object> getFirstSupported(ConverterStore converterStore,
+        Class<?> sourceType, Class<?> destinationType) {
+      Converter<Object, Object> converter = converterStore.getFirstSupported(sourceType,
+          destinationType);
+      converterLookups.add(new ConverterLookup(sourceType, destinationType, converter));
+      return converter;
+    }
+  }
+
+  /**
+   * Compiles the {@code typeMap}. The result is never {@code null}, but may be
+   * {@link #isCompiled() uncompiled} if the {@code typeMap} uses features that cannot be compiled.
+   */
+  static <S, D> CompiledTypeMap<S, D> compile(TypeMapImpl<S, D> typeMap, MappingEngineImpl engine) {
+    InheritingConfiguration configuration = engine.getConfiguration();
+    long storeVersions = storeVersions(configuration);
+    Dependencies dependencies = new Dependencies();
+    List<Mapping> mappings = typeMap.getMappings();
+    if (!typeMap.isSimple() || mappings.isEmpty())
+      return new CompiledTypeMap<S, D>(storeVersions, null, dependencies);
+
+    List<Step> steps = new ArrayList<Step>(mappings.size());
+    for (Mapping mapping : mappings) {
+      if (mapping.isSkipped())
+        continue;
+      Step step = compile((PropertyMappingImpl) mapping, configuration, dependencies);
+      if (step == null)
+        return new CompiledTypeMap<S, D>(storeVersions, null, dependencies);
+      steps.add(step);
+    }
+    return new CompiledTypeMap<S, D>(storeVersions, steps.toArray(new Step[0]), dependencies);
+  }
+
+  /**
+   * Returns whether the TypeMaps and converters that the plan resolved are unchanged in the
+   * {@code engine}'s TypeMapStore and ConverterStore, and the plan is not bypassed by a global
+   * provider or property condition.
+   */
+  boolean isCurrent(MappingEngineImpl engine) {
+    InheritingConfiguration configuration = engine.getConfiguration();
+    if (configuration.getPropertyCondition() != null || configuration.getProvider() != null)
+      return false;
+
+    long currentStoreVersions = storeVersions(configuration);
+    if (storeVersions == currentStoreVersions)
+      return true;
+
+    for (Class<?>[] typeMapLookup : typeMapLookups)
+      if (configuration.typeMapStore.get(typeMapLookup[0], typeMapLookup[1], null) != null)
+        return false;
+    for (ConverterLookup converterLookup : converterLookups)
+      if (configuration.converterStore.getFirstSupported(converterLookup.sourceType,
+          converterLookup.destinationType) != converterLookup.converter)
+        return false;
+    storeVersions = currentStoreVersions;
+    return true;
+  }
+
+  boolean isCompiled() {
+    return steps != null;
+  }
+
+  /**
+   * Returns the versions of the {@code configuration}'s TypeMapStore and ConverterStore, which are
+   * read before the stores are consulted so that changes made meanwhile are detected later.
+   */
+  private static long storeVersions(InheritingConfiguration configuration) {
+    return (long) configuration.typeMapStore.version() << 32
+        | configuration.converterStore.version() & 0xffffffffL;
+  }
+
+  /**
+   * Maps the {@code context}'s source to its destination.
+   */
+  D map(MappingContextImpl<S, D> context, MappingEngineImpl engine) {
+    if (context.getDestination() == null && Types.isInstantiable(context.getDestinationType())) {
+      D destination = engine.createDestination(context);
+      if (destination == null)
+        return null;
+    }
+
+    D destination = context.getDestination();
+    if (destination != null) {
+      boolean skipNull = engine.getConfiguration().isSkipNullEnabled();
+      for (Step step : steps)
+        step.map(context, destination, engine, skipNull);
+    }
+    return destination;
+  }
+
+  /**
+   * Returns a compiled step for the {@code propertyMapping} of a simple TypeMap, else {@code null}
+   * if the {@code propertyMapping} cannot be compiled.
+   */
+  @SuppressWarnings("unchecked")
+  private static Step compile(PropertyMappingImpl propertyMapping,
+      InheritingConfiguration configuration, Dependencies dependencies) {
+    Class<?> sourceType = propertyMapping.getSourceType();
+    PropertyInfo destinationProperty = propertyMapping.getLastDestinationProperty();
+    if (!(destinationProperty instanceof MethodMutator
+        || destinationProperty instanceof FieldPropertyInfo))
+      return null;
+    Mutator mutator = (Mutator) destinationProperty;
+    Class<?> destinationType = mutator.getType();
+
+    // Values are resolved against their runtime type, which is the wrapper for primitives
+    Class<?> valueType = Primitives.wrapperFor(sourceType);
+    TypeMapStore typeMapStore = configuration.typeMapStore;
+    if (dependencies.hasTypeMap(typeMapStore, valueType, destinationType)
+        || dependencies.hasTypeMap(typeMapStore, sourceType, destinationType))
+      return null;
+
+    ConverterStore converterStore = configuration.converterStore;
+    Converter<Object, Object> valueConverter = dependencies.getFirstSupported(converterStore,
+        valueType, destinationType);
+    if (valueConverter == null)
+      return null;
+    Converter<Object, Object> nullConverter = dependencies.getFirstSupported(converterStore,
+        sourceType, destinationType);
+
+    List<Accessor> accessors = (List<Accessor>) propertyMapping.getSourceProperties();
+    return new Step(propertyMapping, accessors.toArray(new Accessor[0]), mutator,
+        propertyMapping.getDestinationAccessor(configuration), valueType, valueConverter,
+        nullConverter);
+  }
+
+  /**
+   * A compiled property mapping.
+   */
+  private static final class Step {
+    private final PropertyMappingImpl mapping;
+    private final Accessor[] accessors;
+    private final Mutator mutator;
+    /** Accessor for the destination property, else {@code null} */
+    private final Accessor destinationAccessor;
+    private final Class<?> valueType;
+    private final Converter<Object, Object> valueConverter;
+    private final Converter<Object, Object> nullConverter;
+    private final boolean assignable;
+
+    Step(PropertyMappingImpl mapping, Accessor[] accessors, Mutator mutator,
+        Accessor destinationAccessor, Class<?> valueType, Converter<Object, Object> valueConverter,
+        Converter<Object, Object> nullConverter) {
+      this.mapping = mapping;
+      this.accessors = accessors;
+      this.mutator = mutator;
+      this.destinationAccessor = destinationAccessor;
+      this.valueType = valueType;
+      this.valueConverter = valueConverter;
+      this.nullConverter = nullConverter;
+      assignable = valueConverter instanceof AssignableConverter;
+    }
+
+    void map(MappingContextImpl<?, ?> context, Object destination, MappingEngineImpl engine,
+        boolean skipNull) {
+      Object value = context.getSource();
+      for (Accessor accessor : accessors) {
+        value = accessor.getValue(value);
+        if (value == null)
+          break;
+      }
+
+      if (value != null)
+        value = assignable ? value : convert(context, destination, value, valueType,
+            valueConverter, engine);
+      else if (nullConverter != null && !(nullConverter instanceof AssignableConverter))
+        value = convert(context, destination, null, mapping.getSourceType(), nullConverter, engine);
+
+      if (value != null || !skipNull)
+        mutator.setValue(destination,
+            value == null ? Primitives.defaultValue(mutator.getType()) : value);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object convert(MappingContextImpl<?, ?> context, Object destination, Object value,
+        Class<?> sourceType, Converter<Object, Object> converter, MappingEngineImpl engine) {
+      MappingContextImpl<Object, Object> propertyContext = new MappingContextImpl(context, value,
+          sourceType, null, mutator.getType(),
+          context.genericDestinationPropertyType(mutator.getGenericType()), mapping, true);
+      if (context.isProvidedDestination() && destinationAccessor != null)
+        propertyContext.setDestination(destinationAccessor.getValue(destination), false);
+      return engine.convert(propertyContext, converter);
+    }
+  }
+}
@@ -46,6 +46,7 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -56,6 +57,17 @@ import java.util.regex.Pattern;
 public class ExplicitMappingBuilder<S, D> implements ConditionExpression<S, D> {
   private static final Pattern DOT_PATTERN = Pattern.compile("\\.");
   private static Method PROPERTY_MAP_CONFIGURE;
+  /**
+   * Mappings visited in each PropertyMap class, by member resolution settings. Stored against the
+   * PropertyMap class so that the class can be unloaded.
+   */
+  private static final ClassValue<Map<MemberResolutionSettings, List<VisitedMapping>>> VISITED_MAPPINGS =
+      new ClassValue<Map<MemberResolutionSettings, List<VisitedMapping>>>() {
+        @Override
+        protected Map<MemberResolutionSettings, List<VisitedMapping>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<MemberResolutionSettings, List<VisitedMapping>>();
+        }
+      };
 
   private final Class<S> sourceType;
   private final Class<D> destinationType;
@@ -257,6 +269,26 @@ public class ExplicitMappingBuilder<S, D> implements ConditionExpression<S, D> {
    * Visits the {@code propertyMap} and captures and validates mappings.
    */
   public void visitPropertyMap(PropertyMap<S, D> propertyMap) {
+    Map<MemberResolutionSettings, List<VisitedMapping>> visitedBySettings =
+        VISITED_MAPPINGS.get(propertyMap.getClass());
+    MemberResolutionSettings settings = MemberResolutionSettings.of(configuration);
+    List<VisitedMapping> visited = visitedBySettings.get(settings);
+    if (visited == null) {
+      visited = visit(propertyMap);
+      errors.throwConfigurationExceptionIfErrorsExist();
+      visitedBySettings.putIfAbsent(settings, visited);
+    }
+
+    visitedMappings = new ArrayList<VisitedMapping>(visited.size());
+    for (VisitedMapping mapping : visited)
+      visitedMappings.add(mapping.copy());
+    createProxies();
+  }
+
+  /**
+   * Reads the {@code propertyMap}'s class and returns the mappings that it declares.
+   */
+  private List<VisitedMapping> visit(PropertyMap<S, D> propertyMap) {
     String propertyMapClassName = propertyMap.getClass().getName();
 
     try {
@@ -265,13 +297,11 @@ public class ExplicitMappingBuilder<S, D> implements ConditionExpression<S, D> {
       ExplicitMappingVisitor visitor = new ExplicitMappingVisitor(errors, configuration,
           propertyMapClassName, destinationType.getName(), propertyMap.getClass().getClassLoader());
       cr.accept(visitor, ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG);
-      visitedMappings = visitor.mappings;
+      return visitor.mappings;
     } catch (IOException e) {
       errors.errorReadingClass(e, propertyMapClassName);
+      return null;
     }
-
-    errors.throwConfigurationExceptionIfErrorsExist();
-    createProxies();
   }
 
   /**
@@ -63,6 +63,17 @@ public class ExplicitMappingVisitor extends ClassVisitor {
     List<Accessor> sourceAccessors = new ArrayList<Accessor>();
     List<Accessor> destinationAccessors = new ArrayList<Accessor>();
     List<Mutator> destinationMutators = new ArrayList<Mutator>();
+
+    /**
+     * Returns a copy of the mapping, which can be completed without affecting the original.
+     */
+    VisitedMapping copy() {
+      VisitedMapping copy = new VisitedMapping();
+      copy.sourceAccessors.addAll(sourceAccessors);
+      copy.destinationAccessors.addAll(destinationAccessors);
+      copy.destinationMutators.addAll(destinationMutators);
+      return copy;
+    }
   }
 
   public ExplicitMappingVisitor(Errors errors, InheritingConfiguration config,
@@ -292,7 +303,7 @@ public class ExplicitMappingVisitor extends ClassVisitor {
 
         // Find mutator corresponding to accessor
         Mutator mutator = TypeInfoRegistry.typeInfoFor(type, config).mutatorForAccessorMethod(
-            method.getName());
+            method.getName(), config);
         if (mutator != null)
           mapping.destinationMutators.add(mutator);
         else
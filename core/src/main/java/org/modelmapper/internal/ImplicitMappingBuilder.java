@@ -33,13 +33,14 @@ import org.modelmapper.internal.converter.ConverterStore;
 import org.modelmapper.internal.util.Iterables;
 import org.modelmapper.internal.util.Strings;
 import org.modelmapper.internal.util.Types;
-import org.modelmapper.spi.ConditionalConverter;
 import org.modelmapper.spi.ConditionalConverter.MatchResult;
 import org.modelmapper.spi.Mapping;
 import org.modelmapper.spi.MatchingStrategy;
 import org.modelmapper.spi.NameableType;
 import org.modelmapper.spi.PropertyInfo;
 import org.modelmapper.spi.PropertyMapping;
+import org.modelmapper.spi.SourcePropertyFilter;
+import org.modelmapper.spi.Tokens;
 
 /**
  * Builds and populates implicit property mappings for a TypeMap.
@@ -54,8 +55,13 @@ class ImplicitMappingBuilder<S, D> {
   private final TypeInfo<S> sourceTypeInfo;
   private final TypeMapStore typeMapStore;
   private final InheritingConfiguration configuration;
+  private final TokensRegistry tokensRegistry;
   private final ConverterStore converterStore;
   private final MatchingStrategy matchingStrategy;
+  /** Filters source properties for the matchingStrategy, else null if it cannot filter them */
+  private final SourcePropertyFilter sourcePropertyFilter;
+  /** Records what the mappings are built from */
+  private final TypeMapDependencies dependencies;
 
   /** Mutable state */
   private final Errors errors = new Errors();
@@ -70,9 +76,17 @@ class ImplicitMappingBuilder<S, D> {
   /** Mappings which are to be merged in from a pre-existing TypeMap. */
   private final List<InternalMapping> mergedMappings = new ArrayList<InternalMapping>();
 
-  static <S, D> void build(S source, TypeMapImpl<S, D> typeMap, TypeMapStore typeMapStore,
-      ConverterStore converterStore) {
-    new ImplicitMappingBuilder<S, D>(source, typeMap, typeMapStore, converterStore).build();
+  /**
+   * Builds the implicit mappings of the {@code typeMap}.
+   * 
+   * @return what the mappings were built from
+   */
+  static <S, D> TypeMapDependencies build(S source, TypeMapImpl<S, D> typeMap,
+      TypeMapStore typeMapStore, ConverterStore converterStore) {
+    ImplicitMappingBuilder<S, D> builder = new ImplicitMappingBuilder<S, D>(source, typeMap,
+        typeMapStore, converterStore);
+    builder.build();
+    return builder.dependencies;
   }
 
   ImplicitMappingBuilder(S source, TypeMapImpl<S, D> typeMap, TypeMapStore typeMapStore,
@@ -81,9 +95,13 @@ class ImplicitMappingBuilder<S, D> {
     this.converterStore = converterStore;
     this.typeMapStore = typeMapStore;
     this.configuration = typeMap.configuration;
+    this.tokensRegistry = configuration.tokensRegistry;
     sourceTypeInfo = TypeInfoRegistry.typeInfoFor(source, typeMap.getSourceType(), configuration);
     matchingStrategy = configuration.getMatchingStrategy();
+    sourcePropertyFilter = matchingStrategy instanceof SourcePropertyFilter
+        ? (SourcePropertyFilter) matchingStrategy : null;
     propertyNameInfo = new PropertyNameInfoImpl(typeMap.getSourceType(), configuration);
+    dependencies = new TypeMapDependencies(configuration);
   }
 
   void build() {
@@ -97,7 +115,7 @@ class ImplicitMappingBuilder<S, D> {
   private void matchDestination(TypeInfo<?> destinationTypeInfo) {
     destinationTypes.add(destinationTypeInfo.getType());
 
-    for (Map.Entry<String, Mutator> entry : destinationTypeInfo.getMutators().entrySet()) {
+    for (Map.Entry<String, Mutator> entry : destinationTypeInfo.getMutators(configuration).entrySet()) {
       propertyNameInfo.pushDestination(entry.getKey(), entry.getValue());
       String destPath = Strings.join(propertyNameInfo.getDestinationProperties());
       Mutator mutator = entry.getValue();
@@ -163,16 +181,19 @@ class ImplicitMappingBuilder<S, D> {
    * Matches a source accessor hierarchy to the {@code destinationMutator}, first by checking the
    * {@code typeMapStore} for any existing TypeMaps and merging the mappings if one exists, else by
    * running the {@code matchingStrategy} against all accessors for the {@code sourceTypeInfo}.
+   * Accessors ruled out by the {@code sourcePropertyFilter} are not matched, nor are the accessors
+   * nested beneath them if the filter requires every source property to be matched.
    */
   private void matchSource(TypeInfo<?> sourceTypeInfo, Mutator destinationMutator, boolean hitSameSourceType) {
     sourceTypes.add(sourceTypeInfo.getType());
 
-    for (Map.Entry<String, Accessor> entry : sourceTypeInfo.getAccessors().entrySet()) {
+    for (Map.Entry<String, Accessor> entry : sourceTypeInfo.getAccessors(configuration).entrySet()) {
       Accessor accessor = entry.getValue();
       propertyNameInfo.pushSource(entry.getKey(), entry.getValue());
       boolean doneMatching = false;
+      boolean candidate = isCandidateSource();
 
-      if (matchingStrategy.matches(propertyNameInfo)) {
+      if (candidate && matchingStrategy.matches(propertyNameInfo)) {
         if (destinationTypes.contains(destinationMutator.getType()))
           mappings.add(new PropertyMappingImpl(propertyNameInfo.getSourceProperties(),
               propertyNameInfo.getDestinationProperties(), true));
@@ -180,8 +201,8 @@ class ImplicitMappingBuilder<S, D> {
           mappings.add(new PropertyMappingImpl(propertyNameInfo.getSourceProperties(),
               propertyNameInfo.getDestinationProperties(), false));
         else {
-          TypeMap<?, ?> propertyTypeMap = typeMapStore.get(accessor.getType(),
-              destinationMutator.getType(), null);
+          TypeMap<?, ?> propertyTypeMap = dependencies.getTypeMap(typeMapStore,
+              accessor.getType(), destinationMutator.getType());
           PropertyMappingImpl mapping = null;
 
           // Check to create mapping(s) from existing TypeMap
@@ -195,23 +216,20 @@ class ImplicitMappingBuilder<S, D> {
                   propertyConverter));
             doneMatching = matchingStrategy.isExact();
           } else {
-            for (ConditionalConverter<?, ?> converter : converterStore.getConverters()) {
-              MatchResult matchResult = converter.match(accessor.getType(),
-                  destinationMutator.getType());
-
-              if (!MatchResult.NONE.equals(matchResult)) {
-                mapping = new PropertyMappingImpl(propertyNameInfo.getSourceProperties(),
-                    propertyNameInfo.getDestinationProperties(), false);
-
-                if (MatchResult.FULL.equals(matchResult)) {
-                  mappings.add(mapping);
-                  doneMatching = matchingStrategy.isExact();
-                  break;
-                } else if (!configuration.isFullTypeMatchingRequired()) {
-                  partiallyMatchedMappings.add(mapping);
-                  break;
-                }
-              }
+            MatchResult matchResult = dependencies.getFirstMatchResult(converterStore,
+                accessor.getType(), destinationMutator.getType());
+
+            if (!MatchResult.NONE.equals(matchResult)) {
+              mapping = new PropertyMappingImpl(propertyNameInfo.getSourceProperties(),
+                  propertyNameInfo.getDestinationProperties(), false);
+
+              if (MatchResult.FULL.equals(matchResult) || configuration.isFullTypeMatchingRequired()
+                  && dependencies.isFullySupported(converterStore, accessor.getType(),
+                      destinationMutator.getType())) {
+                mappings.add(mapping);
+                doneMatching = matchingStrategy.isExact();
+              } else if (!configuration.isFullTypeMatchingRequired())
+                partiallyMatchedMappings.add(mapping);
             }
           }
 
@@ -225,6 +243,7 @@ class ImplicitMappingBuilder<S, D> {
 
       if (!doneMatching
           && !hitSameSourceType
+          && (candidate || !sourcePropertyFilter.isEverySourcePropertyMatched())
           && Types.mightContainsProperties(accessor.getType())) {
         if (accessor instanceof ValueReaderPropertyInfo)
           matchSource(accessor.getTypeInfo(configuration), destinationMutator, false);
@@ -244,6 +263,19 @@ class ImplicitMappingBuilder<S, D> {
       sourceTypes.remove(sourceTypeInfo.getType());
   }
 
+  /**
+   * Returns whether the last source property of the {@code propertyNameInfo} can be matched to its
+   * destination properties, according to the {@code sourcePropertyFilter}.
+   */
+  private boolean isCandidateSource() {
+    if (sourcePropertyFilter == null)
+      return true;
+    List<Tokens> sourceTokens = propertyNameInfo.getSourcePropertyTokens();
+    int sourceIndex = sourceTokens.size() - 1;
+    return sourcePropertyFilter.canMatch(sourceTokens.get(sourceIndex), sourceIndex,
+        propertyNameInfo.getDestinationPropertyTokens());
+  }
+
   /**
    * Disambiguates the captured mappings by looking for the mapping with property tokens that most
    * closely match the destination. Match closeness is calculated as the total number of matched
@@ -277,10 +309,10 @@ class ImplicitMappingBuilder<S, D> {
     for (int i = 0; i < mapping.getSourceProperties().size(); i++) {
       PropertyInfo source = mapping.getSourceProperties().get(i);
       NameableType nameableType = NameableType.forPropertyType(source.getPropertyType());
-      String[] tokens = configuration.getSourceNameTokenizer().tokenize(source.getName(),
-          nameableType);
-      for (int j = 0; j < tokens.length; j++)
-        sourceTokensMap.put(Pair.of(i, j), tokens[j]);
+      Tokens tokens = tokensRegistry.tokensFor(configuration.getSourceNameTokenizer(),
+          source.getName(), nameableType);
+      for (int j = 0; j < tokens.size(); j++)
+        sourceTokensMap.put(Pair.of(i, j), tokens.token(j));
     }
     return new SourceTokensMatcher(sourceTokensMap);
   }
@@ -332,7 +364,7 @@ class ImplicitMappingBuilder<S, D> {
    */
   class DestTokenIterator implements Iterator<String> {
     private PropertyMappingImpl mapping;
-    private String[] destTokens = new String[0];
+    private Tokens destTokens = Tokens.of();
     private int total = 0;
     private int destIndex = -1;
     private int pos = -1;
@@ -344,20 +376,20 @@ class ImplicitMappingBuilder<S, D> {
     @Override
     public boolean hasNext() {
       return destIndex < mapping.getDestinationProperties().size() - 1
-          || pos < destTokens.length - 1;
+          || pos < destTokens.size() - 1;
     }
 
     @Override
     public String next() {
-      if (pos == destTokens.length - 1) {
+      if (pos == destTokens.size() - 1) {
         PropertyInfo dest = mapping.getDestinationProperties().get(++destIndex);
         NameableType nameableType = NameableType.forPropertyType(dest.getPropertyType());
-        destTokens = configuration.getDestinationNameTokenizer().tokenize(dest.getName(),
-            nameableType);
+        destTokens = tokensRegistry.tokensFor(configuration.getDestinationNameTokenizer(),
+            dest.getName(), nameableType);
         pos = -1;
       }
       total++;
-      return destTokens[++pos];
+      return destTokens.token(++pos);
     }
 
     @Override
@@ -408,13 +440,12 @@ class ImplicitMappingBuilder<S, D> {
       return false;
 
     PropertyMapping propertyMapping = (PropertyMapping) mapping;
-    boolean hasSupportConverter = converterStore.getFirstSupported(
+    boolean hasSupportConverter = dependencies.getFirstMatchResult(converterStore,
         propertyMapping.getLastSourceProperty().getType(),
-        mapping.getLastDestinationProperty().getType()) != null;
-    boolean hasSupportTypeMap = typeMapStore.get(
+        mapping.getLastDestinationProperty().getType()) != MatchResult.NONE;
+    boolean hasSupportTypeMap = dependencies.getTypeMap(typeMapStore,
         propertyMapping.getLastSourceProperty().getType(),
-        mapping.getLastDestinationProperty().getType(),
-        null) != null;
+        mapping.getLastDestinationProperty().getType()) != null;
 
     return hasSupportConverter || hasSupportTypeMap;
   }
@@ -17,6 +17,8 @@ package org.modelmapper.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.modelmapper.Condition;
 import org.modelmapper.spi.ConstructorInjector;
@@ -52,6 +54,7 @@ public class InheritingConfiguration implements Configuration {
   public final ConverterStore converterStore;
   public final ValueAccessStore valueAccessStore;
   public final ValueMutateStore valueMutateStore;
+  final TokensRegistry tokensRegistry;
   private List<ConstructorInjector> constructorInjectors = new ArrayList<>();
   private NameTokenizer destinationNameTokenizer;
   private NameTransformer destinationNameTransformer;
@@ -60,6 +63,9 @@ public class InheritingConfiguration implements Configuration {
   private MatchingStrategy matchingStrategy;
   private AccessLevel methodAccessLevel;
   private Provider<?> provider;
+  private Executor parallelCollectionExecutor;
+  private Integer parallelCollectionParallelism;
+  private Integer parallelCollectionThreshold;
   private Condition<?, ?> propertyCondition;
   private NameTokenizer sourceNameTokenizer;
   private NameTransformer sourceNameTransformer;
@@ -67,11 +73,17 @@ public class InheritingConfiguration implements Configuration {
   private Boolean fieldMatchingEnabled;
   private Boolean ambiguityIgnored;
   private Boolean fullTypeMatchingRequired;
+  private Boolean generatedAccessorsEnabled;
   private Boolean implicitMatchingEnabled;
   private Boolean preferNestedProperties;
   private Boolean skipNullEnabled;
+  private Boolean typeMapCompilationEnabled;
   private Boolean collectionsMergeEnabled;
   private Boolean useOSGiClassLoaderBridging;
+  /** Number of changes to the member resolution settings of this configuration */
+  private final AtomicInteger memberResolutionChanges = new AtomicInteger();
+  /** Member resolution settings along with the version they were taken at */
+  private volatile VersionedSettings memberResolutionSettings;
 
   /**
    * Creates an initial InheritingConfiguration.
@@ -82,6 +94,7 @@ public class InheritingConfiguration implements Configuration {
     converterStore = new ConverterStore();
     valueAccessStore = new ValueAccessStore();
     valueMutateStore = new ValueMutateStore();
+    tokensRegistry = new TokensRegistry();
     sourceNameTokenizer = NameTokenizers.CAMEL_CASE;
     destinationNameTokenizer = NameTokenizers.CAMEL_CASE;
     sourceNamingConvention = NamingConventions.JAVABEANS_ACCESSOR;
@@ -94,9 +107,13 @@ public class InheritingConfiguration implements Configuration {
     fieldMatchingEnabled = Boolean.FALSE;
     ambiguityIgnored = Boolean.FALSE;
     fullTypeMatchingRequired = Boolean.FALSE;
+    generatedAccessorsEnabled = Boolean.FALSE;
     implicitMatchingEnabled = Boolean.TRUE;
     preferNestedProperties = Boolean.TRUE;
     skipNullEnabled = Boolean.FALSE;
+    typeMapCompilationEnabled = Boolean.FALSE;
+    parallelCollectionParallelism = Integer.valueOf(0);
+    parallelCollectionThreshold = Integer.valueOf(0);
     useOSGiClassLoaderBridging = Boolean.FALSE;
     collectionsMergeEnabled = Boolean.FALSE;
   }
@@ -110,6 +127,7 @@ public class InheritingConfiguration implements Configuration {
     converterStore = source.converterStore;
     valueAccessStore = source.valueAccessStore;
     valueMutateStore = source.valueMutateStore;
+    tokensRegistry = source.tokensRegistry;
     constructorInjectors = source.constructorInjectors;
 
     if (inherit) {
@@ -128,11 +146,16 @@ public class InheritingConfiguration implements Configuration {
       fieldMatchingEnabled = source.fieldMatchingEnabled;
       ambiguityIgnored = source.ambiguityIgnored;
       provider = source.provider;
+      parallelCollectionExecutor = source.parallelCollectionExecutor;
+      parallelCollectionParallelism = source.parallelCollectionParallelism;
+      parallelCollectionThreshold = source.parallelCollectionThreshold;
       propertyCondition = source.propertyCondition;
       fullTypeMatchingRequired = source.fullTypeMatchingRequired;
+      generatedAccessorsEnabled = source.generatedAccessorsEnabled;
       implicitMatchingEnabled = source.implicitMatchingEnabled;
       preferNestedProperties = source.preferNestedProperties;
       skipNullEnabled = source.skipNullEnabled;
+      typeMapCompilationEnabled = source.typeMapCompilationEnabled;
       collectionsMergeEnabled = source.collectionsMergeEnabled;
     }
   }
@@ -230,6 +253,29 @@ public class InheritingConfiguration implements Configuration {
         : methodAccessLevel;
   }
 
+  @Override
+  public Executor getParallelCollectionExecutor() {
+    if (parent != null)
+      return parallelCollectionExecutor == null
+          ? parent.getParallelCollectionExecutor()
+          : parallelCollectionExecutor;
+    return parallelCollectionExecutor;
+  }
+
+  @Override
+  public int getParallelCollectionParallelism() {
+    return parallelCollectionParallelism == null
+        ? Assert.notNull(parent).getParallelCollectionParallelism()
+        : parallelCollectionParallelism;
+  }
+
+  @Override
+  public int getParallelCollectionThreshold() {
+    return parallelCollectionThreshold == null
+        ? Assert.notNull(parent).getParallelCollectionThreshold()
+        : parallelCollectionThreshold;
+  }
+
   @Override
   public Condition<?, ?> getPropertyCondition() {
     if (parent != null)
@@ -303,6 +349,32 @@ public class InheritingConfiguration implements Configuration {
     return result;
   }
 
+  /**
+   * Returns the settings that determine how the members of types are resolved into properties. The
+   * settings are taken once and reused until they change in this configuration or in a parent.
+   */
+  MemberResolutionSettings memberResolutionSettings() {
+    int version = memberResolutionVersion();
+    VersionedSettings settings = memberResolutionSettings;
+    if (settings == null || settings.version != version
+        || !settings.settings.hasConstructorInjectors(constructorInjectors))
+      memberResolutionSettings = settings = new VersionedSettings(version,
+          new MemberResolutionSettings(this));
+    return settings.settings;
+  }
+
+  /**
+   * Returns a version of the member resolution settings that increases whenever they change in this
+   * configuration or in a parent. The version is taken before the settings are so that settings
+   * changed while being taken are never cached as current.
+   */
+  private int memberResolutionVersion() {
+    int version = memberResolutionChanges.get();
+    if (parent instanceof InheritingConfiguration)
+      version += ((InheritingConfiguration) parent).memberResolutionVersion();
+    return version;
+  }
+
   @Override
   public boolean isAmbiguityIgnored() {
     return ambiguityIgnored == null
@@ -324,6 +396,13 @@ public class InheritingConfiguration implements Configuration {
         : fullTypeMatchingRequired;
   }
 
+  @Override
+  public boolean isGeneratedAccessorsEnabled() {
+    return generatedAccessorsEnabled == null
+        ? Assert.notNull(parent).isGeneratedAccessorsEnabled()
+        : generatedAccessorsEnabled;
+  }
+
   @Override
   public boolean isImplicitMappingEnabled() {
     return implicitMatchingEnabled == null
@@ -345,6 +424,13 @@ public class InheritingConfiguration implements Configuration {
         : skipNullEnabled;
   }
 
+  @Override
+  public boolean isTypeMapCompilationEnabled() {
+    return typeMapCompilationEnabled == null
+        ? Assert.notNull(parent).isTypeMapCompilationEnabled()
+        : typeMapCompilationEnabled;
+  }
+
   @Override
   public boolean isUseOSGiClassLoaderBridging() {
     return useOSGiClassLoaderBridging == null
@@ -377,24 +463,28 @@ public class InheritingConfiguration implements Configuration {
   @Override
   public Configuration setDestinationNameTransformer(NameTransformer nameTransformer) {
     destinationNameTransformer = Assert.notNull(nameTransformer);
+    memberResolutionChanges.incrementAndGet();
     return this;
   }
 
   @Override
   public Configuration setDestinationNamingConvention(NamingConvention namingConvention) {
     destinationNamingConvention = Assert.notNull(namingConvention);
+    memberResolutionChanges.incrementAndGet();
     return this;
   }
 
   @Override
   public Configuration setFieldAccessLevel(AccessLevel accessLevel) {
     fieldAccessLevel = Assert.notNull(accessLevel);
+    memberResolutionChanges.incrementAndGet();
     return this;
   }
 
   @Override
   public Configuration setFieldMatchingEnabled(boolean enabled) {
     fieldMatchingEnabled = enabled;
+    memberResolutionChanges.incrementAndGet();
     return this;
   }
 
@@ -404,6 +494,13 @@ public class InheritingConfiguration implements Configuration {
     return this;
   }
 
+  @Override
+  public Configuration setGeneratedAccessorsEnabled(boolean enabled) {
+    generatedAccessorsEnabled = enabled;
+    memberResolutionChanges.incrementAndGet();
+    return this;
+  }
+
   @Override
   public Configuration setImplicitMappingEnabled(boolean enabled) {
     implicitMatchingEnabled = enabled;
@@ -422,6 +519,12 @@ public class InheritingConfiguration implements Configuration {
     return this;
   }
 
+  @Override
+  public Configuration setTypeMapCompilationEnabled(boolean enabled) {
+    typeMapCompilationEnabled = enabled;
+    return this;
+  }
+
   @Override
   public Configuration setDeepCopyEnabled(boolean enabled) {
     if (enabled && converterStore.hasConverter(AssignableConverter.class))
@@ -450,6 +553,27 @@ public class InheritingConfiguration implements Configuration {
   @Override
   public Configuration setMethodAccessLevel(AccessLevel accessLevel) {
     methodAccessLevel = Assert.notNull(accessLevel);
+    memberResolutionChanges.incrementAndGet();
+    return this;
+  }
+
+  @Override
+  public Configuration setParallelCollectionExecutor(Executor executor) {
+    parallelCollectionExecutor = Assert.notNull(executor);
+    return this;
+  }
+
+  @Override
+  public Configuration setParallelCollectionParallelism(int parallelism) {
+    Assert.isTrue(parallelism >= 0, "parallelism must not be negative");
+    parallelCollectionParallelism = parallelism;
+    return this;
+  }
+
+  @Override
+  public Configuration setParallelCollectionThreshold(int threshold) {
+    Assert.isTrue(threshold >= 0, "threshold must not be negative");
+    parallelCollectionThreshold = threshold;
     return this;
   }
 
@@ -474,12 +598,14 @@ public class InheritingConfiguration implements Configuration {
   @Override
   public Configuration setSourceNameTransformer(NameTransformer nameTransformer) {
     sourceNameTransformer = Assert.notNull(nameTransformer);
+    memberResolutionChanges.incrementAndGet();
     return this;
   }
 
   @Override
   public Configuration setSourceNamingConvention(NamingConvention namingConvention) {
     sourceNamingConvention = Assert.notNull(namingConvention);
+    memberResolutionChanges.incrementAndGet();
     return this;
   }
 
@@ -494,4 +620,14 @@ public class InheritingConfiguration implements Configuration {
     constructorInjectors.add(constructorInjector);
     return this;
   }
+
+  private static final class VersionedSettings {
+    final int version;
+    final MemberResolutionSettings settings;
+
+    VersionedSettings(int version, MemberResolutionSettings settings) {
+      this.version = version;
+      this.settings = settings;
+    }
+  }
 }
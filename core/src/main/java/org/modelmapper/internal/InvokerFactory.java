@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.modelmapper.CacheStatistics;
+
+/**
+ * Produces generated invokers for accessor and mutator methods so that property values can be read
+ * and written without going through {@link Method#invoke(Object, Object...)}. Invokers are spun by
+ * the {@link LambdaMetafactory} in the context of the member's declaring class, which requires
+ * {@code MethodHandles.privateLookupIn} (JDK 9+) and that the declaring class's package is open to
+ * ModelMapper. Since the {@link LambdaMetafactory} cannot spin invokers for fields, field invokers
+ * call a getter or setter {@link MethodHandle} instead of {@link Field#get(Object)} and
+ * {@link Field#set(Object, Object)}. When an invoker cannot be generated {@code null} is returned
+ * and callers fall back to reflection, which is counted in the {@link #getStatistics() statistics}.
+ */
+class InvokerFactory {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class,
+      Object.class);
+  private static final Method PRIVATE_LOOKUP_IN;
+  private static final LongAdder generated = new LongAdder();
+  private static final LongAdder fallbacks = new LongAdder();
+
+  static {
+    Method privateLookupIn;
+    try {
+      privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class,
+          MethodHandles.Lookup.class);
+    } catch (Exception e) {
+      privateLookupIn = null;
+    }
+    PRIVATE_LOOKUP_IN = privateLookupIn;
+  }
+
+  private InvokerFactory() {
+  }
+
+  /**
+   * Returns the statistics of invoker generation, whose hits are the methods that invokers were
+   * generated for, and whose misses are the methods that are invoked reflectively since an invoker
+   * could not be generated for them.
+   */
+  static CacheStatistics getStatistics() {
+    long generatedCount = generated.sum();
+    return new CacheStatistics("GeneratedInvoker", generatedCount, fallbacks.sum(), 0,
+        generatedCount);
+  }
+
+  /**
+   * Returns a generated invoker for the accessor {@code method}, else {@code null} if one cannot be
+   * generated.
+   */
+  @SuppressWarnings("unchecked")
+  static Function<Object, Object> getterFor(Method method) {
+    if (Modifier.isStatic(method.getModifiers()))
+      return null;
+
+    try {
+      MethodHandles.Lookup lookup = lookupFor(method.getDeclaringClass());
+      if (lookup == null)
+        return fallBack();
+      MethodHandle handle = lookup.unreflect(method);
+      CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+          MethodType.methodType(Function.class), GETTER_TYPE, handle, handle.type().wrap());
+      Function<Object, Object> invoker = (Function<Object, Object>) site.getTarget().invoke();
+      generated.increment();
+      return invoker;
+    } catch (ReflectiveOperationException | LambdaConversionException e) {
+      return fallBack();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      // Not thrown by the call site's factory, which declares no checked exceptions
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Returns a generated invoker for the mutator {@code method}, else {@code null} if one cannot be
+   * generated.
+   */
+  @SuppressWarnings("unchecked")
+  static BiConsumer<Object, Object> setterFor(Method method) {
+    if (Modifier.isStatic(method.getModifiers()))
+      return null;
+
+    try {
+      MethodHandles.Lookup lookup = lookupFor(method.getDeclaringClass());
+      if (lookup == null)
+        return fallBack();
+      MethodHandle handle = lookup.unreflect(method);
+      CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+          MethodType.methodType(BiConsumer.class), SETTER_TYPE, handle,
+          handle.type().wrap().changeReturnType(void.class));
+      BiConsumer<Object, Object> invoker = (BiConsumer<Object, Object>) site.getTarget().invoke();
+      generated.increment();
+      return invoker;
+    } catch (ReflectiveOperationException | LambdaConversionException e) {
+      return fallBack();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      // Not thrown by the call site's factory, which declares no checked exceptions
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Returns an invoker that reads the {@code field}, else {@code null} if one cannot be generated.
+   * The {@code field} must have been made accessible.
+   */
+  static Function<Object, Object> getterFor(Field field) {
+    if (Modifier.isStatic(field.getModifiers()))
+      return null;
+
+    final MethodHandle handle;
+    try {
+      handle = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      return fallBack();
+    }
+    generated.increment();
+    return new Function<Object, Object>() {
+      @Override
+      public Object apply(Object subject) {
+        try {
+          return (Object) handle.invokeExact(subject);
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable t) {
+          // Not thrown by field getters, which declare no checked exceptions
+          throw new IllegalStateException(t);
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns an invoker that writes the {@code field}, else {@code null} if one cannot be generated,
+   * such as for final fields. The {@code field} must have been made accessible.
+   */
+  static BiConsumer<Object, Object> setterFor(Field field) {
+    if (Modifier.isStatic(field.getModifiers()))
+      return null;
+
+    final MethodHandle handle;
+    try {
+      handle = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      return fallBack();
+    }
+    generated.increment();
+    return new BiConsumer<Object, Object>() {
+      @Override
+      public void accept(Object subject, Object value) {
+        try {
+          handle.invokeExact(subject, value);
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable t) {
+          // Not thrown by field setters, which declare no checked exceptions
+          throw new IllegalStateException(t);
+        }
+      }
+    };
+  }
+
+  private static <T> T fallBack() {
+    fallbacks.increment();
+    return null;
+  }
+
+  /**
+   * Returns a lookup with private access to the {@code type}, else {@code null} if
+   * {@code privateLookupIn} is not available.
+   *
+   * @throws ReflectiveOperationException if the {@code type}'s package is not open to ModelMapper
+   */
+  private static MethodHandles.Lookup lookupFor(Class<?> type)
+      throws ReflectiveOperationException {
+    if (PRIVATE_LOOKUP_IN == null)
+      return null;
+    return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, type, MethodHandles.lookup());
+  }
+}
@@ -18,6 +18,7 @@ package org.modelmapper.internal;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -43,14 +44,27 @@ import org.modelmapper.spi.MappingEngine;
  * @author Jonathan Halterman
  */
 public class MappingContextImpl<S, D> implements MappingContext<S, D>, ProvisionRequest<D> {
-  /** Caches previously mapped destination objects by path. */
-  final Map<String, Object> destinationCache;
-  /** Tracks destination objects for each source. Used for circular mapping. */
-  final Map<Object, Object> sourceToDestination;
-  /** Tracks intermediate destination objects on the path to the destination */
-  final Map<String, Object> intermediateDestinations;
-  final Errors errors;
+  /** Caches previously mapped destination objects by path. Created on demand. */
+  private Map<String, Object> destinationCache;
+  /** Tracks destination objects for each source. Used for circular mapping. Created on demand. */
+  private Map<Object, Object> sourceToDestination;
+  /**
+   * Initial context of the request that this request was forked from, whose destinations are
+   * resolved without being modified while this request is mapped, else {@code null}
+   */
+  private MappingContextImpl<?, ?> forkedFrom;
+  /**
+   * Tracks intermediate destination objects on the path to the destination, indexed by the ID of
+   * their path in the TypeMap's PathIndex. Created on demand.
+   */
+  private Object[] intermediateDestinations;
+  /** Created on demand */
+  private Errors errors;
   private final MappingContextImpl<?, ?> parent;
+  /** Initial context, which holds the state shared by all contexts of a mapping request */
+  private final MappingContextImpl<?, ?> initialContext;
+  /** Context which holds the destination cache and shaded paths used by this context */
+  private final MappingContextImpl<?, ?> valuesContext;
   private D destination;
   /** Absolute path to destination. */
   final String destinationPath;
@@ -63,10 +77,20 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
   private final MappingEngineImpl mappingEngine;
   private final S source;
   private final Class<S> sourceType;
-  private final SourceChain parentSource;
+  /** Created on demand */
+  private SourceChain parentSource;
   private TypeMap<S, D> typeMap;
-  /** Tracks destination hierarchy paths that were shaded by a condition */
-  private final List<String> shadedPaths;
+  /**
+   * Tracks absolute destination hierarchy paths that were shaded by a condition, for contexts that
+   * share them but map other TypeMaps. Created on demand.
+   */
+  private List<String> shadedPaths;
+  /** Index of the paths of the TypeMap being mapped, else {@code null} */
+  private PathIndex pathIndex;
+  /** IDs of the shaded paths within the pathIndex, including their descendants. Created on demand. */
+  private BitSet shadedPathIds;
+  /** Whether a simple TypeMap is being mapped, such that values need not be tracked */
+  private boolean simple;
 
   /**
    * Create initial MappingContext.
@@ -74,9 +98,10 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
   public MappingContextImpl(S source, Class<S> sourceType, D destination, Class<D> destinationType,
       Type genericDestinationType, String typeMapName, MappingEngineImpl mappingEngine) {
     parent = null;
+    initialContext = this;
+    valuesContext = this;
     this.source = source;
     this.sourceType = sourceType;
-    this.parentSource = new SourceChain();
     this.destination = destination;
     this.destinationPath = "";
     this.destinationType = destinationType;
@@ -85,11 +110,6 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
     this.typeMapName = typeMapName;
     providedDestination = destination != null;
     this.mappingEngine = mappingEngine;
-    errors = new Errors();
-    destinationCache = new HashMap<String, Object>();
-    shadedPaths = new ArrayList<String>();
-    sourceToDestination = new IdentityHashMap<Object, Object>();
-    intermediateDestinations = new HashMap<String, Object>();
   }
 
   /**
@@ -100,12 +120,26 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
   MappingContextImpl(MappingContextImpl<?, ?> context, S source, Class<S> sourceType,
       D destination, Class<D> destinationType, Type genericDestinationType, MappingImpl mapping,
       boolean inheritValues) {
+    this(context, context.initialContext, source, sourceType, destination, destinationType,
+        genericDestinationType, mapping, inheritValues);
+  }
+
+  /**
+   * Create derived MappingContext whose request state is held by the {@code initialContext} rather
+   * than by the source {@code context}'s initial context.
+   */
+  private MappingContextImpl(MappingContextImpl<?, ?> context,
+      MappingContextImpl<?, ?> initialContext, S source, Class<S> sourceType, D destination,
+      Class<D> destinationType, Type genericDestinationType, MappingImpl mapping,
+      boolean inheritValues) {
     this.parent = context;
+    this.initialContext = initialContext;
+    valuesContext = inheritValues ? context.valuesContext : this;
     this.source = source;
     this.sourceType = sourceType;
     this.destination = destination;
-    this.destinationPath = mapping == null ? context.destinationPath : context.destinationPath
-        + mapping.getPath();
+    this.destinationPath = mapping == null ? context.destinationPath
+        : context.pathTo(mapping.getPath());
     this.destinationType = destinationType;
     this.genericDestinationType = genericDestinationType == null ? destinationType
         : genericDestinationType;
@@ -113,13 +147,8 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
     this.typeMap = null;
     this.typeMapName = null;
     this.mapping = mapping;
-    parentSource = context.parentSource;
     mappingEngine = context.mappingEngine;
-    errors = context.errors;
-    destinationCache = inheritValues ? context.destinationCache : new HashMap<String, Object>();
-    shadedPaths = inheritValues ? context.shadedPaths : new ArrayList<String>();
-    sourceToDestination = context.sourceToDestination;
-    intermediateDestinations = new HashMap<String, Object>();
+    simple = context.simple;
   }
 
 
@@ -157,6 +186,48 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
         destinationTypeToken.getRawType(), destinationTypeToken.getType(), mapping, false);
   }
 
+  /**
+   * Returns a context which holds the request state for elements of the collection being mapped in
+   * this context that are mapped concurrently with other elements. The returned context resolves the
+   * circular references that were mapped for this context's request so far by reading this
+   * request's destinations, which must not change until the fork is {@link #join joined}.
+   */
+  MappingContextImpl<S, D> fork() {
+    MappingContextImpl<S, D> fork = new MappingContextImpl<S, D>(source, sourceType, destination,
+        destinationType, genericDestinationType, typeMapName, mappingEngine);
+    fork.forkedFrom = initialContext;
+    return fork;
+  }
+
+  /**
+   * Merges the errors and the mapped destinations of the {@code fork} into this context's request.
+   */
+  void join(MappingContextImpl<?, ?> fork) {
+    if (fork.errors != null)
+      errors().merge(fork.errors);
+    if (fork.sourceToDestination != null) {
+      if (initialContext.sourceToDestination == null)
+        initialContext.sourceToDestination = new IdentityHashMap<Object, Object>();
+      initialContext.sourceToDestination.putAll(fork.sourceToDestination);
+    }
+  }
+
+  /**
+   * Creates a child MappingContext for an element of a destination collection, whose request state
+   * is held by the {@code fork}.
+   *
+   * @param destination the destination element to map onto, else {@code null}
+   */
+  <CS, CD> MappingContextImpl<CS, CD> createElement(MappingContextImpl<?, ?> fork, CS source,
+      CD destination, Class<CD> destinationType) {
+    if (destination != null)
+      return new MappingContextImpl<CS, CD>(this, fork, source,
+          Types.<CS>deProxy(source.getClass()), destination,
+          Types.<CD>deProxy(destination.getClass()), null, mapping, false);
+    return new MappingContextImpl<CS, CD>(this, fork, source, Types.<CS>deProxy(source.getClass()),
+        null, destinationType, null, null, false);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj)
@@ -247,17 +318,68 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
 
   @SuppressWarnings("unchecked")
   D destinationForSource() {
-    return (D) sourceToDestination.get(source);
+    return (D) destinationFor(source);
+  }
+
+  /**
+   * Returns the destination that was mapped for the {@code source}, else {@code null}.
+   */
+  Object destinationFor(Object source) {
+    for (MappingContextImpl<?, ?> context = initialContext; context != null;
+        context = context.forkedFrom) {
+      Map<Object, Object> sourceToDestination = context.sourceToDestination;
+      Object destination = sourceToDestination == null ? null : sourceToDestination.get(source);
+      if (destination != null)
+        return destination;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the errors for the mapping request.
+   */
+  Errors errors() {
+    if (initialContext.errors == null)
+      initialContext.errors = new Errors();
+    return initialContext.errors;
+  }
+
+  void throwMappingExceptionIfErrorsExist() {
+    if (initialContext.errors != null)
+      initialContext.errors.throwMappingExceptionIfErrorsExist();
+  }
+
+  /**
+   * Determines whether the path with the {@code pathId} in the {@link #setPathIndex(PathIndex) path
+   * index} is shaded.
+   */
+  boolean isShaded(int pathId) {
+    return shadedPathIds != null && shadedPathIds.get(pathId);
+  }
+
+  /**
+   * Sets the index of the paths of the TypeMap being mapped, shading any of its paths that were
+   * shaded by contexts sharing this context's shaded paths.
+   */
+  void setPathIndex(PathIndex pathIndex) {
+    this.pathIndex = pathIndex;
+    shadedPathIds = null;
+    List<String> shadedPaths = valuesContext.shadedPaths;
+    if (shadedPaths != null)
+      for (String shadedPath : shadedPaths)
+        shadeIndexedPath(shadedPath);
+  }
+
+  boolean isSimple() {
+    return simple;
   }
 
   /**
-   * Determines whether the {@code subPath} is shaded.
+   * Marks the context as mapping a {@link TypeMapImpl#isSimple() simple} TypeMap, for which
+   * destinations, parent sources and intermediate destinations are not tracked.
    */
-  boolean isShaded(String subPath) {
-    for (String shadedPath : shadedPaths)
-      if (subPath.startsWith(shadedPath))
-        return true;
-    return false;
+  void setSimple() {
+    simple = true;
   }
 
   TypeMap<?, ?> parentTypeMap() {
@@ -266,12 +388,40 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
 
   void setDestination(D destination, boolean trackForSource) {
     this.destination = destination;
-    if (trackForSource && !Primitives.isPrimitiveWrapper(sourceType))
-      sourceToDestination.put(source, destination);
+    if (trackForSource && !simple && !Primitives.isPrimitiveWrapper(sourceType)) {
+      if (initialContext.sourceToDestination == null)
+        initialContext.sourceToDestination = new IdentityHashMap<Object, Object>();
+      initialContext.sourceToDestination.put(source, destination);
+    }
   }
 
   void addParentSource(String path, Object parentSource) {
-    this.parentSource.addSource(path, parentSource);
+    if (initialContext.parentSource == null)
+      initialContext.parentSource = new SourceChain();
+    initialContext.parentSource.addSource(path, parentSource);
+  }
+
+  /**
+   * Caches the {@code destination} that was mapped for the {@code path}.
+   */
+  void cacheDestination(String path, Object destination) {
+    if (valuesContext.destinationCache == null)
+      valuesContext.destinationCache = new HashMap<String, Object>();
+    valuesContext.destinationCache.put(path, destination);
+  }
+
+  void addIntermediateDestination(PathIndex pathIndex, int pathId, Object destination) {
+    if (intermediateDestinations == null)
+      intermediateDestinations = new Object[pathIndex.size()];
+    intermediateDestinations[pathId] = destination;
+  }
+
+  /**
+   * Returns the absolute path for the {@code relativePath}, which is the {@code relativePath}
+   * itself for the initial context.
+   */
+  String pathTo(String relativePath) {
+    return destinationPath.isEmpty() ? relativePath : destinationPath.concat(relativePath);
   }
 
   void setTypeMap(TypeMap<S, D> typeMap) {
@@ -279,11 +429,45 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
   }
 
   /**
-   * Shades the {@code path} such that subsequent subpaths can be skipped during the mapping
-   * process.
+   * Shades the path with the {@code pathId} in the path index such that it and its subpaths can be
+   * skipped during the mapping process.
+   */
+  void shadePath(int pathId) {
+    shadePathIds(pathId);
+    String path = pathTo(pathIndex.paths[pathId]);
+    if (valuesContext.shadedPaths == null)
+      valuesContext.shadedPaths = new ArrayList<String>();
+    valuesContext.shadedPaths.add(path);
+
+    // Shade the path for enclosing TypeMaps that are still being mapped
+    for (MappingContextImpl<?, ?> context = parent; context != null
+        && context.valuesContext == valuesContext; context = context.parent)
+      if (context.pathIndex != null)
+        context.shadeIndexedPath(path);
+  }
+
+  /**
+   * Shades the absolute {@code path} within the path index, if the path index contains it or one of
+   * its ancestors.
    */
-  void shadePath(String path) {
-    shadedPaths.add(path);
+  private void shadeIndexedPath(String path) {
+    if (pathIndex == null || pathIndex.size() == 0)
+      return;
+    if (destinationPath.startsWith(path)) {
+      if (shadedPathIds == null)
+        shadedPathIds = new BitSet(pathIndex.size());
+      shadedPathIds.set(0, pathIndex.size());
+    } else if (path.startsWith(destinationPath)) {
+      int pathId = pathIndex.idOf(path.substring(destinationPath.length()));
+      if (pathId != -1)
+        shadePathIds(pathId);
+    }
+  }
+
+  private void shadePathIds(int pathId) {
+    if (shadedPathIds == null)
+      shadedPathIds = new BitSet(pathIndex.size());
+    shadedPathIds.set(pathId, pathIndex.descendantsEnd(pathId));
   }
 
   Type genericDestinationPropertyType(Type type) {
@@ -302,42 +486,58 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
     return null;
   }
 
+  /**
+   * Returns the destination object on which the mapping's last mutator is to be set, creating any
+   * missing intermediate destinations along the mapping's {@code destinationPathIds}.
+   */
   @SuppressWarnings("all")
-  <S, D> Object getParentDestination() {
+  <S, D> Object getParentDestination(int[] destinationPathIds, PathIndex pathIndex) {
     List<Mutator> mutatorChain = (List<Mutator>) mapping.getDestinationProperties();
-    StringBuilder destPathBuilder = new StringBuilder().append(parent.destinationPath);
+    if (mutatorChain.size() == 1)
+      return parent.destination;
     Object current = parent.destination;
     for (int i = 0; i < mutatorChain.size() - 1; i++) {
       if (current == null)
         break;
       Mutator mutator = mutatorChain.get(i);
-      String destPath = destPathBuilder.append(mutator.getName()).append('.').toString();
-      Object source = parent.parentSource.getSource(destPath);
+      String destPath = parent.pathTo(pathIndex.paths[destinationPathIds[i]]);
+      Object source = parent.parentSourceFor(destPath);
       Object next = Objects.firstNonNull(
-          Objects.callable(parent.destinationCache.get(destPath)),
-          parent.getCyclicReferenceByPath(destPath),
+          Objects.callable(parent.cachedDestination(destPath)),
+          parent.getCyclicReferenceById(destinationPathIds[i]),
           parent.getDestinationValueByMemberName(current, mutator.getName()));
       if (next == null && source != null)
-        next = mappingEngine.createDestinationViaGlobalProvider(
-            parent.parentSource.getSource(destPath), mutator.getType(), parent.errors);
+        next = mappingEngine.createDestinationViaGlobalProvider(source, mutator.getType(),
+            parent.errors());
 
       if (next != null) {
         mutator.setValue(current, next);
-        parent.destinationCache.put(destPath, next);
+        parent.cacheDestination(destPath, next);
       }
       current = next;
     }
     return current;
   }
 
+  private Object cachedDestination(String path) {
+    Map<String, Object> destinationCache = valuesContext.destinationCache;
+    return destinationCache == null ? null : destinationCache.get(path);
+  }
+
+  private Object parentSourceFor(String path) {
+    SourceChain parentSource = initialContext.parentSource;
+    return parentSource == null ? null : parentSource.getSource(path);
+  }
+
   private Callable<Object> getDestinationValueByMemberName(final Object current, final String memberName) {
     return new Callable<Object>() {
       @Override
       public Object call() {
         if (providedDestination) {
+          InheritingConfiguration configuration = mappingEngine.getConfiguration();
           Accessor accessor = TypeInfoRegistry
-              .typeInfoFor(current.getClass(), mappingEngine.getConfiguration())
-              .getAccessors()
+              .typeInfoFor(current.getClass(), configuration)
+              .getAccessors(configuration)
               .get(memberName);
           if (accessor != null)
             return accessor.getValue(current);
@@ -347,11 +547,11 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
     };
   }
 
-  Callable<Object> getCyclicReferenceByPath(final String destinationPath) {
+  Callable<Object> getCyclicReferenceById(final int pathId) {
     return new Callable<Object>() {
       @Override
       public Object call() {
-        return intermediateDestinations.get(destinationPath);
+        return intermediateDestinations == null ? null : intermediateDestinations[pathId];
       }
     };
   }
@@ -377,7 +577,7 @@ public class MappingContextImpl<S, D> implements MappingContext<S, D>, Provision
       return null;
 
     D destination = provider.get(this);
-    mappingEngine.validateDestination(destinationType, destination, errors);
+    mappingEngine.validateDestination(destinationType, destination, errors());
     setDestination(destination, false);
     return destination;
   }
@@ -22,8 +22,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.modelmapper.Condition;
 import org.modelmapper.ConfigurationException;
@@ -52,8 +50,6 @@ import org.modelmapper.spi.SourceMapping;
  * @author Jonathan Halterman
  */
 public class MappingEngineImpl implements MappingEngine {
-  /** Cache of conditional converters */
-  private final Map<TypePair<?, ?>, Converter<?, ?>> converterCache = new ConcurrentHashMap<TypePair<?, ?>, Converter<?, ?>>();
   private final InheritingConfiguration configuration;
   private final TypeMapStore typeMapStore;
   private final ConverterStore converterStore;
@@ -79,15 +75,23 @@ public class MappingEngineImpl implements MappingEngine {
     } catch (ConfigurationException e) {
       throw e;
     } catch (ErrorsException e) {
-      throw context.errors.toMappingException();
+      throw context.errors().toMappingException();
     } catch (Throwable t) {
-      context.errors.errorMapping(sourceType, destinationTypeToken.getType(), t);
+      context.errors().errorMapping(sourceType, destinationTypeToken.getType(), t);
     }
 
-    context.errors.throwMappingExceptionIfErrorsExist();
+    context.throwMappingExceptionIfErrorsExist();
     return result;
   }
 
+  /**
+   * Batch entry point. Returns a plan for mapping many source objects to the
+   * {@code destinationTypeToken}'s type.
+   */
+  public <D> MappingPlan<D> planFor(TypeToken<D> destinationTypeToken, String typeMapName) {
+    return new MappingPlan<D>(this, destinationTypeToken, typeMapName);
+  }
+
   /**
    * Performs mapping using a TypeMap if one exists, else a converter if one applies, else a newly
    * created TypeMap. Recursive entry point.
@@ -136,6 +140,14 @@ public class MappingEngineImpl implements MappingEngine {
 
     context.setTypeMap(typeMap);
 
+    if (context.getParent() == null && typeMap instanceof TypeMapImpl
+        && ((TypeMapImpl<S, D>) typeMap).isSimple()) {
+      context.setSimple();
+      CompiledTypeMap<S, D> compiledTypeMap = ((TypeMapImpl<S, D>) typeMap).compiledTypeMap(this);
+      if (compiledTypeMap != null)
+        return compiledTypeMap.map(context, this);
+    }
+
     @SuppressWarnings("unchecked")
     Condition<S, D> condition = (Condition<S, D>) typeMap.getCondition();
     boolean noSkip = condition == null || condition.applies(context);
@@ -144,8 +156,11 @@ public class MappingEngineImpl implements MappingEngine {
       return convert(context, typeMap.getConverter());
 
 
-    if (!typeMap.getMappings().isEmpty() && typeMap.getMappings().get(0).isConstructor()) {
-      context.setDestination(typeMapWithConstructor(context, typeMap), true);
+    PathIndex pathIndex = pathIndexOf(typeMap);
+    context.setPathIndex(pathIndex);
+    Mapping[] mappings = pathIndex.mappings;
+    if (mappings.length != 0 && mappings[0].isConstructor()) {
+      context.setDestination(typeMapWithConstructor(context, pathIndex), true);
       return context.getDestination();
     }
 
@@ -160,8 +175,8 @@ public class MappingEngineImpl implements MappingEngine {
       if (converter != null)
         context.setDestination(convert(context, converter), true);
 
-      for (Mapping mapping : typeMap.getMappings())
-        propertyMap(mapping, context);
+      for (int i = 0; i < mappings.length; i++)
+        propertyMap(pathIndex, i, context);
 
       converter = typeMap.getPostConverter();
       if (converter != null)
@@ -171,24 +186,36 @@ public class MappingEngineImpl implements MappingEngine {
     return context.getDestination();
   }
 
-  private <S, D> D typeMapWithConstructor(MappingContextImpl<S, D> context, TypeMap<S, D> typeMap) {
+  private <S, D> D typeMapWithConstructor(MappingContextImpl<S, D> context, PathIndex pathIndex) {
     ConstructorMappingsBuilder builder = new ConstructorMappingsBuilder();
-    for (Mapping mapping : typeMap.getMappings())
-      builder.update(mapping, resolveSourceValue(context, mapping));
-    return builder.instantiate(typeMap.getDestinationType(), context.errors);
+    for (int i = 0; i < pathIndex.mappings.length; i++)
+      builder.update(pathIndex.mappings[i], resolveSourceValue(context, pathIndex, i));
+    return builder.instantiate(context.getTypeMap().getDestinationType(), context.errors());
+  }
+
+  /**
+   * Returns an index of the {@code typeMap}'s mappings, using the TypeMapImpl's shared index when
+   * possible.
+   */
+  private static PathIndex pathIndexOf(TypeMap<?, ?> typeMap) {
+    if (typeMap instanceof TypeMapImpl)
+      return ((TypeMapImpl<?, ?>) typeMap).pathIndex();
+    return PathIndex.of(typeMap.getMappings());
   }
 
 
   @SuppressWarnings("unchecked")
-  private <S, D> void propertyMap(Mapping mapping, MappingContextImpl<S, D> context) {
+  private <S, D> void propertyMap(PathIndex pathIndex, int index,
+      MappingContextImpl<S, D> context) {
+    Mapping mapping = pathIndex.mappings[index];
     MappingImpl mappingImpl = (MappingImpl) mapping;
-    String propertyPath = context.destinationPath + mappingImpl.getPath();
-    if (context.isShaded(propertyPath))
+    int pathId = pathIndex.pathIdOf(index);
+    if (context.isShaded(pathId))
       return;
     if (mapping.getCondition() == null && mapping.isSkipped()) // skip()
       return;
 
-    Object source = resolveSourceValue(context, mapping);
+    Object source = resolveSourceValue(context, pathIndex, index);
     MappingContextImpl<Object, Object> propertyContext = propertyContextFor(context, source,
         mappingImpl);
 
@@ -201,28 +228,32 @@ public class MappingEngineImpl implements MappingEngine {
       if (conditionIsTrue && mapping.isSkipped()) // when(condition).skip()
         return;
       else if (!conditionIsTrue && !mapping.isSkipped()) { // when(condition)
-        context.shadePath(propertyPath);
+        context.shadePath(pathId);
         return;
       }
     }
-    setDestinationValue(context, propertyContext, mappingImpl);
+    setDestinationValue(context, propertyContext, mappingImpl, pathIndex.destinationPathIds[index],
+        pathIndex, pathId);
   }
 
   @SuppressWarnings("unchecked")
-  private Object resolveSourceValue(MappingContextImpl<?, ?> context, Mapping mapping) {
+  private Object resolveSourceValue(MappingContextImpl<?, ?> context, PathIndex pathIndex,
+      int index) {
+    Mapping mapping = pathIndex.mappings[index];
     Object source = context.getSource();
     if (mapping instanceof PropertyMappingImpl) {
-      StringBuilder destPathBuilder = new StringBuilder().append(context.destinationPath);
-      for (Accessor accessor : (List<Accessor>) ((PropertyMapping) mapping).getSourceProperties()) {
-        destPathBuilder.append(accessor.getName()).append('.');
-        source = accessor.getValue(source);
-        context.addParentSource(destPathBuilder.toString(), source);
+      List<Accessor> accessors = (List<Accessor>) ((PropertyMapping) mapping).getSourceProperties();
+      int[] pathIds = pathIndex.sourcePathIds[index];
+      for (int i = 0; i < pathIds.length; i++) {
+        source = accessors.get(i).getValue(source);
+        if (!context.isSimple())
+          context.addParentSource(context.pathTo(pathIndex.paths[pathIds[i]]), source);
         if (source == null)
           return null;
-        if (!Iterables.isIterable(source.getClass())) {
-          Object circularDest = context.sourceToDestination.get(source);
+        if (!context.isSimple() && !Iterables.isIterable(source.getClass())) {
+          Object circularDest = context.destinationFor(source);
           if (circularDest != null)
-            context.intermediateDestinations.put(destPathBuilder.toString(), circularDest);
+            context.addIntermediateDestination(pathIndex, pathIds[i], circularDest);
         }
       }
     } else if (mapping instanceof ConstantMapping) {
@@ -242,20 +273,21 @@ public class MappingEngineImpl implements MappingEngine {
    */
   @SuppressWarnings("unchecked")
   private <S, D> void setDestinationValue(MappingContextImpl<S, D> context,
-      MappingContextImpl<Object, Object> propertyContext, MappingImpl mapping) {
-    String destPath = context.destinationPath + mapping.getPath();
+      MappingContextImpl<Object, Object> propertyContext, MappingImpl mapping,
+      int[] destinationPathIds, PathIndex pathIndex, int pathId) {
+    String destPath = propertyContext.destinationPath;
     Converter<Object, Object> converter = (Converter<Object, Object>) Objects.firstNonNull(
         mapping.getConverter(),
         context.getTypeMap().getPropertyConverter());
     if (converter != null)
-      context.shadePath(destPath);
+      context.shadePath(pathId);
 
-    Object destination = propertyContext.getParentDestination();
+    Object destination = propertyContext.getParentDestination(destinationPathIds, pathIndex);
     if (destination == null)
       return;
 
     Mutator mutator = (Mutator) mapping.getLastDestinationProperty();
-    Accessor accessor = PropertyInfoRegistry.accessorFor(mutator.getInitialType(), mutator.getName(), configuration);
+    Accessor accessor = mapping.getDestinationAccessor(configuration);
     Object destinationValue = propertyContext.createDestinationViaProvider();
     if (destinationValue == null && propertyContext.isProvidedDestination() && accessor != null) {
       destinationValue = accessor.getValue(destination);
@@ -272,13 +304,14 @@ public class MappingEngineImpl implements MappingEngine {
         destinationValue = convert(propertyContext, converter);
     }
 
-    context.destinationCache.put(destPath, destinationValue);
+    if (!context.isSimple())
+      context.cacheDestination(destPath, destinationValue);
     if (destinationValue != null || !configuration.isSkipNullEnabled())
       mutator.setValue(destination,
           destinationValue == null ? Primitives.defaultValue(mutator.getType())
               : destinationValue);
     if (destinationValue == null)
-      context.shadePath(propertyContext.destinationPath);
+      context.shadePath(pathId);
   }
 
   /**
@@ -310,7 +343,7 @@ public class MappingEngineImpl implements MappingEngine {
 
       Accessor accessor = TypeInfoRegistry.typeInfoFor(intermediateDest.getClass(),
           configuration)
-          .getAccessors()
+          .getAccessors(configuration)
           .get(mutator.getName());
       if (accessor != null)
         intermediateDest = accessor.getValue(intermediateDest);
@@ -324,34 +357,23 @@ public class MappingEngineImpl implements MappingEngine {
   /**
    * Performs a mapping using a Converter.
    */
-  private <S, D> D convert(MappingContext<S, D> context, Converter<S, D> converter) {
+  <S, D> D convert(MappingContext<S, D> context, Converter<S, D> converter) {
     try {
       return converter.convert(context);
     } catch (ErrorsException e) {
       throw e;
     } catch (Exception e) {
-      ((MappingContextImpl<S, D>) context).errors.errorConverting(converter,
+      ((MappingContextImpl<S, D>) context).errors().errorConverting(converter,
           context.getSourceType(), context.getDestinationType(), e);
       return null;
     }
   }
 
   /**
-   * Retrieves a converter from the store or from the cache.
+   * Retrieves a converter from the store, which memoizes its resolutions.
    */
-  @SuppressWarnings("unchecked")
-  private <S, D> Converter<S, D> converterFor(MappingContext<S, D> context) {
-    TypePair<?, ?> typePair = TypePair.of(context.getSourceType(), context.getDestinationType(),
-        context.getTypeMapName());
-    Converter<S, D> converter = (Converter<S, D>) converterCache.get(typePair);
-    if (converter == null) {
-      converter = converterStore.getFirstSupported(context.getSourceType(),
-          context.getDestinationType());
-      if (converter != null)
-        converterCache.put(typePair, converter);
-    }
-
-    return converter;
+  <S, D> Converter<S, D> converterFor(MappingContext<S, D> context) {
+    return converterStore.getFirstSupported(context.getSourceType(), context.getDestinationType());
   }
 
   private <T> T instantiate(Class<T> type, Errors errors) {
@@ -371,7 +393,7 @@ public class MappingEngineImpl implements MappingEngine {
     MappingContextImpl<S, D> contextImpl = (MappingContextImpl<S, D>) context;
     D destination = contextImpl.createDestinationViaProvider();
     if (destination == null)
-      destination = instantiate(context.getDestinationType(), contextImpl.errors);
+      destination = instantiate(context.getDestinationType(), contextImpl.errors());
 
     contextImpl.setDestination(destination, true);
     return destination;
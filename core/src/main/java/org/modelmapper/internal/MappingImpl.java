@@ -36,6 +36,21 @@ abstract class MappingImpl implements InternalMapping, Comparable<MappingImpl> {
   private Condition<?, ?> condition;
   protected Provider<?> provider;
   protected Converter<?, ?> converter;
+  /** Accessor for the last destination property, else {@code null} if not yet resolved */
+  private volatile BoundAccessor destinationAccessor;
+
+  /**
+   * An accessor that was resolved against a configuration.
+   */
+  private static final class BoundAccessor {
+    final InheritingConfiguration configuration;
+    final Accessor accessor;
+
+    BoundAccessor(InheritingConfiguration configuration, Accessor accessor) {
+      this.configuration = configuration;
+      this.accessor = accessor;
+    }
+  }
 
   /**
    * Creates an implicit mapping.
@@ -115,6 +130,34 @@ abstract class MappingImpl implements InternalMapping, Comparable<MappingImpl> {
     return provider;
   }
 
+  /**
+   * Returns the accessor for the last destination property as resolved against the
+   * {@code configuration}, else {@code null} if the property cannot be read. The accessor is
+   * normally bound when the mapping is added to a TypeMap, so that it need not be looked up while
+   * mapping.
+   */
+  Accessor getDestinationAccessor(InheritingConfiguration configuration) {
+    BoundAccessor bound = destinationAccessor;
+    if (bound == null || bound.configuration != configuration)
+      bound = bind(configuration);
+    return bound.accessor;
+  }
+
+  /**
+   * Resolves the accessor for the last destination property against the {@code configuration}.
+   */
+  void bindDestinationAccessor(InheritingConfiguration configuration) {
+    bind(configuration);
+  }
+
+  private BoundAccessor bind(InheritingConfiguration configuration) {
+    PropertyInfo property = getLastDestinationProperty();
+    BoundAccessor bound = new BoundAccessor(configuration, PropertyInfoRegistry.accessorFor(
+        property.getInitialType(), property.getName(), configuration));
+    destinationAccessor = bound;
+    return bound;
+  }
+
   @Override
   public int hashCode() {
     return path.hashCode();
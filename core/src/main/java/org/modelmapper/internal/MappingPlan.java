@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.lang.reflect.Type;
+
+import org.modelmapper.ConfigurationException;
+import org.modelmapper.Converter;
+import org.modelmapper.TypeMap;
+import org.modelmapper.TypeToken;
+import org.modelmapper.internal.converter.ConverterStore;
+import org.modelmapper.internal.util.Primitives;
+import org.modelmapper.internal.util.Types;
+
+/**
+ * Maps many source objects to a destination type, resolving the TypeMap or Converter to use once
+ * per distinct source and destination type rather than once per source object. Each source object
+ * is mapped within its own root MappingContext, so results and errors are those of individual
+ * {@link MappingEngineImpl#map(Object, Class, Object, TypeToken, String) map} calls.
+ *
+ * <p>
+ * Plans are safe for use by multiple threads.
+ *
+ * @param <D> destination type
+ */
+public final class MappingPlan<D> {
+  private final MappingEngineImpl engine;
+  private final TypeMapStore typeMapStore;
+  private final ConverterStore converterStore;
+  private final Class<D> destinationType;
+  private final Type genericDestinationType;
+  private final String typeMapName;
+  /** The most recently resolved mapping, which is reused while source types are unchanged */
+  private volatile Resolution<D> resolution;
+
+  /** The TypeMap or Converter that applies to a source and destination type */
+  private static final class Resolution<D> {
+    final int typeMapStoreVersion;
+    final int converterStoreVersion;
+    final Class<?> sourceType;
+    final Class<D> destinationType;
+    final boolean providedDestination;
+    final TypeMap<Object, D> typeMap;
+    final Converter<Object, D> converter;
+
+    Resolution(int typeMapStoreVersion, int converterStoreVersion, Class<?> sourceType,
+        Class<D> destinationType, boolean providedDestination, TypeMap<Object, D> typeMap,
+        Converter<Object, D> converter) {
+      this.typeMapStoreVersion = typeMapStoreVersion;
+      this.converterStoreVersion = converterStoreVersion;
+      this.sourceType = sourceType;
+      this.destinationType = destinationType;
+      this.providedDestination = providedDestination;
+      this.typeMap = typeMap;
+      this.converter = converter;
+    }
+  }
+
+  MappingPlan(MappingEngineImpl engine, TypeToken<D> destinationTypeToken, String typeMapName) {
+    this.engine = engine;
+    this.typeMapStore = engine.getConfiguration().typeMapStore;
+    this.converterStore = engine.getConfiguration().converterStore;
+    this.destinationType = destinationTypeToken.getRawType();
+    this.genericDestinationType = destinationTypeToken.getType();
+    this.typeMapName = typeMapName;
+  }
+
+  /**
+   * Maps the {@code source} to a new instance of the plan's destination type.
+   */
+  public D map(Object source) {
+    return map(source, null, destinationType, genericDestinationType);
+  }
+
+  /**
+   * Maps the {@code source} to the {@code destination}.
+   */
+  public D map(Object source, D destination) {
+    Class<D> type = Types.<D>deProxy(destination.getClass());
+    return map(source, destination, type, type);
+  }
+
+  private D map(Object source, D destination, Class<D> destinationType, Type genericType) {
+    Class<Object> sourceType = Types.<Object>deProxy(source.getClass());
+    MappingContextImpl<Object, D> context = new MappingContextImpl<Object, D>(source, sourceType,
+        destination, destinationType, genericType, typeMapName, engine);
+    D result = null;
+
+    try {
+      Resolution<D> resolution = resolutionFor(context);
+      if (resolution.typeMap != null)
+        result = engine.typeMap(context, resolution.typeMap);
+      else if (resolution.converter != null)
+        result = engine.convert(context, resolution.converter);
+      else
+        result = engine.map(context);
+      context.setDestination(result, true);
+    } catch (ConfigurationException e) {
+      throw e;
+    } catch (ErrorsException e) {
+      throw context.errors().toMappingException();
+    } catch (Throwable t) {
+      context.errors().errorMapping(sourceType, genericType, t);
+    }
+
+    context.throwMappingExceptionIfErrorsExist();
+    return result;
+  }
+
+  /**
+   * Returns the resolution for the {@code context}'s types, resolving it the same way as
+   * {@link MappingEngineImpl#map(org.modelmapper.spi.MappingContext)} if the types differ from those
+   * last resolved or the TypeMaps or Converters have changed since.
+   */
+  private Resolution<D> resolutionFor(MappingContextImpl<Object, D> context) {
+    Resolution<D> current = resolution;
+    Class<Object> sourceType = context.getSourceType();
+    Class<D> destinationType = context.getDestinationType();
+    boolean providedDestination = context.getDestination() != null;
+    int typeMapStoreVersion = typeMapStore.version();
+    int converterStoreVersion = converterStore.version();
+    if (current != null && current.typeMapStoreVersion == typeMapStoreVersion
+        && current.converterStoreVersion == converterStoreVersion
+        && current.sourceType == sourceType
+        && current.destinationType == destinationType
+        && current.providedDestination == providedDestination)
+      return current;
+
+    TypeMap<Object, D> typeMap = typeMapStore.get(sourceType, destinationType, typeMapName);
+    Converter<Object, D> converter = null;
+    if (typeMap == null) {
+      converter = engine.converterFor(context);
+      if (providedDestination)
+        converter = null;
+      if (converter == null && !Primitives.isPrimitive(sourceType)
+          && !Primitives.isPrimitive(destinationType))
+        typeMap = typeMapStore.getOrCreate(context.getSource(), sourceType, destinationType,
+            typeMapName, engine);
+    }
+
+    current = new Resolution<D>(typeMapStoreVersion, converterStoreVersion, sourceType,
+        destinationType, providedDestination, typeMap, converter);
+    resolution = current;
+    return current;
+  }
+}
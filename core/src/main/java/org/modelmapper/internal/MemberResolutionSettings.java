@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.modelmapper.config.Configuration;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.spi.ConstructorInjector;
+import org.modelmapper.spi.NameTransformer;
+import org.modelmapper.spi.NamingConvention;
+
+/**
+ * An immutable snapshot of the configuration settings that determine how the members of a type are
+ * resolved into properties. The TypeInfo, PropertyInfo and visited mapping registries are keyed by
+ * these settings rather than by configurations, so that configurations which differ only in other
+ * settings share the same metadata, and so that the registries neither retain configurations nor
+ * are affected by later changes to them.
+ */
+final class MemberResolutionSettings {
+  private final NameTransformer sourceNameTransformer;
+  private final NameTransformer destinationNameTransformer;
+  private final NamingConvention sourceNamingConvention;
+  private final NamingConvention destinationNamingConvention;
+  private final AccessLevel fieldAccessLevel;
+  private final AccessLevel methodAccessLevel;
+  private final boolean fieldMatchingEnabled;
+  private final boolean generatedAccessorsEnabled;
+  private final List<ConstructorInjector> constructorInjectors;
+  private final int hashCode;
+
+  MemberResolutionSettings(Configuration configuration) {
+    sourceNameTransformer = configuration.getSourceNameTransformer();
+    destinationNameTransformer = configuration.getDestinationNameTransformer();
+    sourceNamingConvention = configuration.getSourceNamingConvention();
+    destinationNamingConvention = configuration.getDestinationNamingConvention();
+    fieldAccessLevel = configuration.getFieldAccessLevel();
+    methodAccessLevel = configuration.getMethodAccessLevel();
+    fieldMatchingEnabled = configuration.isFieldMatchingEnabled();
+    generatedAccessorsEnabled = configuration.isGeneratedAccessorsEnabled();
+    List<ConstructorInjector> injectors = configuration.getConstructorInjectors();
+    constructorInjectors = injectors.isEmpty() ? Collections.<ConstructorInjector>emptyList()
+        : new ArrayList<ConstructorInjector>(injectors);
+    hashCode = computeHashCode();
+  }
+
+  /**
+   * Returns the member resolution settings of the {@code configuration}.
+   */
+  static MemberResolutionSettings of(Configuration configuration) {
+    return configuration instanceof InheritingConfiguration
+        ? ((InheritingConfiguration) configuration).memberResolutionSettings()
+        : new MemberResolutionSettings(configuration);
+  }
+
+  /**
+   * Returns whether the settings were taken with the {@code constructorInjectors}. The injectors
+   * are compared since the list of injectors can be modified in place.
+   */
+  boolean hasConstructorInjectors(List<ConstructorInjector> constructorInjectors) {
+    return this.constructorInjectors.equals(constructorInjectors);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
+    if (!(obj instanceof MemberResolutionSettings))
+      return false;
+    MemberResolutionSettings other = (MemberResolutionSettings) obj;
+    return hashCode == other.hashCode
+        && sourceNameTransformer.equals(other.sourceNameTransformer)
+        && destinationNameTransformer.equals(other.destinationNameTransformer)
+        && fieldAccessLevel == other.fieldAccessLevel
+        && methodAccessLevel == other.methodAccessLevel
+        && fieldMatchingEnabled == other.fieldMatchingEnabled
+        && generatedAccessorsEnabled == other.generatedAccessorsEnabled
+        && sourceNamingConvention.equals(other.sourceNamingConvention)
+        && destinationNamingConvention.equals(other.destinationNamingConvention)
+        && constructorInjectors.equals(other.constructorInjectors);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + sourceNameTransformer.hashCode();
+    result = prime * result + destinationNameTransformer.hashCode();
+    result = prime * result + fieldAccessLevel.hashCode();
+    result = prime * result + methodAccessLevel.hashCode();
+    result = prime * result + sourceNamingConvention.hashCode();
+    result = prime * result + constructorInjectors.hashCode();
+    result = prime * result + destinationNamingConvention.hashCode();
+    result = prime * result + (fieldMatchingEnabled ? 1231 : 1237);
+    result = prime * result + (generatedAccessorsEnabled ? 1231 : 1237);
+    return result;
+  }
+}
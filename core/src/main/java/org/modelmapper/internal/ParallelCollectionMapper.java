@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.modelmapper.config.Configuration;
+import org.modelmapper.internal.util.Iterables;
+import org.modelmapper.spi.MappingContext;
+
+/**
+ * Maps the elements of a source collection or array in parallel. Elements are split into chunks
+ * which are mapped concurrently by the configured
+ * {@link org.modelmapper.config.Configuration#getParallelCollectionExecutor() executor}, each chunk
+ * within its own forked request state, and the results are reassembled in source order. The errors
+ * of every chunk are merged into the mapping request's errors once all chunks are mapped.
+ *
+ * <p>
+ * Each chunk is mapped by whichever thread claims it first. The calling thread claims and maps any
+ * chunks that the executor has not yet started before waiting on the others, so that nested
+ * collections mapped in parallel from within a chunk cannot exhaust a bounded executor with
+ * threads that wait on chunks which are still queued.
+ */
+public final class ParallelCollectionMapper {
+  /** Number of chunks to create per thread, so that chunks of uneven cost are balanced */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private ParallelCollectionMapper() {
+  }
+
+  /**
+   * Returns whether the elements of the {@code source} collection or array, which is being mapped
+   * in the {@code context}, should be mapped in parallel.
+   */
+  public static boolean appliesTo(MappingContext<?, ?> context, Object source) {
+    if (!(context instanceof MappingContextImpl))
+      return false;
+    int threshold = ((MappingEngineImpl) context.getMappingEngine()).getConfiguration()
+        .getParallelCollectionThreshold();
+    return threshold > 0 && Iterables.getLength(source) >= threshold;
+  }
+
+  /**
+   * Maps the elements of the {@code source} collection or array, which is being mapped in the
+   * {@code context}, to instances of the {@code elementType}, or onto the elements at the same index
+   * of the {@code destination} collection or array when it is not {@code null}.
+   *
+   * @return the mapped elements in source order
+   */
+  public static Object[] map(MappingContext<?, ?> context, Object source, Object destination,
+      Class<?> elementType) {
+    MappingContextImpl<?, ?> contextImpl = (MappingContextImpl<?, ?>) context;
+    Object[] sources = toArray(source, Iterables.getLength(source));
+    Object[] results = new Object[sources.length];
+    if (destination != null) {
+      Iterator<Object> iterator = Iterables.iterator(destination);
+      for (int i = 0; i < results.length && iterator.hasNext(); i++)
+        results[i] = iterator.next();
+    }
+
+    Configuration configuration = ((MappingEngineImpl) context.getMappingEngine())
+        .getConfiguration();
+    Executor executor = configuration.getParallelCollectionExecutor();
+    if (executor == null)
+      executor = ForkJoinPool.commonPool();
+    int parallelism = configuration.getParallelCollectionParallelism();
+    if (parallelism == 0)
+      parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+          : Runtime.getRuntime().availableProcessors();
+    int chunkCount = Math.max(1, Math.min(sources.length, parallelism * CHUNKS_PER_THREAD));
+    int chunkSize = (sources.length + chunkCount - 1) / chunkCount;
+
+    List<Chunk> chunks = new ArrayList<Chunk>(chunkCount);
+    for (int start = 0; start < sources.length; start += chunkSize)
+      chunks.add(new Chunk(contextImpl, elementType, sources, results, start,
+          Math.min(start + chunkSize, sources.length)));
+
+    // Submit all but the first chunk, then map every chunk not yet claimed by the executor
+    for (int i = 1; i < chunks.size(); i++) {
+      try {
+        executor.execute(chunks.get(i));
+      } catch (RejectedExecutionException ignore) {
+      }
+    }
+    for (Chunk chunk : chunks)
+      chunk.run();
+    for (Chunk chunk : chunks)
+      chunk.done.join();
+
+    Throwable failure = null;
+    for (Chunk chunk : chunks) {
+      contextImpl.join(chunk.fork);
+      if (failure == null)
+        failure = chunk.failure;
+    }
+
+    if (failure instanceof ErrorsException)
+      throw contextImpl.errors().toException();
+    if (failure instanceof RuntimeException)
+      throw (RuntimeException) failure;
+    if (failure instanceof Error)
+      throw (Error) failure;
+    return results;
+  }
+
+  private static Object[] toArray(Object source, int length) {
+    Object[] result = new Object[length];
+    Iterator<Object> iterator = Iterables.iterator(source);
+    for (int i = 0; i < length && iterator.hasNext(); i++)
+      result[i] = iterator.next();
+    return result;
+  }
+
+  /** Maps a range of elements within its own forked request state, once */
+  private static class Chunk implements Runnable {
+    final MappingContextImpl<?, ?> context;
+    final MappingContextImpl<?, ?> fork;
+    final Class<Object> elementType;
+    final Object[] sources;
+    final Object[] results;
+    final int start;
+    final int end;
+    final AtomicBoolean claimed = new AtomicBoolean();
+    /** Completed once the chunk is mapped */
+    final CompletableFuture<Void> done = new CompletableFuture<Void>();
+    Throwable failure;
+
+    @SuppressWarnings("unchecked")
+    Chunk(MappingContextImpl<?, ?> context, Class<?> elementType, Object[] sources,
+        Object[] results, int start, int end) {
+      this.context = context;
+      this.fork = context.fork();
+      this.elementType = (Class<Object>) elementType;
+      this.sources = sources;
+      this.results = results;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * Maps the chunk's elements unless the chunk was already claimed by another thread.
+     */
+    @Override
+    public void run() {
+      if (!claimed.compareAndSet(false, true))
+        return;
+      try {
+        for (int i = start; i < end; i++) {
+          if (sources[i] != null) {
+            MappingContext<Object, Object> elementContext = context.createElement(fork, sources[i],
+                results[i], elementType);
+            results[i] = context.getMappingEngine().map(elementContext);
+          }
+        }
+      } catch (Throwable t) {
+        failure = t;
+      } finally {
+        done.complete(null);
+      }
+    }
+  }
+}
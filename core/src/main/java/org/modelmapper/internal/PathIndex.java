@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.modelmapper.spi.Mapping;
+import org.modelmapper.spi.PropertyInfo;
+import org.modelmapper.spi.PropertyMapping;
+
+/**
+ * Immutable index of a TypeMap's sorted mappings which assigns an ID to every path, relative to the
+ * TypeMap, along the mappings' source accessor and destination mutator chains. Paths are built once
+ * when the index is created, so that the engine can look them up by ID rather than concatenating
+ * them for every mapped property, and keep per path state in arrays indexed by ID.
+ *
+ * <p>
+ * Source and destination paths with the same names share an ID. IDs are assigned in path order,
+ * so the IDs of a path's descendants immediately follow the path's own ID.
+ */
+final class PathIndex {
+  /** Mappings sorted by destination path */
+  final Mapping[] mappings;
+  /** IDs of the paths along each mapping's accessor chain, indexed like the mappings */
+  final int[][] sourcePathIds;
+  /**
+   * IDs of the paths along each mapping's mutator chain, indexed like the mappings. The last ID is
+   * that of the mapping's own path.
+   */
+  final int[][] destinationPathIds;
+  /** Paths by ID */
+  final String[] paths;
+  /** For each path ID, the ID following the last of the path's descendants */
+  private final int[] descendantsEnd;
+  private final Map<String, Integer> ids;
+
+  private PathIndex(Mapping[] mappings) {
+    this.mappings = mappings;
+    sourcePathIds = new int[mappings.length][];
+    destinationPathIds = new int[mappings.length][];
+
+    Map<String, Integer> ids = new TreeMap<String, Integer>();
+    String[][] sourcePaths = new String[mappings.length][];
+    String[][] destinationPaths = new String[mappings.length][];
+    for (int i = 0; i < mappings.length; i++) {
+      Mapping mapping = mappings[i];
+      sourcePaths[i] = mapping instanceof PropertyMapping
+          ? pathsFor(((PropertyMapping) mapping).getSourceProperties(), ids)
+          : new String[0];
+      destinationPaths[i] = pathsFor(mapping.getDestinationProperties(), ids);
+    }
+
+    paths = new String[ids.size()];
+    int id = 0;
+    for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+      paths[id] = entry.getKey();
+      entry.setValue(Integer.valueOf(id++));
+    }
+
+    for (int i = 0; i < mappings.length; i++) {
+      sourcePathIds[i] = idsFor(sourcePaths[i], ids);
+      destinationPathIds[i] = idsFor(destinationPaths[i], ids);
+    }
+
+    descendantsEnd = new int[paths.length];
+    for (int i = 0; i < paths.length; i++) {
+      int end = i + 1;
+      while (end < paths.length && paths[end].startsWith(paths[i]))
+        end++;
+      descendantsEnd[i] = end;
+    }
+    this.ids = new HashMap<String, Integer>(ids);
+  }
+
+  static PathIndex of(Collection<? extends Mapping> mappings) {
+    return new PathIndex(mappings.toArray(new Mapping[0]));
+  }
+
+  /**
+   * Returns the number of distinct paths.
+   */
+  int size() {
+    return paths.length;
+  }
+
+  /**
+   * Returns the ID of the destination path of the mapping at {@code mappingIndex}.
+   */
+  int pathIdOf(int mappingIndex) {
+    int[] ids = destinationPathIds[mappingIndex];
+    return ids[ids.length - 1];
+  }
+
+  /**
+   * Returns the ID of the {@code path}, else -1 if the path is not indexed.
+   */
+  int idOf(String path) {
+    Integer id = ids.get(path);
+    return id == null ? -1 : id.intValue();
+  }
+
+  /**
+   * Returns the ID following the last ID of the descendants of the path with the {@code pathId}.
+   * The path and its descendants thus have the IDs from {@code pathId} up to the returned ID.
+   */
+  int descendantsEnd(int pathId) {
+    return descendantsEnd[pathId];
+  }
+
+  private static String[] pathsFor(List<? extends PropertyInfo> properties,
+      Map<String, Integer> ids) {
+    String[] result = new String[properties.size()];
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < result.length; i++) {
+      result[i] = builder.append(properties.get(i).getName()).append('.').toString();
+      ids.put(result[i], null);
+    }
+    return result;
+  }
+
+  private static int[] idsFor(String[] paths, Map<String, Integer> ids) {
+    int[] result = new int[paths.length];
+    for (int i = 0; i < paths.length; i++)
+      result[i] = ids.get(paths[i]);
+    return result;
+  }
+}
@@ -18,9 +18,12 @@ package org.modelmapper.internal;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import net.jodah.typetools.TypeResolver;
 import org.modelmapper.ConstructorParam;
 import org.modelmapper.spi.PropertyInfo;
@@ -53,9 +56,19 @@ abstract class PropertyInfoImpl<M extends Member> implements PropertyInfo {
   }
 
   static class FieldPropertyInfo extends PropertyInfoImpl<Field> implements Accessor, Mutator {
+    /** Generated invokers, else {@code null} to access the field reflectively */
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
     FieldPropertyInfo(Class<?> initialType, Field field, String name) {
+      this(initialType, field, name, false);
+    }
+
+    FieldPropertyInfo(Class<?> initialType, Field field, String name, boolean generateInvokers) {
       super(initialType, field, PropertyType.FIELD, name);
       field.setAccessible(true);
+      getter = generateInvokers ? InvokerFactory.getterFor(field) : null;
+      setter = generateInvokers ? InvokerFactory.setterFor(field) : null;
     }
 
     public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
@@ -68,7 +81,7 @@ abstract class PropertyInfoImpl<M extends Member> implements PropertyInfo {
 
     public Object getValue(Object subject) {
       try {
-        return member.get(subject);
+        return getter == null ? member.get(subject) : getter.apply(subject);
       } catch (Exception e) {
         throw new Errors().errorGettingValue(member, e).toMappingException();
       }
@@ -76,7 +89,10 @@ abstract class PropertyInfoImpl<M extends Member> implements PropertyInfo {
 
     public void setValue(Object subject, Object value) {
       try {
-        member.set(subject, value);
+        if (setter == null)
+          member.set(subject, value);
+        else
+          setter.accept(subject, value);
       } catch (Exception e) {
         throw new Errors().errorSettingValue(member, value, e).toMappingException();
       }
@@ -88,8 +104,16 @@ abstract class PropertyInfoImpl<M extends Member> implements PropertyInfo {
   }
 
   static class MethodAccessor extends AbstractMethodInfo implements Accessor {
+    /** Generated invoker, else {@code null} to invoke the method reflectively */
+    private final Function<Object, Object> invoker;
+
     MethodAccessor(Class<?> initialType, Method method, String name) {
+      this(initialType, method, name, false);
+    }
+
+    MethodAccessor(Class<?> initialType, Method method, String name, boolean generateInvoker) {
       super(initialType, method, name);
+      invoker = generateInvoker ? InvokerFactory.getterFor(method) : null;
     }
 
     public Type getGenericType() {
@@ -97,6 +121,15 @@ abstract class PropertyInfoImpl<M extends Member> implements PropertyInfo {
     }
 
     public Object getValue(Object subject) {
+      if (invoker != null)
+        try {
+          return invoker.apply(subject);
+        } catch (Throwable t) {
+          // Report the method's failures as wrapped by reflective invocation
+          throw new Errors().errorGettingValue(member, new InvocationTargetException(t))
+              .toMappingException();
+        }
+
       try {
         return member.invoke(subject);
       } catch (IllegalAccessException e) {
@@ -145,8 +178,16 @@ abstract class PropertyInfoImpl<M extends Member> implements PropertyInfo {
   }
 
   static class MethodMutator extends AbstractMethodInfo implements Mutator {
+    /** Generated invoker, else {@code null} to invoke the method reflectively */
+    private final BiConsumer<Object, Object> invoker;
+
     MethodMutator(Class<?> initialType, Method method, String name) {
+      this(initialType, method, name, false);
+    }
+
+    MethodMutator(Class<?> initialType, Method method, String name, boolean generateInvoker) {
       super(initialType, method, name);
+      invoker = generateInvoker ? InvokerFactory.setterFor(method) : null;
     }
 
     public Type getGenericType() {
@@ -154,6 +195,16 @@ abstract class PropertyInfoImpl<M extends Member> implements PropertyInfo {
     }
 
     public void setValue(Object subject, Object value) {
+      if (invoker != null)
+        try {
+          invoker.accept(subject, value);
+          return;
+        } catch (Throwable t) {
+          // Report the method's failures as wrapped by reflective invocation
+          throw new Errors().errorSettingValue(member, value, new InvocationTargetException(t))
+              .toMappingException();
+        }
+
       try {
         member.invoke(subject, value);
       } catch (Exception e) {
@@ -17,9 +17,7 @@ package org.modelmapper.internal;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.modelmapper.config.Configuration;
 import org.modelmapper.internal.PropertyInfoImpl.FieldPropertyInfo;
@@ -27,27 +25,34 @@ import org.modelmapper.internal.PropertyInfoImpl.MethodAccessor;
 import org.modelmapper.internal.PropertyInfoImpl.MethodMutator;
 
 /**
- * Statically stores and retrieves MemberInfo by member and configuration. This registry is designed
- * to return a distinct PropertyInfo instance for each initial type, member and configuration object
- * set.
+ * Statically stores and retrieves MemberInfo by member and the configuration's member resolution
+ * settings. This registry is designed to return a distinct PropertyInfo instance for each initial
+ * type, member and member resolution settings set.
  * 
  * @author Jonathan Halterman
  */
 class PropertyInfoRegistry {
 
-  private static final Map<PropertyInfoKey, Mutator> MUTATOR_CACHE = new ConcurrentHashMap<PropertyInfoKey, Mutator>();
-  private static final Map<PropertyInfoKey, Accessor> ACCESSOR_CACHE = new ConcurrentHashMap<PropertyInfoKey, Accessor>();
-  private static final Map<PropertyInfoKey, FieldPropertyInfo> FIELD_CACHE = new ConcurrentHashMap<PropertyInfoKey, FieldPropertyInfo>();
+  /** Maximum number of properties to cache per initial type, across configurations */
+  private static final int MAX_PROPERTIES_PER_TYPE = 1024;
+  private static final RegistryCache<PropertyInfoKey, Mutator> MUTATOR_CACHE =
+      new RegistryCache<PropertyInfoKey, Mutator>("Mutator", MAX_PROPERTIES_PER_TYPE);
+  private static final RegistryCache<PropertyInfoKey, Accessor> ACCESSOR_CACHE =
+      new RegistryCache<PropertyInfoKey, Accessor>("Accessor", MAX_PROPERTIES_PER_TYPE);
+  private static final RegistryCache<PropertyInfoKey, FieldPropertyInfo> FIELD_CACHE =
+      new RegistryCache<PropertyInfoKey, FieldPropertyInfo>("FieldPropertyInfo",
+          MAX_PROPERTIES_PER_TYPE);
 
+  /**
+   * Identifies a property of an initial type, which the caches are keyed by.
+   */
   private static class PropertyInfoKey {
-    private final Class<?> initialType;
     private final String propertyName;
-    private final Configuration configuration;
+    private final MemberResolutionSettings settings;
 
-    PropertyInfoKey(Class<?> initialType, String propertyName, Configuration configuration) {
-      this.initialType = initialType;
+    PropertyInfoKey(String propertyName, Configuration configuration) {
       this.propertyName = propertyName;
-      this.configuration = configuration;
+      this.settings = MemberResolutionSettings.of(configuration);
     }
 
     @Override
@@ -57,15 +62,13 @@ class PropertyInfoRegistry {
       if (!(o instanceof PropertyInfoKey))
         return false;
       PropertyInfoKey other = (PropertyInfoKey) o;
-      return initialType.equals(other.initialType) && propertyName.equals(other.propertyName)
-          && configuration.equals(other.configuration);
+      return propertyName.equals(other.propertyName) && settings.equals(other.settings);
     }
 
     @Override
     public int hashCode() {
-      int result = 31 + initialType.hashCode();
-      result = 31 * result + propertyName.hashCode();
-      result = 31 * result + configuration.hashCode();
+      int result = 31 + propertyName.hashCode();
+      result = 31 * result + settings.hashCode();
       return result;
     }
   }
@@ -74,35 +77,34 @@ class PropertyInfoRegistry {
    * Returns an accessor for the {@code accessorName}, else {@code null} if none exists.
    */
   static Accessor accessorFor(Class<?> type, String accessorName, InheritingConfiguration configuration) {
-    PropertyInfoKey key = new PropertyInfoKey(type, accessorName, configuration);
-    if (!ACCESSOR_CACHE.containsKey(key) && !FIELD_CACHE.containsKey(key)) {
+    PropertyInfoKey key = new PropertyInfoKey(accessorName, configuration);
+    Accessor accessor = cachedAccessor(type, key);
+    if (accessor == null) {
       @SuppressWarnings("unchecked")
       Class<Object> uncheckedType = (Class<Object>) type;
-      for (Entry<String, Accessor> entry : TypeInfoRegistry.typeInfoFor(uncheckedType, configuration).getAccessors().entrySet()) {
+      for (Entry<String, Accessor> entry : TypeInfoRegistry.typeInfoFor(uncheckedType, configuration).getAccessors(configuration).entrySet()) {
         if (entry.getValue().getMember() instanceof Method)
           accessorFor(type, (Method) entry.getValue().getMember(), configuration, entry.getKey());
         else if (entry.getValue().getMember() instanceof Field)
           fieldPropertyFor(type, (Field) entry.getValue().getMember(), configuration, entry.getKey());
       }
+      accessor = cachedAccessor(type, key);
     }
 
-    if (ACCESSOR_CACHE.containsKey(key))
-      return ACCESSOR_CACHE.get(key);
-    return FIELD_CACHE.get(key);
+    return accessor;
   }
 
   /**
    * Returns an Accessor for the given accessor method. The method must be externally validated to
    * ensure that it accepts zero arguments and does not return void.class.
    */
-  static synchronized Accessor accessorFor(Class<?> type, Method method,
+  static Accessor accessorFor(Class<?> type, Method method,
       Configuration configuration, String name) {
-    PropertyInfoKey key = new PropertyInfoKey(type, name, configuration);
-    Accessor accessor = ACCESSOR_CACHE.get(key);
-    if (accessor == null) {
-      accessor = new MethodAccessor(type, method, name);
-      ACCESSOR_CACHE.put(key, accessor);
-    }
+    PropertyInfoKey key = new PropertyInfoKey(name, configuration);
+    Accessor accessor = ACCESSOR_CACHE.get(type, key);
+    if (accessor == null)
+      accessor = ACCESSOR_CACHE.putIfAbsent(type, key, new MethodAccessor(type, method, name,
+          configuration.isGeneratedAccessorsEnabled()));
 
     return accessor;
   }
@@ -110,14 +112,13 @@ class PropertyInfoRegistry {
   /**
    * Returns a FieldPropertyInfo instance for the given field.
    */
-  static synchronized FieldPropertyInfo fieldPropertyFor(Class<?> type, Field field,
+  static FieldPropertyInfo fieldPropertyFor(Class<?> type, Field field,
       Configuration configuration, String name) {
-    PropertyInfoKey key = new PropertyInfoKey(type, name, configuration);
-    FieldPropertyInfo fieldPropertyInfo = FIELD_CACHE.get(key);
-    if (fieldPropertyInfo == null) {
-      fieldPropertyInfo = new FieldPropertyInfo(type, field, name);
-      FIELD_CACHE.put(key, fieldPropertyInfo);
-    }
+    PropertyInfoKey key = new PropertyInfoKey(name, configuration);
+    FieldPropertyInfo fieldPropertyInfo = FIELD_CACHE.get(type, key);
+    if (fieldPropertyInfo == null)
+      fieldPropertyInfo = FIELD_CACHE.putIfAbsent(type, key, new FieldPropertyInfo(type, field,
+          name, configuration.isGeneratedAccessorsEnabled()));
 
     return fieldPropertyInfo;
   }
@@ -127,37 +128,46 @@ class PropertyInfoRegistry {
    * Returns a Mutator instance for the given mutator method. The method must be externally
    * validated to ensure that it accepts one argument and returns void.class.
    */
-  static synchronized Mutator mutatorFor(Class<?> type, String name, InheritingConfiguration configuration) {
-    PropertyInfoKey key = new PropertyInfoKey(type, name, configuration);
-    if (!MUTATOR_CACHE.containsKey(key) && !FIELD_CACHE.containsKey(key)) {
+  static Mutator mutatorFor(Class<?> type, String name, InheritingConfiguration configuration) {
+    PropertyInfoKey key = new PropertyInfoKey(name, configuration);
+    Mutator mutator = cachedMutator(type, key);
+    if (mutator == null) {
       @SuppressWarnings("unchecked")
       Class<Object> uncheckedType = (Class<Object>) type;
-      for (Entry<String, Mutator> entry : TypeInfoRegistry.typeInfoFor(uncheckedType, configuration).getMutators().entrySet()) {
+      for (Entry<String, Mutator> entry : TypeInfoRegistry.typeInfoFor(uncheckedType, configuration).getMutators(configuration).entrySet()) {
         if (entry.getValue().getMember() instanceof Method)
           mutatorFor(type, (Method) entry.getValue().getMember(), configuration, entry.getKey());
         else if (entry.getValue().getMember() instanceof Field)
           fieldPropertyFor(type, (Field) entry.getValue().getMember(), configuration, entry.getKey());
       }
+      mutator = cachedMutator(type, key);
     }
 
-    if (MUTATOR_CACHE.containsKey(key))
-      return MUTATOR_CACHE.get(key);
-    return FIELD_CACHE.get(key);
+    return mutator;
   }
 
   /**
    * Returns a Mutator instance for the given mutator method. The method must be externally
    * validated to ensure that it accepts one argument and returns void.class.
    */
-  static synchronized Mutator mutatorFor(Class<?> type, Method method, Configuration configuration,
+  static Mutator mutatorFor(Class<?> type, Method method, Configuration configuration,
       String name) {
-    PropertyInfoKey key = new PropertyInfoKey(type, name, configuration);
-    Mutator mutator = MUTATOR_CACHE.get(key);
-    if (mutator == null) {
-      mutator = new MethodMutator(type, method, name);
-      MUTATOR_CACHE.put(key, mutator);
-    }
+    PropertyInfoKey key = new PropertyInfoKey(name, configuration);
+    Mutator mutator = MUTATOR_CACHE.get(type, key);
+    if (mutator == null)
+      mutator = MUTATOR_CACHE.putIfAbsent(type, key, new MethodMutator(type, method, name,
+          configuration.isGeneratedAccessorsEnabled()));
 
     return mutator;
   }
+
+  private static Accessor cachedAccessor(Class<?> type, PropertyInfoKey key) {
+    Accessor accessor = ACCESSOR_CACHE.get(type, key);
+    return accessor == null ? FIELD_CACHE.get(type, key) : accessor;
+  }
+
+  private static Mutator cachedMutator(Class<?> type, PropertyInfoKey key) {
+    Mutator mutator = MUTATOR_CACHE.get(type, key);
+    return mutator == null ? FIELD_CACHE.get(type, key) : mutator;
+  }
 }
@@ -15,7 +15,7 @@
  */
 package org.modelmapper.internal;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import org.modelmapper.config.Configuration;
@@ -24,29 +24,33 @@ import org.modelmapper.internal.util.ToStringBuilder;
 import org.modelmapper.spi.NameableType;
 import org.modelmapper.spi.PropertyInfo;
 import org.modelmapper.spi.PropertyNameInfo;
+import org.modelmapper.spi.TokenMatchMemo;
 import org.modelmapper.spi.Tokens;
 
 /**
- * PropertyNameInfo implementation that tracks source and destination properties.
+ * PropertyNameInfo implementation that tracks source and destination properties, and memoizes
+ * token matches. Tokens are shared via the configuration's TokensRegistry, so token matches are
+ * memoized by identity.
  * 
  * @author Jonathan Halterman
  */
-class PropertyNameInfoImpl implements PropertyNameInfo {
+class PropertyNameInfoImpl implements PropertyNameInfo, TokenMatchMemo {
   private final Class<?> sourceClass;
   private final Configuration configuration;
+  private final TokensRegistry tokensRegistry;
   private Tokens sourceClassTokens;
   private Stack<Tokens> sourcePropertyTypeTokens;
   private final Stack<Tokens> sourcePropertyTokens = new Stack<Tokens>();
   private final Stack<Tokens> destinationPropertyTokens = new Stack<Tokens>();
   private final Stack<PropertyInfo> sourceProperties = new Stack<PropertyInfo>();
   private final Stack<PropertyInfo> destinationProperties = new Stack<PropertyInfo>();
+  private final Map<Tokens, Map<Tokens, int[]>> tokenMatches =
+      new IdentityHashMap<Tokens, Map<Tokens, int[]>>();
 
-  private final Map<PropertyInfo, Tokens> sourceTypeTokensCache = new HashMap<PropertyInfo, Tokens>();
-  private final Map<String, Tokens> sourceTokensCache = new HashMap<String, Tokens>();
-
-  PropertyNameInfoImpl(Class<?> sourceClass, Configuration configuration) {
+  PropertyNameInfoImpl(Class<?> sourceClass, InheritingConfiguration configuration) {
     this.sourceClass = sourceClass;
     this.configuration = configuration;
+    this.tokensRegistry = configuration.tokensRegistry;
   }
 
   @Override
@@ -64,8 +68,8 @@ class PropertyNameInfoImpl implements PropertyNameInfo {
     if (sourceClassTokens == null) {
       String className = configuration.getSourceNameTransformer().transform(
           sourceClass.getSimpleName(), NameableType.CLASS);
-      sourceClassTokens = Tokens.of(configuration.getSourceNameTokenizer().tokenize(className,
-          NameableType.CLASS));
+      sourceClassTokens = tokensRegistry.tokensFor(configuration.getSourceNameTokenizer(),
+          className, NameableType.CLASS);
     }
 
     return sourceClassTokens;
@@ -92,9 +96,26 @@ class PropertyNameInfoImpl implements PropertyNameInfo {
     return sourcePropertyTypeTokens;
   }
 
+  @Override
+  public int[] getTokenMatches(Tokens sourceTokens, Tokens destinationTokens) {
+    Map<Tokens, int[]> sourceMatches = tokenMatches.get(sourceTokens);
+    return sourceMatches == null ? null : sourceMatches.get(destinationTokens);
+  }
+
+  @Override
+  public void putTokenMatches(Tokens sourceTokens, Tokens destinationTokens, int[] matches) {
+    Map<Tokens, int[]> sourceMatches = tokenMatches.get(sourceTokens);
+    if (sourceMatches == null) {
+      sourceMatches = new IdentityHashMap<Tokens, int[]>();
+      tokenMatches.put(sourceTokens, sourceMatches);
+    }
+    sourceMatches.put(destinationTokens, matches);
+  }
+
   @Override
   public String toString() {
-    return new ToStringBuilder(PropertyNameInfoImpl.class).add("sourceProperties", sourceProperties)
+    return new ToStringBuilder(PropertyNameInfoImpl.class)
+        .add("sourceProperties", sourceProperties)
         .add("destinationProperties", destinationProperties)
         .toString();
   }
@@ -119,20 +140,17 @@ class PropertyNameInfoImpl implements PropertyNameInfo {
   }
 
   void pushDestination(String destinationName, Mutator destinationProperty) {
-    NameableType nameableType = NameableType.forPropertyType(destinationProperty.getPropertyType());
-    String[] tokens = configuration.getDestinationNameTokenizer().tokenize(
-        destinationName, nameableType);
-    destinationPropertyTokens.push(Tokens.of(tokens));
+    NameableType nameableType =
+        NameableType.forPropertyType(destinationProperty.getPropertyType());
+    destinationPropertyTokens.push(tokensRegistry.tokensFor(
+        configuration.getDestinationNameTokenizer(), destinationName, nameableType));
     destinationProperties.push(destinationProperty);
   }
 
   void pushSource(String sourceName, Accessor sourceProperty) {
     NameableType nameableType = NameableType.forPropertyType(sourceProperty.getPropertyType());
-    if (!sourceTokensCache.containsKey(sourceName)) {
-      sourceTokensCache.put(sourceName, Tokens.of(configuration.getSourceNameTokenizer()
-          .tokenize(sourceName, nameableType)));
-    }
-    sourcePropertyTokens.push(sourceTokensCache.get(sourceName));
+    sourcePropertyTokens.push(tokensRegistry.tokensFor(configuration.getSourceNameTokenizer(),
+        sourceName, nameableType));
     sourceProperties.push(sourceProperty);
     pushSourcePropertyType(sourceProperty);
   }
@@ -140,12 +158,9 @@ class PropertyNameInfoImpl implements PropertyNameInfo {
   private void pushSourcePropertyType(PropertyInfo sourceProperty) {
     if (sourcePropertyTypeTokens == null)
       return;
-    if (!sourceTypeTokensCache.containsKey(sourceProperty)) {
-      String typeName = configuration.getSourceNameTransformer().transform(
-          sourceProperty.getType().getSimpleName(), NameableType.CLASS);
-      sourceTypeTokensCache.put(sourceProperty, Tokens.of(configuration.getSourceNameTokenizer()
-          .tokenize(typeName, NameableType.CLASS)));
-    }
-    sourcePropertyTypeTokens.add(sourceTypeTokensCache.get(sourceProperty));
+    String typeName = configuration.getSourceNameTransformer().transform(
+        sourceProperty.getType().getSimpleName(), NameableType.CLASS);
+    sourcePropertyTypeTokens.add(tokensRegistry.tokensFor(configuration.getSourceNameTokenizer(),
+        typeName, NameableType.CLASS));
   }
 }
\ No newline at end of file
@@ -131,7 +131,7 @@ class PropertyReferenceCollector {
           propertyName));
     } else if (PropertyInfoResolver.ACCESSORS.isValid(method)) {
       Mutator mutator = TypeInfoRegistry.typeInfoFor(type, config).mutatorForAccessorMethod(
-          method.getName());
+          method.getName(), config);
       if (mutator != null)
         mutators.add(mutator);
       else
@@ -19,11 +19,15 @@ import static net.bytebuddy.NamingStrategy.SuffixingRandom.NO_PREFIX;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
+import java.util.Map;
+import java.util.WeakHashMap;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.method.MethodDescription;
@@ -47,6 +51,31 @@ class ProxyFactory {
       .with(new NamingStrategy.SuffixingRandom("ByteBuddy", NO_PREFIX));
   private static final ElementMatcher<? super MethodDescription> METHOD_FILTER = not(
       named("hashCode").or(named("equals")));
+  private static final String HANDLER_FIELD = "$mmHandler";
+  /**
+   * Generated proxy classes by proxied type, and by the ClassLoader they were loaded into. Proxy
+   * classes are weakly referenced since they strongly reference their ClassLoader.
+   */
+  private static final ClassValue<Map<ClassLoader, WeakReference<Class<?>>>> PROXY_CLASSES =
+      new ClassValue<Map<ClassLoader, WeakReference<Class<?>>>>() {
+        @Override
+        protected Map<ClassLoader, WeakReference<Class<?>>> computeValue(Class<?> type) {
+          return new WeakHashMap<ClassLoader, WeakReference<Class<?>>>();
+        }
+      };
+  /** Handler fields by proxy class */
+  private static final ClassValue<Field> HANDLER_FIELDS = new ClassValue<Field>() {
+    @Override
+    protected Field computeValue(Class<?> proxyClass) {
+      try {
+        Field field = proxyClass.getDeclaredField(HANDLER_FIELD);
+        field.setAccessible(true);
+        return field;
+      } catch (NoSuchFieldException e) {
+        throw new IllegalStateException("Failed to find proxy handler field", e);
+      }
+    }
+  };
   private static final Method PRIVATE_LOOKUP_IN;
   private static final Object LOOKUP;
 
@@ -90,32 +119,14 @@ class ProxyFactory {
       throw errors.invocationAgainstFinalClass(type).toException();
 
     try {
-      final DynamicType.Unloaded<T> unloaded = BYTEBUDDY
-          .subclass(type)
-          .defineField("$mmHandler", InvocationHandler.class, Modifier.PRIVATE)
-          .method(METHOD_FILTER)
-          .intercept(InvocationHandlerAdapter.toField("$mmHandler"))
-          .make();
-      final ClassLoadingStrategy<ClassLoader> classLoadingStrategy = chooseClassLoadingStrategy(type);
       final ClassLoader classLoader = useOSGiClassLoaderBridging
           ? BridgeClassLoaderFactory.getClassLoader(type)
           : type.getClassLoader();
-      final T instance;
-      if (classLoadingStrategy != null) {
-        instance = OBJENESIS.newInstance(unloaded
-            .load(classLoader, classLoadingStrategy)
-            .getLoaded());
-      } else {
-        instance = OBJENESIS.newInstance(unloaded
-            .load(classLoader)
-            .getLoaded());
-      }
+      final T instance = OBJENESIS.newInstance(proxyClassFor(type, classLoader));
       // set the handler per instance to avoid class-static retention of the interceptor
       try {
-        java.lang.reflect.Field f = instance.getClass().getDeclaredField("$mmHandler");
-        f.setAccessible(true);
-        f.set(instance, interceptor);
-      } catch (NoSuchFieldException | IllegalAccessException e) {
+        HANDLER_FIELDS.get(instance.getClass()).set(instance, interceptor);
+      } catch (IllegalAccessException e) {
         throw new IllegalStateException("Failed to set proxy handler field", e);
       }
       return instance;
@@ -124,6 +135,37 @@ class ProxyFactory {
     }
   }
 
+  /**
+   * Returns the proxy class for the {@code type} that was loaded into the {@code classLoader},
+   * generating it if it does not exist yet.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Class<? extends T> proxyClassFor(Class<T> type, ClassLoader classLoader) {
+    Map<ClassLoader, WeakReference<Class<?>>> proxyClasses = PROXY_CLASSES.get(type);
+    synchronized (proxyClasses) {
+      WeakReference<Class<?>> proxyClassRef = proxyClasses.get(classLoader);
+      Class<?> proxyClass = proxyClassRef == null ? null : proxyClassRef.get();
+      if (proxyClass == null) {
+        proxyClass = generateProxyClass(type, classLoader);
+        proxyClasses.put(classLoader, new WeakReference<Class<?>>(proxyClass));
+      }
+      return (Class<? extends T>) proxyClass;
+    }
+  }
+
+  private static <T> Class<? extends T> generateProxyClass(Class<T> type, ClassLoader classLoader) {
+    final DynamicType.Unloaded<T> unloaded = BYTEBUDDY
+        .subclass(type)
+        .defineField(HANDLER_FIELD, InvocationHandler.class, Modifier.PRIVATE)
+        .method(METHOD_FILTER)
+        .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
+        .make();
+    final ClassLoadingStrategy<ClassLoader> classLoadingStrategy = chooseClassLoadingStrategy(type);
+    if (classLoadingStrategy != null)
+      return unloaded.load(classLoader, classLoadingStrategy).getLoaded();
+    return unloaded.load(classLoader).getLoaded();
+  }
+
   private static boolean isProxyUnsupported(Class<?> type) {
     return type.equals(String.class)
         || type.equals(Object.class)
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.modelmapper.CacheStatistics;
+import org.modelmapper.internal.util.ClassMetadata;
+
+/**
+ * A cache of values by class and key, for the registries that ModelMapper instances share. Values
+ * for classes of ModelMapper's class loader and its ancestors, such as JDK classes, are held by the
+ * cache itself, since those classes cannot be unloaded before ModelMapper is, and storing values
+ * that reference ModelMapper's own classes against them would keep ModelMapper's class loader
+ * reachable. The number of such classes and the number of entries per class are bounded. Values
+ * for classes of other class loaders are stored against their classes, so that those classes and
+ * their class loaders can be unloaded along with their values, and only the number of entries per
+ * class is bounded.
+ *
+ * <p>
+ * Once a bound is exceeded, the least recently used classes or entries are evicted until a
+ * quarter of the bound is free, so that the cost of finding them is spread over the insertions
+ * that fill the bound again. Recency is measured in insertions, so lookups do not lock, and only
+ * write to a class or entry the first time it is used after an insertion.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class RegistryCache<K, V> {
+  private static final List<RegistryCache<?, ?>> CACHES =
+      new CopyOnWriteArrayList<RegistryCache<?, ?>>();
+  private static final Comparator<Candidate<?, ?>> LEAST_RECENTLY_USED =
+      new Comparator<Candidate<?, ?>>() {
+        @Override
+        public int compare(Candidate<?, ?> c1, Candidate<?, ?> c2) {
+          return Long.compare(c1.lastUsed, c2.lastUsed);
+        }
+      };
+
+  private final String name;
+  private final int maxTypes;
+  private final int maxEntriesPerType;
+  /** Maximum number of classes to cache values for, by default */
+  private static final int MAX_TYPES = 4096;
+
+  private final ConcurrentMap<Class<?>, TypeEntries<K, V>> entries =
+      new ConcurrentHashMap<Class<?>, TypeEntries<K, V>>();
+  /** Entries stored against classes that can be unloaded before ModelMapper, else null */
+  private final ClassValue<TypeEntries<K, V>> unloadableEntries =
+      new ClassValue<TypeEntries<K, V>>() {
+        @Override
+        protected TypeEntries<K, V> computeValue(Class<?> type) {
+          return ClassMetadata.isUnloadable(type) ? new TypeEntries<K, V>(insertions.get()) : null;
+        }
+      };
+  /** Counts insertions, serving as the clock that recency is measured by */
+  private final AtomicLong insertions = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder size = new LongAdder();
+
+  /** Records when a class or entry was last used */
+  private static class Recency {
+    volatile long lastUsed;
+
+    Recency(long lastUsed) {
+      this.lastUsed = lastUsed;
+    }
+
+    void used(long now) {
+      if (lastUsed != now)
+        lastUsed = now;
+    }
+  }
+
+  private static final class TypeEntries<K, V> extends Recency {
+    final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<K, Entry<V>>();
+
+    TypeEntries(long lastUsed) {
+      super(lastUsed);
+    }
+  }
+
+  private static final class Entry<V> extends Recency {
+    final V value;
+
+    Entry(V value, long lastUsed) {
+      super(lastUsed);
+      this.value = value;
+    }
+  }
+
+  /** A key and value that may be evicted, along with when the value was last used */
+  private static final class Candidate<T, R> {
+    final T key;
+    final R value;
+    final long lastUsed;
+
+    Candidate(T key, R value, long lastUsed) {
+      this.key = key;
+      this.value = value;
+      this.lastUsed = lastUsed;
+    }
+  }
+
+  RegistryCache(String name, int maxEntriesPerType) {
+    this(name, MAX_TYPES, maxEntriesPerType);
+  }
+
+  RegistryCache(String name, int maxTypes, int maxEntriesPerType) {
+    this.name = name;
+    this.maxTypes = maxTypes;
+    this.maxEntriesPerType = maxEntriesPerType;
+    CACHES.add(this);
+  }
+
+  /**
+   * Returns the statistics of the registry caches.
+   */
+  static List<CacheStatistics> statistics() {
+    List<CacheStatistics> statistics = new ArrayList<CacheStatistics>(CACHES.size());
+    for (RegistryCache<?, ?> cache : CACHES)
+      statistics.add(cache.getStatistics());
+    return statistics;
+  }
+
+  /**
+   * Returns the value cached for the {@code type} and {@code key}, else {@code null}.
+   */
+  V get(Class<?> type, K key) {
+    TypeEntries<K, V> typeEntries = typeEntries(type);
+    Entry<V> entry = typeEntries == null ? null : typeEntries.entries.get(key);
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+
+    hits.increment();
+    long now = insertions.get();
+    typeEntries.used(now);
+    entry.used(now);
+    return entry.value;
+  }
+
+  /**
+   * Caches the {@code value} for the {@code type} and {@code key} unless a value is already cached
+   * for them.
+   *
+   * @return the cached value
+   */
+  V putIfAbsent(Class<?> type, K key, V value) {
+    long now = insertions.incrementAndGet();
+    TypeEntries<K, V> typeEntries = typeEntries(type);
+    if (typeEntries == null) {
+      TypeEntries<K, V> created = new TypeEntries<K, V>(now);
+      typeEntries = entries.putIfAbsent(type, created);
+      if (typeEntries == null) {
+        typeEntries = created;
+        if (entries.size() > maxTypes)
+          evictTypes(type);
+      }
+    }
+    typeEntries.used(now);
+
+    Entry<V> existing = typeEntries.entries.putIfAbsent(key, new Entry<V>(value, now));
+    if (existing != null) {
+      existing.used(now);
+      return existing.value;
+    }
+
+    size.increment();
+    if (typeEntries.entries.size() > maxEntriesPerType)
+      evict(typeEntries.entries, key);
+    return value;
+  }
+
+  CacheStatistics getStatistics() {
+    return new CacheStatistics(name, hits.sum(), misses.sum(), evictions.sum(), size.sum());
+  }
+
+  private TypeEntries<K, V> typeEntries(Class<?> type) {
+    TypeEntries<K, V> typeEntries = unloadableEntries.get(type);
+    return typeEntries == null ? entries.get(type) : typeEntries;
+  }
+
+  /**
+   * Evicts the entries of the least recently used classes other than the {@code retainedType}
+   * until a quarter of the bound on classes is free.
+   */
+  private void evictTypes(Class<?> retainedType) {
+    synchronized (entries) {
+      int target = maxTypes - maxTypes / 4;
+      for (Candidate<Class<?>, TypeEntries<K, V>> type : leastRecentlyUsedFirst(entries)) {
+        if (entries.size() <= target)
+          break;
+        if (type.key != retainedType && entries.remove(type.key, type.value)) {
+          int evicted = type.value.entries.size();
+          size.add(-evicted);
+          evictions.add(evicted);
+        }
+      }
+    }
+  }
+
+  /**
+   * Evicts the least recently used entries other than the entry for the {@code retainedKey} until
+   * a quarter of the bound on entries per class is free in the {@code typeEntries}.
+   */
+  private void evict(ConcurrentMap<K, Entry<V>> typeEntries, K retainedKey) {
+    synchronized (typeEntries) {
+      int target = maxEntriesPerType - maxEntriesPerType / 4;
+      for (Candidate<K, Entry<V>> entry : leastRecentlyUsedFirst(typeEntries)) {
+        if (typeEntries.size() <= target)
+          break;
+        if (!entry.key.equals(retainedKey) && typeEntries.remove(entry.key, entry.value)) {
+          size.decrement();
+          evictions.increment();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the entries of the {@code map}, ordered from least to most recently used as of when
+   * this is called.
+   */
+  private static <T, R extends Recency> List<Candidate<T, R>> leastRecentlyUsedFirst(
+      Map<T, R> map) {
+    List<Candidate<T, R>> candidates = new ArrayList<Candidate<T, R>>(map.size());
+    for (Map.Entry<T, R> entry : map.entrySet())
+      candidates.add(new Candidate<T, R>(entry.getKey(), entry.getValue(),
+          entry.getValue().lastUsed));
+    Collections.sort(candidates, LEAST_RECENTLY_USED);
+    return candidates;
+  }
+}
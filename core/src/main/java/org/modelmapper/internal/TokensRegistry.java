@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.modelmapper.spi.NameTokenizer;
+import org.modelmapper.spi.NameableType;
+import org.modelmapper.spi.Tokens;
+
+/**
+ * Stores and retrieves Tokens by tokenizer, name and nameable type for the TypeMaps of a
+ * configuration, so that the names of properties and classes are tokenized once rather than for
+ * each TypeMap they are matched for. Tokens are stored per configuration rather than statically so
+ * that tokenizers, and whatever they reference, are released along with the configuration.
+ *
+ * <p>
+ * Tokens are held in two generations, each of which is bounded. Tokens are stored in the current
+ * generation, and tokens that are retrieved from the previous generation are moved to the current
+ * one. Once the current generation is full it becomes the previous generation, discarding the
+ * tokens that were not retrieved since the last time this happened, so that the tokens of names
+ * that are no longer matched are released while those of names still being matched are kept.
+ * Lookups do not lock.
+ */
+class TokensRegistry {
+  /** Maximum number of tokens per generation, by default */
+  private static final int MAX_ENTRIES = 8192;
+
+  private final int maxEntries;
+  private volatile ConcurrentMap<TokensKey, Tokens> current =
+      new ConcurrentHashMap<TokensKey, Tokens>();
+  private volatile ConcurrentMap<TokensKey, Tokens> previous =
+      new ConcurrentHashMap<TokensKey, Tokens>();
+
+  TokensRegistry() {
+    this(MAX_ENTRIES);
+  }
+
+  TokensRegistry(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  private static class TokensKey {
+    private final NameTokenizer tokenizer;
+    private final String name;
+    private final NameableType nameableType;
+
+    TokensKey(NameTokenizer tokenizer, String name, NameableType nameableType) {
+      this.tokenizer = tokenizer;
+      this.name = name;
+      this.nameableType = nameableType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (!(o instanceof TokensKey))
+        return false;
+      TokensKey other = (TokensKey) o;
+      return tokenizer.equals(other.tokenizer) && name.equals(other.name)
+          && nameableType == other.nameableType;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 31 + tokenizer.hashCode();
+      result = 31 * result + name.hashCode();
+      result = 31 * result + (nameableType == null ? 0 : nameableType.hashCode());
+      return result;
+    }
+  }
+
+  /**
+   * Returns the tokens of the {@code name} as tokenized by the {@code tokenizer}.
+   */
+  Tokens tokensFor(NameTokenizer tokenizer, String name, NameableType nameableType) {
+    TokensKey key = new TokensKey(tokenizer, name, nameableType);
+    ConcurrentMap<TokensKey, Tokens> generation = current;
+    Tokens tokens = generation.get(key);
+    if (tokens == null) {
+      tokens = previous.get(key);
+      if (tokens == null)
+        tokens = Tokens.of(tokenizer.tokenize(name, nameableType));
+      Tokens existing = generation.putIfAbsent(key, tokens);
+      if (existing != null)
+        return existing;
+      if (generation.size() > maxEntries)
+        rotate(generation);
+    }
+    return tokens;
+  }
+
+  /**
+   * Returns the number of tokens held.
+   */
+  int size() {
+    return current.size() + previous.size();
+  }
+
+  /**
+   * Makes the {@code full} generation the previous generation, unless another thread already has.
+   */
+  private synchronized void rotate(ConcurrentMap<TokensKey, Tokens> full) {
+    if (current == full) {
+      previous = full;
+      current = new ConcurrentHashMap<TokensKey, Tokens>();
+    }
+  }
+}
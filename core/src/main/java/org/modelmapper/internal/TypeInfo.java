@@ -17,10 +17,8 @@ package org.modelmapper.internal;
 
 import java.util.Map;
 
-import org.modelmapper.config.Configuration;
-
 /**
- * Contains type information for a particular type and
+ * Contains type information for a particular type and the member resolution settings of a
  * {@link org.modelmapper.config.Configuration}.
  * 
  * @param <T> type providing information for
@@ -30,23 +28,18 @@ import org.modelmapper.config.Configuration;
 interface TypeInfo<T> {
   /**
    * Returns a map of accessors representing fields and methods as matched according to the
-   * MatchingConfiguration used to construct the TypeInfo.
+   * {@code configuration}, which has the member resolution settings of the TypeInfo.
    */
-  Map<String, Accessor> getAccessors();
+  Map<String, Accessor> getAccessors(InheritingConfiguration configuration);
 
   /**
    * Returns a map of mutators representing fields and methods as matched according to the
-   * MatchingConfiguration used to construct the TypeInfo.
+   * {@code configuration}, which has the member resolution settings of the TypeInfo.
    */
-  Map<String, Mutator> getMutators();
+  Map<String, Mutator> getMutators(InheritingConfiguration configuration);
 
   /**
    * Returns the type that this object provides information for.
    */
   Class<T> getType();
-
-  /**
-   * Returns the configuration that this type's information is effected by.
-   */
-  Configuration getConfiguration();
 }
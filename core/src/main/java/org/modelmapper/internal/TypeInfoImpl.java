@@ -17,11 +17,13 @@ package org.modelmapper.internal;
 
 import java.util.Map;
 
-import org.modelmapper.config.Configuration;
 import org.modelmapper.spi.NameableType;
 
 /**
- * A TypeInfo implementation that lazily reflects members.
+ * A TypeInfo implementation that lazily reflects members. Members are reflected according to the
+ * configuration of the first caller, rather than a configuration that the TypeInfo holds on to, so
+ * that a TypeInfo shared by configurations with the same member resolution settings does not keep
+ * any of them reachable.
  * 
  * @author Jonathan Halterman
  */
@@ -29,30 +31,30 @@ class TypeInfoImpl<T> implements TypeInfo<T> {
   /** Source object from which memberNames are read. */
   private final T source;
   private final Class<T> type;
-  private final InheritingConfiguration configuration;
+  private final MemberResolutionSettings settings;
   private volatile Map<String, Accessor> accessors;
   private volatile Map<String, Mutator> mutators;
 
   TypeInfoImpl(T source, Class<T> sourceType, InheritingConfiguration configuration) {
     this.source = source;
     this.type = sourceType;
-    this.configuration = configuration;
+    this.settings = MemberResolutionSettings.of(configuration);
   }
 
   @Override
   public boolean equals(Object obj) {
     if (obj == this)
       return true;
-    if (!(obj instanceof TypeInfo))
+    if (!(obj instanceof TypeInfoImpl))
       return false;
-    TypeInfo<?> typeInfo = (TypeInfo<?>) obj;
-    return type.equals(typeInfo.getType()) && configuration.equals(typeInfo.getConfiguration());
+    TypeInfoImpl<?> typeInfo = (TypeInfoImpl<?>) obj;
+    return type.equals(typeInfo.type) && settings.equals(typeInfo.settings);
   }
 
   /**
    * Lazily initializes and gets accessors.
    */
-  public Map<String, Accessor> getAccessors() {
+  public Map<String, Accessor> getAccessors(InheritingConfiguration configuration) {
     if (accessors == null)
       synchronized (this) {
         if (accessors == null)
@@ -62,14 +64,10 @@ class TypeInfoImpl<T> implements TypeInfo<T> {
     return accessors;
   }
 
-  public Configuration getConfiguration() {
-    return configuration;
-  }
-
   /**
    * Lazily initializes and gets mutators.
    */
-  public Map<String, Mutator> getMutators() {
+  public Map<String, Mutator> getMutators(InheritingConfiguration configuration) {
     if (mutators == null)
       synchronized (this) {
         if (mutators == null)
@@ -85,7 +83,7 @@ class TypeInfoImpl<T> implements TypeInfo<T> {
 
   @Override
   public int hashCode() {
-    return type.hashCode() * 31 + configuration.hashCode();
+    return type.hashCode() * 31 + settings.hashCode();
   }
 
   @Override
@@ -93,8 +91,9 @@ class TypeInfoImpl<T> implements TypeInfo<T> {
     return type.toString();
   }
 
-  Mutator mutatorForAccessorMethod(String accessorMethodName) {
-    return getMutators().get(
+  Mutator mutatorForAccessorMethod(String accessorMethodName,
+      InheritingConfiguration configuration) {
+    return getMutators(configuration).get(
         configuration.getSourceNameTransformer().transform(accessorMethodName, NameableType.METHOD));
   }
 }
@@ -15,44 +15,18 @@
  */
 package org.modelmapper.internal;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-import org.modelmapper.config.Configuration;
-
 /**
- * Statically stores and retrieves TypeInfo instances by type, parent type, and configuration.
+ * Statically stores and retrieves TypeInfo instances by type and the configuration's member
+ * resolution settings.
  * 
  * @author Jonathan Halterman
  */
 class TypeInfoRegistry {
-  private static final Map<TypeInfoKey, TypeInfoImpl<?>> cache = new ConcurrentHashMap<TypeInfoKey, TypeInfoImpl<?>>();
-
-  private static class TypeInfoKey {
-    private final Class<?> type;
-    private final Configuration configuration;
-
-    TypeInfoKey(Class<?> type, Configuration configuration) {
-      this.type = type;
-      this.configuration = configuration;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (o == this)
-        return true;
-      if (!(o instanceof TypeInfoKey))
-        return false;
-      TypeInfoKey other = (TypeInfoKey) o;
-      return type.equals(other.type) && configuration.equals(other.configuration);
-    }
-
-    @Override
-    public int hashCode() {
-      int result = 31 * type.hashCode();
-      return 31 * result + configuration.hashCode();
-    }
-  }
+  /** Maximum number of configurations to cache TypeInfo for per type */
+  private static final int MAX_CONFIGURATIONS_PER_TYPE = 32;
+  private static final RegistryCache<MemberResolutionSettings, TypeInfoImpl<?>> cache =
+      new RegistryCache<MemberResolutionSettings, TypeInfoImpl<?>>("TypeInfo",
+          MAX_CONFIGURATIONS_PER_TYPE);
 
   @SuppressWarnings("unchecked")
   static <T> TypeInfoImpl<T> typeInfoFor(Accessor accessor, InheritingConfiguration configuration) {
@@ -75,19 +49,11 @@ class TypeInfoRegistry {
    */
   @SuppressWarnings("unchecked")
   static <T> TypeInfoImpl<T> typeInfoFor(Class<T> sourceType, InheritingConfiguration configuration) {
-    TypeInfoKey pair = new TypeInfoKey(sourceType, configuration);
-    TypeInfoImpl<T> typeInfo = (TypeInfoImpl<T>) cache.get(pair);
-
-    if (typeInfo == null) {
-      synchronized (cache) {
-        typeInfo = (TypeInfoImpl<T>) cache.get(pair);
-        if (typeInfo == null) {
-          typeInfo = new TypeInfoImpl<T>(null, sourceType, configuration);
-          cache.put(pair, typeInfo);
-        }
-      }
-    }
-
+    MemberResolutionSettings settings = MemberResolutionSettings.of(configuration);
+    TypeInfoImpl<T> typeInfo = (TypeInfoImpl<T>) cache.get(sourceType, settings);
+    if (typeInfo == null)
+      typeInfo = (TypeInfoImpl<T>) cache.putIfAbsent(sourceType, settings,
+          new TypeInfoImpl<T>(null, sourceType, configuration));
     return typeInfo;
   }
 }
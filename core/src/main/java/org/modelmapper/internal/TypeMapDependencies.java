@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.modelmapper.TypeMap;
+import org.modelmapper.TypePair;
+import org.modelmapper.internal.converter.ConverterStore;
+import org.modelmapper.spi.ConditionalConverter.MatchResult;
+
+/**
+ * Records what the implicit mappings of a TypeMap were built from: the configuration's matching
+ * settings, the converter resolutions and the TypeMaps that were looked up for the TypeMap's
+ * property type pairs. The implicit mappings are current as long as these are unchanged.
+ */
+final class TypeMapDependencies {
+  private final List<Object> settings;
+  private final Map<TypePair<?, ?>, ConverterResolution> converterResolutions = new HashMap<TypePair<?, ?>, ConverterResolution>();
+  private final Map<TypePair<?, ?>, TypeMapVersion> typeMaps = new HashMap<TypePair<?, ?>, TypeMapVersion>();
+  /** The number of modifications of the TypeMap once it was built */
+  int modifications;
+
+  private static final class ConverterResolution {
+    final MatchResult firstMatchResult;
+    final boolean fullySupported;
+
+    ConverterResolution(MatchResult firstMatchResult, boolean fullySupported) {
+      this.firstMatchResult = firstMatchResult;
+      this.fullySupported = fullySupported;
+    }
+
+    ConverterResolution(ConverterStore converterStore, TypePair<?, ?> typePair) {
+      this(converterStore.getFirstMatchResult(typePair.getSourceType(),
+          typePair.getDestinationType()), converterStore.isFullySupported(
+          typePair.getSourceType(), typePair.getDestinationType()));
+    }
+
+    boolean isCurrent(ConverterStore converterStore, TypePair<?, ?> typePair) {
+      ConverterResolution current = new ConverterResolution(converterStore, typePair);
+      return firstMatchResult == current.firstMatchResult
+          && fullySupported == current.fullySupported;
+    }
+  }
+
+  private static final class TypeMapVersion {
+    final TypeMap<?, ?> typeMap;
+    final int modifications;
+
+    TypeMapVersion(TypeMap<?, ?> typeMap) {
+      this.typeMap = typeMap;
+      modifications = typeMap instanceof TypeMapImpl ? ((TypeMapImpl<?, ?>) typeMap).modifications()
+          : 0;
+    }
+
+    boolean isCurrent(TypeMap<?, ?> current) {
+      return current == typeMap && new TypeMapVersion(current).modifications == modifications;
+    }
+  }
+
+  TypeMapDependencies(InheritingConfiguration configuration) {
+    settings = settingsOf(configuration);
+  }
+
+  /**
+   * Returns the match result of the first converter that supports the {@code sourceType} and
+   * {@code destinationType}, recording the converter resolution.
+   */
+  MatchResult getFirstMatchResult(ConverterStore converterStore, Class<?> sourceType,
+      Class<?> destinationType) {
+    return resolveConverter(converterStore, sourceType, destinationType).firstMatchResult;
+  }
+
+  /**
+   * Returns whether a converter fully supports the {@code sourceType} and {@code destinationType},
+   * recording the converter resolution.
+   */
+  boolean isFullySupported(ConverterStore converterStore, Class<?> sourceType,
+      Class<?> destinationType) {
+    return resolveConverter(converterStore, sourceType, destinationType).fullySupported;
+  }
+
+  /**
+   * Returns the unnamed TypeMap for the {@code sourceType} and {@code destinationType}, else
+   * {@code null}, recording the TypeMap.
+   */
+  TypeMap<?, ?> getTypeMap(TypeMapStore typeMapStore, Class<?> sourceType, Class<?> destinationType) {
+    TypeMap<?, ?> typeMap = typeMapStore.get(sourceType, destinationType, null);
+    TypePair<?, ?> typePair = TypePair.of(sourceType, destinationType, null);
+    if (!typeMaps.containsKey(typePair))
+      typeMaps.put(typePair, typeMap == null ? null : new TypeMapVersion(typeMap));
+    return typeMap;
+  }
+
+  /**
+   * Returns whether the matching settings of the {@code configuration}, and the recorded converter
+   * resolutions of the {@code converterStore} and TypeMaps of the {@code typeMapStore}, are
+   * unchanged.
+   */
+  boolean isCurrent(InheritingConfiguration configuration, TypeMapStore typeMapStore,
+      ConverterStore converterStore) {
+    if (!settings.equals(settingsOf(configuration)))
+      return false;
+    for (Map.Entry<TypePair<?, ?>, ConverterResolution> entry : converterResolutions.entrySet())
+      if (!entry.getValue().isCurrent(converterStore, entry.getKey()))
+        return false;
+    for (Map.Entry<TypePair<?, ?>, TypeMapVersion> entry : typeMaps.entrySet()) {
+      TypePair<?, ?> typePair = entry.getKey();
+      TypeMap<?, ?> current = typeMapStore.get(typePair.getSourceType(),
+          typePair.getDestinationType(), null);
+      if (entry.getValue() == null ? current != null : !entry.getValue().isCurrent(current))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the type pairs whose TypeMaps were looked up.
+   */
+  Set<TypePair<?, ?>> getTypeMapTypePairs() {
+    return typeMaps.keySet();
+  }
+
+  /**
+   * Returns the type pairs whose converter resolutions were recorded.
+   */
+  Set<TypePair<?, ?>> getConverterTypePairs() {
+    return converterResolutions.keySet();
+  }
+
+  /**
+   * Returns whether the TypeMap for the {@code typePair} was looked up.
+   */
+  boolean dependsOn(TypePair<?, ?> typePair) {
+    return typeMaps.containsKey(typePair);
+  }
+
+  private ConverterResolution resolveConverter(ConverterStore converterStore, Class<?> sourceType,
+      Class<?> destinationType) {
+    TypePair<?, ?> typePair = TypePair.of(sourceType, destinationType, null);
+    ConverterResolution resolution = converterResolutions.get(typePair);
+    if (resolution == null) {
+      resolution = new ConverterResolution(converterStore, typePair);
+      converterResolutions.put(typePair, resolution);
+    }
+    return resolution;
+  }
+
+  /**
+   * Returns the settings of the {@code configuration} that implicit matching depends on.
+   */
+  private static List<Object> settingsOf(InheritingConfiguration configuration) {
+    return Arrays.<Object>asList(configuration.getMatchingStrategy(),
+        configuration.getSourceNameTokenizer(), configuration.getDestinationNameTokenizer(),
+        configuration.getSourceNameTransformer(), configuration.getDestinationNameTransformer(),
+        configuration.getSourceNamingConvention(), configuration.getDestinationNamingConvention(),
+        configuration.getFieldAccessLevel(), configuration.getMethodAccessLevel(),
+        configuration.isFieldMatchingEnabled(), configuration.isGeneratedAccessorsEnabled(),
+        configuration.isAmbiguityIgnored(), configuration.isFullTypeMatchingRequired(),
+        configuration.isPreferNestedProperties(), configuration.isImplicitMappingEnabled());
+  }
+}
@@ -31,6 +31,7 @@ import org.modelmapper.spi.SourceGetter;
 import org.modelmapper.spi.TypeSafeSourceGetter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -53,6 +54,8 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
   private final MappingEngineImpl engine;
   /** Guarded by "mappings" */
   private final Map<String, InternalMapping> mappings = new TreeMap<String, InternalMapping>();
+  /** Index of the sorted mappings, else {@code null} if the mappings changed since it was built */
+  private volatile PathIndex pathIndex;
   private Converter<S, D> converter;
   private Converter<S, D> preConverter;
   private Converter<S, D> postConverter;
@@ -61,6 +64,15 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
   private Converter<?, ?> propertyConverter;
   private Condition<?, ?> propertyCondition;
   private Provider<?> propertyProvider;
+  /** Execution plan, else {@code null} if the TypeMap has not been compiled since it last changed */
+  private volatile CompiledTypeMap<S, D> compiledTypeMap;
+  private volatile boolean compilationRequested;
+  /** Whether the TypeMap is simple, else {@code null} if not determined since it last changed */
+  private volatile Boolean simple;
+  /** Number of times the TypeMap's mappings or settings have changed, guarded by the mappings */
+  private volatile int modifications;
+  /** What the implicit mappings were built from, else {@code null} if the TypeMap is not rebuildable */
+  private volatile TypeMapDependencies dependencies;
 
   TypeMapImpl(Class<S> sourceType, Class<D> destinationType, String name,
       InheritingConfiguration configuration, MappingEngineImpl engine) {
@@ -117,9 +129,7 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
 
   @Override
   public List<Mapping> getMappings() {
-    synchronized (mappings) {
-      return new ArrayList<Mapping>(mappings.values());
-    }
+    return new ArrayList<Mapping>(Arrays.asList(pathIndex().mappings));
   }
 
   @Override
@@ -185,10 +195,10 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
     try {
       result = engine.typeMap(context, this);
     } catch (Throwable t) {
-      context.errors.errorMapping(sourceType, destinationType, t);
+      context.errors().errorMapping(sourceType, destinationType, t);
     }
 
-    context.errors.throwMappingExceptionIfErrorsExist();
+    context.throwMappingExceptionIfErrorsExist();
     return result;
   }
 
@@ -201,57 +211,65 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
     try {
       engine.typeMap(context, this);
     } catch (Throwable t) {
-      context.errors.errorMapping(sourceType, destinationType, t);
+      context.errors().errorMapping(sourceType, destinationType, t);
     }
 
-    context.errors.throwMappingExceptionIfErrorsExist();
+    context.throwMappingExceptionIfErrorsExist();
   }
 
   @Override
   public TypeMap<S, D> setCondition(Condition<?, ?> condition) {
     this.condition = Assert.notNull(condition, "condition");
+    invalidate();
     return this;
   }
 
   @Override
   public TypeMap<S, D> setConverter(Converter<S, D> converter) {
     this.converter = Assert.notNull(converter, "converter");
+    invalidate();
     return this;
   }
 
   @Override
   public TypeMap<S, D> setPostConverter(Converter<S, D> converter) {
     this.postConverter = Assert.notNull(converter, "converter");
+    invalidate();
     return this;
   }
 
   @Override
   public TypeMap<S, D> setPreConverter(Converter<S, D> converter) {
     this.preConverter = Assert.notNull(converter, "converter");
+    invalidate();
     return this;
   }
 
   @Override
   public TypeMap<S, D> setPropertyCondition(Condition<?, ?> condition) {
     propertyCondition = Assert.notNull(condition, "condition");
+    invalidate();
     return this;
   }
 
   @Override
   public TypeMap<S, D> setPropertyConverter(Converter<?, ?> converter) {
     propertyConverter = Assert.notNull(converter, "converter");
+    invalidate();
     return this;
   }
 
   @Override
   public TypeMap<S, D> setPropertyProvider(Provider<?> provider) {
     propertyProvider = Assert.notNull(provider, "provider");
+    invalidate();
     return this;
   }
 
   @Override
   public TypeMap<S, D> setProvider(Provider<D> provider) {
     this.provider = Assert.notNull(provider, "provider");
+    invalidate();
     return this;
   }
 
@@ -345,6 +363,13 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
     return this;
   }
 
+  @Override
+  public TypeMap<S, D> compile() {
+    compilationRequested = true;
+    compiledTypeMap = CompiledTypeMap.compile(this, engine);
+    return this;
+  }
+
   @Override
   public TypeMap<S, D> implicitMappings() {
     ImplicitMappingBuilder.build(null, this, configuration.typeMapStore, configuration.converterStore);
@@ -352,18 +377,68 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
   }
 
   void addMappingIfAbsent(InternalMapping mapping) {
+    bindDestinationAccessor(mapping);
     synchronized (mappings) {
-      if (!mappings.containsKey(mapping.getPath()))
+      if (!mappings.containsKey(mapping.getPath())) {
         mappings.put(mapping.getPath(), mapping);
+        pathIndex = null;
+        invalidate();
+      }
     }
   }
 
   InternalMapping addMapping(InternalMapping mapping) {
+    bindDestinationAccessor(mapping);
     synchronized (mappings) {
+      pathIndex = null;
+      invalidate();
       return mappings.put(mapping.getPath(), mapping);
     }
   }
 
+  /**
+   * Returns an index of the mappings sorted by destination path. The index is shared until the
+   * mappings next change, so it can be used without locking but its arrays must not be modified.
+   */
+  PathIndex pathIndex() {
+    PathIndex result = pathIndex;
+    if (result == null) {
+      synchronized (mappings) {
+        result = pathIndex;
+        if (result == null)
+          pathIndex = result = PathIndex.of(mappings.values());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns whether the TypeMap is simple: it has no conditions, converters or providers, and each
+   * of its mappings copies a primitive, String or enum value into a top level destination property
+   * of such a type. Mapping a simple TypeMap cannot encounter circular or shared references, so the
+   * engine does not track destinations while mapping it.
+   */
+  boolean isSimple() {
+    Boolean result = simple;
+    if (result == null)
+      simple = result = determineSimple();
+    return result;
+  }
+
+  /**
+   * Returns the execution plan to map with, compiling it if necessary, else {@code null} if
+   * compilation is not enabled or the TypeMap cannot be compiled.
+   */
+  CompiledTypeMap<S, D> compiledTypeMap(MappingEngineImpl engine) {
+    if (!compilationRequested && !configuration.isTypeMapCompilationEnabled())
+      return null;
+
+    CompiledTypeMap<S, D> result = compiledTypeMap;
+    if (result == null || !result.isCurrent(engine))
+      compiledTypeMap = result = CompiledTypeMap.compile(this, engine);
+    return result.isCompiled() ? result : null;
+  }
+
   /**
    * Used by PropertyMapBuilder to determine if a skipped mapping exists for the {@code path}. No
    * need to synchronize here since the TypeMap is not exposed publicly yet.
@@ -381,6 +456,98 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
     return mappings.get(path);
   }
 
+  private boolean determineSimple() {
+    if (converter != null || preConverter != null || postConverter != null || condition != null
+        || provider != null || propertyConverter != null || propertyCondition != null
+        || propertyProvider != null)
+      return false;
+
+    for (Mapping mapping : pathIndex().mappings) {
+      if (!(mapping instanceof PropertyMappingImpl))
+        return false;
+      PropertyMappingImpl propertyMapping = (PropertyMappingImpl) mapping;
+      if (propertyMapping.isConstructor() || propertyMapping.getCondition() != null
+          || propertyMapping.getConverter() != null || propertyMapping.getProvider() != null
+          || propertyMapping.getDestinationProperties().size() != 1
+          || propertyMapping.getSourceProperties().isEmpty()
+          || !Types.isValueType(propertyMapping.getSourceType())
+          || !Types.isValueType(propertyMapping.getLastDestinationProperty().getType()))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Binds the {@code mapping}'s destination accessor against the engine's configuration, which is
+   * what the engine resolves it against while mapping.
+   */
+  private void bindDestinationAccessor(InternalMapping mapping) {
+    if (engine != null && mapping instanceof MappingImpl && !mapping.isSkipped())
+      ((MappingImpl) mapping).bindDestinationAccessor(engine.getConfiguration());
+  }
+
+  /**
+   * Records the {@code dependencies} of the TypeMap's implicit mappings, which the TypeMap can be
+   * rebuilt from for as long as it is not modified.
+   */
+  void setDependencies(TypeMapDependencies dependencies) {
+    dependencies.modifications = modifications;
+    this.dependencies = dependencies;
+  }
+
+  /**
+   * Returns what the TypeMap's implicit mappings were built from if the TypeMap can be rebuilt
+   * from them, having been built solely from implicit mappings and not modified since, else
+   * {@code null}.
+   */
+  TypeMapDependencies rebuildableDependencies() {
+    TypeMapDependencies result = dependencies;
+    return result != null && result.modifications == modifications && provider == null ? result
+        : null;
+  }
+
+  int modifications() {
+    return modifications;
+  }
+
+  /**
+   * Replaces the TypeMap's mappings with the mappings of the {@code rebuilt} TypeMap unless the
+   * TypeMap was modified since its {@code dependencies} were recorded. The check and the replacement
+   * are atomic with respect to other modifications, and the TypeMap remains the same instance, so
+   * that references to it stay valid.
+   *
+   * @return whether the mappings were replaced
+   */
+  boolean replaceImplicitMappings(TypeMapImpl<S, D> rebuilt, TypeMapDependencies dependencies) {
+    synchronized (mappings) {
+      if (rebuildableDependencies() != dependencies)
+        return false;
+      mappings.clear();
+      synchronized (rebuilt.mappings) {
+        mappings.putAll(rebuilt.mappings);
+      }
+      pathIndex = null;
+      invalidate();
+      setDependencies(rebuilt.dependencies);
+      return true;
+    }
+  }
+
+  MappingEngineImpl getEngine() {
+    return engine;
+  }
+
+  /**
+   * Discards the state derived from the TypeMap's mappings and settings.
+   */
+  private void invalidate() {
+    synchronized (mappings) {
+      compiledTypeMap = null;
+      simple = null;
+      modifications++;
+    }
+  }
+
   boolean isFullMatching() {
     return getUnmappedProperties().isEmpty()
         || configuration.valueAccessStore.getFirstSupportedReader(sourceType) == null;
@@ -396,7 +563,7 @@ class TypeMapImpl<S, D> implements TypeMap<S, D> {
     while (!propertyStack.isEmpty()) {
       Property property = propertyStack.pop();
       classes.add(property.typeInfo.getType());
-      for (Map.Entry<String, Mutator> entry : property.typeInfo.getMutators().entrySet()) {
+      for (Map.Entry<String, Mutator> entry : property.typeInfo.getMutators(configuration).entrySet()) {
         if (entry.getValue() instanceof PropertyInfoImpl.FieldPropertyInfo
             && !configuration.isFieldMatchingEnabled()) {
           continue;
@@ -0,0 +1,547 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.modelmapper.TypeMap;
+import org.modelmapper.TypePair;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.convention.NameTokenizers;
+import org.modelmapper.convention.NameTransformers;
+import org.modelmapper.convention.NamingConventions;
+import org.modelmapper.internal.converter.AssignableConverter;
+import org.modelmapper.internal.converter.ConverterStore;
+import org.modelmapper.internal.util.Types;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.ConstantMapping;
+import org.modelmapper.spi.Mapping;
+import org.modelmapper.spi.PropertyInfo;
+import org.modelmapper.spi.PropertyMapping;
+import org.modelmapper.spi.SourceMapping;
+
+/**
+ * The implicit mappings of a set of TypeMaps, keyed by the names of their types. A snapshot is
+ * applied in place of implicit matching when a TypeMap is created for a type pair that it contains,
+ * provided that the configuration, the properties of the types reachable from the pair and the
+ * TypeMaps that matching looked up for the pair's property types are unchanged since the snapshot
+ * was written. Since the outcome of matching may depend on the state of custom converters,
+ * matching strategies, name tokenizers, name transformers and naming conventions, which cannot be
+ * compared across runs, snapshots are neither written nor applied unless the configuration uses
+ * only the built-in ones.
+ */
+public final class TypeMapSnapshot {
+  private static final int MAGIC = 0x4D4D5453;
+  private static final int VERSION = 2;
+  /** Names of the built-in matching settings that the configuration hash can identify */
+  private static final Map<Object, String> BUILT_IN_SETTINGS =
+      new IdentityHashMap<Object, String>();
+
+  static {
+    BUILT_IN_SETTINGS.put(MatchingStrategies.LOOSE, "MatchingStrategies.LOOSE");
+    BUILT_IN_SETTINGS.put(MatchingStrategies.STANDARD, "MatchingStrategies.STANDARD");
+    BUILT_IN_SETTINGS.put(MatchingStrategies.STRICT, "MatchingStrategies.STRICT");
+    BUILT_IN_SETTINGS.put(NameTokenizers.CAMEL_CASE, "NameTokenizers.CAMEL_CASE");
+    BUILT_IN_SETTINGS.put(NameTokenizers.UNDERSCORE, "NameTokenizers.UNDERSCORE");
+    BUILT_IN_SETTINGS.put(NameTransformers.JAVABEANS_ACCESSOR,
+        "NameTransformers.JAVABEANS_ACCESSOR");
+    BUILT_IN_SETTINGS.put(NameTransformers.JAVABEANS_MUTATOR,
+        "NameTransformers.JAVABEANS_MUTATOR");
+    BUILT_IN_SETTINGS.put(NamingConventions.JAVABEANS_ACCESSOR,
+        "NamingConventions.JAVABEANS_ACCESSOR");
+    BUILT_IN_SETTINGS.put(NamingConventions.JAVABEANS_MUTATOR,
+        "NamingConventions.JAVABEANS_MUTATOR");
+    BUILT_IN_SETTINGS.put(NamingConventions.NONE, "NamingConventions.NONE");
+  }
+
+  /** Primitive types by name, which cannot be loaded by name */
+  private static final Map<String, Class<?>> PRIMITIVES = new HashMap<String, Class<?>>();
+
+  static {
+    for (Class<?> primitive : new Class<?>[] { boolean.class, byte.class, char.class, short.class,
+        int.class, long.class, float.class, double.class, void.class })
+      PRIMITIVES.put(primitive.getName(), primitive);
+  }
+
+  /** Hashes of the accessors reachable from a type, by member resolution settings */
+  private static final RegistryCache<MemberResolutionSettings, Long> ACCESSOR_HASHES =
+      new RegistryCache<MemberResolutionSettings, Long>("TypeMapSnapshot.accessors", 4);
+  /** Hashes of the mutators reachable from a type, by member resolution settings */
+  private static final RegistryCache<MemberResolutionSettings, Long> MUTATOR_HASHES =
+      new RegistryCache<MemberResolutionSettings, Long>("TypeMapSnapshot.mutators", 4);
+
+  private final long configurationHash;
+  private final Map<String, Entry> entries;
+  /** Number of TypeMaps the snapshot's mappings were added to */
+  private final AtomicInteger appliedCount = new AtomicInteger();
+
+  private static class Entry {
+    final long structureHash;
+    final List<String[]> sourcePaths = new ArrayList<String[]>();
+    final List<String[]> destinationPaths = new ArrayList<String[]>();
+    final List<Boolean> cyclic = new ArrayList<Boolean>();
+    /** Type pairs whose TypeMaps matching looked up, with the hashes of the TypeMaps found */
+    final List<String[]> typeMapPairs = new ArrayList<String[]>();
+    final List<Long> typeMapHashes = new ArrayList<Long>();
+    /** Type pairs whose converter resolutions matching depended on */
+    final List<String[]> converterPairs = new ArrayList<String[]>();
+
+    Entry(long structureHash) {
+      this.structureHash = structureHash;
+    }
+  }
+
+  private TypeMapSnapshot(long configurationHash, Map<String, Entry> entries) {
+    this.configurationHash = configurationHash;
+    this.entries = entries;
+  }
+
+  /**
+   * Writes the implicit mappings of the {@code typeMaps} that can be restored from a snapshot to
+   * the {@code output}.
+   *
+   * @return the number of TypeMaps written
+   */
+  public static int write(Collection<TypeMap<?, ?>> typeMaps, InheritingConfiguration config,
+      OutputStream output) throws IOException {
+    List<TypeMapImpl<?, ?>> written = new ArrayList<TypeMapImpl<?, ?>>();
+    if (hasBuiltInSettingsOnly(config))
+      for (TypeMap<?, ?> typeMap : typeMaps)
+        if (typeMap instanceof TypeMapImpl && isRestorable((TypeMapImpl<?, ?>) typeMap, config))
+          written.add((TypeMapImpl<?, ?>) typeMap);
+
+    DataOutputStream out = new DataOutputStream(output);
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeLong(configurationHash(config));
+    out.writeInt(written.size());
+    for (TypeMapImpl<?, ?> typeMap : written) {
+      out.writeUTF(typeMap.getSourceType().getName());
+      out.writeUTF(typeMap.getDestinationType().getName());
+      out.writeBoolean(typeMap.getName() != null);
+      if (typeMap.getName() != null)
+        out.writeUTF(typeMap.getName());
+      out.writeLong(structureHash(typeMap.getSourceType(), typeMap.getDestinationType(), config));
+
+      List<Mapping> mappings = typeMap.getMappings();
+      out.writeInt(mappings.size());
+      for (Mapping mapping : mappings) {
+        PropertyMappingImpl propertyMapping = (PropertyMappingImpl) mapping;
+        out.writeBoolean(propertyMapping.cyclic);
+        writeNames(out, propertyMapping.getSourceProperties());
+        writeNames(out, propertyMapping.getDestinationProperties());
+      }
+
+      TypeMapDependencies dependencies = typeMap.rebuildableDependencies();
+      out.writeInt(dependencies.getTypeMapTypePairs().size());
+      for (TypePair<?, ?> typePair : dependencies.getTypeMapTypePairs()) {
+        writeTypePair(out, typePair);
+        out.writeLong(typeMapHash(config.typeMapStore.get(typePair.getSourceType(),
+            typePair.getDestinationType(), null)));
+      }
+      out.writeInt(dependencies.getConverterTypePairs().size());
+      for (TypePair<?, ?> typePair : dependencies.getConverterTypePairs())
+        writeTypePair(out, typePair);
+    }
+    out.flush();
+    return written.size();
+  }
+
+  /**
+   * Reads a snapshot that was written by {@link #write}.
+   *
+   * @throws IOException if the {@code input} cannot be read or does not contain a snapshot
+   */
+  public static TypeMapSnapshot read(InputStream input) throws IOException {
+    DataInputStream in = new DataInputStream(input);
+    if (in.readInt() != MAGIC)
+      throw new IOException("Input does not contain a TypeMap snapshot");
+    int version = in.readInt();
+    if (version != VERSION)
+      throw new IOException("Unsupported TypeMap snapshot version " + version);
+
+    long configurationHash = in.readLong();
+    int typeMapCount = in.readInt();
+    Map<String, Entry> entries = new HashMap<String, Entry>();
+    for (int i = 0; i < typeMapCount; i++) {
+      String sourceTypeName = in.readUTF();
+      String destinationTypeName = in.readUTF();
+      String typeMapName = in.readBoolean() ? in.readUTF() : null;
+      Entry entry = new Entry(in.readLong());
+      int mappingCount = in.readInt();
+      for (int j = 0; j < mappingCount; j++) {
+        entry.cyclic.add(in.readBoolean());
+        entry.sourcePaths.add(readNames(in));
+        entry.destinationPaths.add(readNames(in));
+      }
+      int typeMapPairCount = in.readInt();
+      for (int j = 0; j < typeMapPairCount; j++) {
+        entry.typeMapPairs.add(readTypePair(in));
+        entry.typeMapHashes.add(in.readLong());
+      }
+      int converterPairCount = in.readInt();
+      for (int j = 0; j < converterPairCount; j++)
+        entry.converterPairs.add(readTypePair(in));
+      entries.put(keyFor(sourceTypeName, destinationTypeName, typeMapName), entry);
+    }
+    return new TypeMapSnapshot(configurationHash, entries);
+  }
+
+  /**
+   * Adds the snapshot's mappings for the {@code typeMap}'s type pair to the {@code typeMap}, and
+   * records the TypeMaps and converter resolutions that the mappings depend on as the
+   * {@code typeMap}'s dependencies.
+   *
+   * @return whether the mappings were added, else {@code false} if the snapshot does not contain
+   *         the type pair or is stale for it, in which case the {@code typeMap} is left unchanged
+   */
+  boolean apply(TypeMapImpl<?, ?> typeMap, TypeMapStore typeMapStore,
+      ConverterStore converterStore) {
+    Entry entry = entries.get(keyFor(typeMap.getSourceType().getName(),
+        typeMap.getDestinationType().getName(), typeMap.getName()));
+    InheritingConfiguration config = typeMap.configuration;
+    if (entry == null
+        || config.valueAccessStore.getFirstSupportedReader(typeMap.getSourceType()) != null
+        || configurationHash != configurationHash(config) || !hasBuiltInSettingsOnly(config)
+        || entry.structureHash != structureHash(typeMap.getSourceType(),
+            typeMap.getDestinationType(), config))
+      return false;
+
+    TypeMapDependencies dependencies = new TypeMapDependencies(config);
+    for (int i = 0; i < entry.typeMapPairs.size(); i++) {
+      Class<?>[] types = resolveTypes(entry.typeMapPairs.get(i), typeMap);
+      if (types == null || entry.typeMapHashes.get(i) != typeMapHash(
+          dependencies.getTypeMap(typeMapStore, types[0], types[1])))
+        return false;
+    }
+    for (String[] typeNames : entry.converterPairs) {
+      Class<?>[] types = resolveTypes(typeNames, typeMap);
+      if (types == null)
+        return false;
+      dependencies.getFirstMatchResult(converterStore, types[0], types[1]);
+    }
+
+    List<PropertyMappingImpl> mappings = new ArrayList<PropertyMappingImpl>();
+    for (int i = 0; i < entry.cyclic.size(); i++) {
+      List<Accessor> accessors = resolveAccessors(typeMap.getSourceType(),
+          entry.sourcePaths.get(i), config);
+      List<Mutator> mutators = resolveMutators(typeMap.getDestinationType(),
+          entry.destinationPaths.get(i), config);
+      if (accessors == null || mutators == null)
+        return false;
+      mappings.add(new PropertyMappingImpl(accessors, mutators, entry.cyclic.get(i)));
+    }
+
+    for (PropertyMappingImpl mapping : mappings)
+      typeMap.addMappingIfAbsent(mapping);
+    typeMap.setDependencies(dependencies);
+    appliedCount.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Returns the number of TypeMaps that the snapshot's mappings were added to.
+   */
+  int appliedCount() {
+    return appliedCount.get();
+  }
+
+  /**
+   * Returns whether the {@code typeMap} consists solely of implicit mappings between properties
+   * that can be resolved by name, whose dependencies are unchanged since they were built.
+   */
+  private static boolean isRestorable(TypeMapImpl<?, ?> typeMap, InheritingConfiguration config) {
+    TypeMapDependencies dependencies = typeMap.rebuildableDependencies();
+    if (typeMap.configuration != config || dependencies == null
+        || !dependencies.isCurrent(config, config.typeMapStore, config.converterStore)
+        || typeMap.getConverter() != null
+        || typeMap.getPreConverter() != null || typeMap.getPostConverter() != null
+        || typeMap.getCondition() != null || typeMap.getProvider() != null
+        || typeMap.getPropertyConverter() != null || typeMap.getPropertyCondition() != null
+        || typeMap.getPropertyProvider() != null
+        || config.valueAccessStore.getFirstSupportedReader(typeMap.getSourceType()) != null)
+      return false;
+
+    List<Mapping> mappings = typeMap.getMappings();
+    if (mappings.isEmpty())
+      return false;
+    for (Mapping mapping : mappings) {
+      if (!(mapping instanceof PropertyMappingImpl))
+        return false;
+      PropertyMappingImpl propertyMapping = (PropertyMappingImpl) mapping;
+      if (propertyMapping.isExplicit() || propertyMapping.isSkipped()
+          || propertyMapping.isConstructor() || propertyMapping.getCondition() != null
+          || propertyMapping.getConverter() != null || propertyMapping.getProvider() != null)
+        return false;
+      for (PropertyInfo property : propertyMapping.getSourceProperties())
+        if (!(property instanceof Accessor)
+            || property instanceof PropertyInfoImpl.ValueReaderPropertyInfo)
+          return false;
+      for (PropertyInfo property : propertyMapping.getDestinationProperties())
+        if (!(property instanceof Mutator)
+            || property instanceof PropertyInfoImpl.ValueWriterPropertyInfo)
+          return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the {@code config}'s matching strategy, name tokenizers, name transformers and
+   * naming conventions are built-in singletons, and its converters are all built-in converters,
+   * whose matching depends only on their class.
+   */
+  private static boolean hasBuiltInSettingsOnly(InheritingConfiguration config) {
+    for (Object setting : matchingSettings(config))
+      if (!BUILT_IN_SETTINGS.containsKey(setting))
+        return false;
+    for (ConditionalConverter<?, ?> converter : config.getConverters()) {
+      Class<?> converterClass = converter.getClass();
+      if (converterClass.getClassLoader() != AssignableConverter.class.getClassLoader()
+          || converterClass.getPackage() != AssignableConverter.class.getPackage())
+        return false;
+    }
+    return true;
+  }
+
+  private static List<Accessor> resolveAccessors(Class<?> type, String[] names,
+      InheritingConfiguration config) {
+    List<Accessor> accessors = new ArrayList<Accessor>(names.length);
+    TypeInfo<?> typeInfo = TypeInfoRegistry.typeInfoFor(type, config);
+    for (String name : names) {
+      Accessor accessor = typeInfo.getAccessors(config).get(name);
+      if (accessor == null)
+        return null;
+      accessors.add(accessor);
+      typeInfo = accessor.getTypeInfo(config);
+    }
+    return accessors;
+  }
+
+  private static List<Mutator> resolveMutators(Class<?> type, String[] names,
+      InheritingConfiguration config) {
+    List<Mutator> mutators = new ArrayList<Mutator>(names.length);
+    TypeInfo<?> typeInfo = TypeInfoRegistry.typeInfoFor(type, config);
+    for (String name : names) {
+      Mutator mutator = typeInfo.getMutators(config).get(name);
+      if (mutator == null)
+        return null;
+      mutators.add(mutator);
+      typeInfo = mutator.getTypeInfo(config);
+    }
+    return mutators;
+  }
+
+  /**
+   * Resolves the types named by the {@code typeNames} through the class loaders of the
+   * {@code typeMap}'s types and the current thread, else returns {@code null}.
+   */
+  private static Class<?>[] resolveTypes(String[] typeNames, TypeMapImpl<?, ?> typeMap) {
+    Class<?>[] types = new Class<?>[typeNames.length];
+    for (int i = 0; i < typeNames.length; i++)
+      if ((types[i] = resolveType(typeNames[i], typeMap)) == null)
+        return null;
+    return types;
+  }
+
+  private static Class<?> resolveType(String typeName, TypeMapImpl<?, ?> typeMap) {
+    Class<?> primitive = PRIMITIVES.get(typeName);
+    if (primitive != null)
+      return primitive;
+    for (ClassLoader classLoader : new ClassLoader[] {
+        typeMap.getSourceType().getClassLoader(), typeMap.getDestinationType().getClassLoader(),
+        Thread.currentThread().getContextClassLoader() }) {
+      try {
+        return Class.forName(typeName, false, classLoader);
+      } catch (ClassNotFoundException ignore) {
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a hash of what implicit matching uses of the {@code typeMap}, being its converter,
+   * provider and mappings, else {@code 0} if the {@code typeMap} is null.
+   */
+  private static long typeMapHash(TypeMap<?, ?> typeMap) {
+    if (typeMap == null)
+      return 0;
+    StringBuilder builder = new StringBuilder();
+    appendClassName(builder, typeMap.getConverter());
+    appendClassName(builder, typeMap.getProvider());
+    for (Mapping mapping : typeMap.getMappings()) {
+      builder.append(mapping.getClass().getName()).append('[');
+      if (mapping instanceof PropertyMapping)
+        appendNames(builder, ((PropertyMapping) mapping).getSourceProperties());
+      else if (mapping instanceof SourceMapping)
+        builder.append(((SourceMapping) mapping).getSourceType().getName());
+      else if (mapping instanceof ConstantMapping)
+        builder.append(((ConstantMapping) mapping).getConstant());
+      builder.append("->");
+      appendNames(builder, mapping.getDestinationProperties());
+      builder.append(mapping.isSkipped()).append(';');
+      appendClassName(builder, mapping.getConverter());
+      appendClassName(builder, mapping.getCondition());
+      appendClassName(builder, mapping.getProvider());
+      builder.append(']');
+    }
+    return hash(builder) | 1;
+  }
+
+  private static void appendClassName(StringBuilder builder, Object object) {
+    builder.append(object == null ? "" : object.getClass().getName()).append(';');
+  }
+
+  private static void appendNames(StringBuilder builder, List<? extends PropertyInfo> properties) {
+    for (PropertyInfo property : properties)
+      builder.append(property.getName()).append('.');
+  }
+
+  /**
+   * Returns a hash of the settings that implicit matching depends on besides the properties of the
+   * types being matched.
+   */
+  private static long configurationHash(InheritingConfiguration config) {
+    StringBuilder builder = new StringBuilder();
+    for (Object setting : matchingSettings(config))
+      builder.append(BUILT_IN_SETTINGS.get(setting)).append(';');
+    builder.append(config.getFieldAccessLevel()).append(';')
+        .append(config.getMethodAccessLevel()).append(';')
+        .append(config.isFieldMatchingEnabled()).append(';')
+        .append(config.isAmbiguityIgnored()).append(';')
+        .append(config.isFullTypeMatchingRequired()).append(';')
+        .append(config.isPreferNestedProperties()).append(';')
+        .append(config.isDeepCopyEnabled()).append(';')
+        .append(config.isCollectionsMergeEnabled()).append(';');
+    for (ConditionalConverter<?, ?> converter : config.getConverters())
+      builder.append(converter.getClass().getName()).append(';');
+    return hash(builder);
+  }
+
+  private static Object[] matchingSettings(InheritingConfiguration config) {
+    return new Object[] { config.getMatchingStrategy(), config.getSourceNameTokenizer(),
+        config.getDestinationNameTokenizer(), config.getSourceNameTransformer(),
+        config.getDestinationNameTransformer(), config.getSourceNamingConvention(),
+        config.getDestinationNamingConvention() };
+  }
+
+  /**
+   * Returns a hash of the names and types of the properties reachable from the
+   * {@code sourceType}'s accessors and the {@code destinationType}'s mutators. The hashes of each
+   * type's reachable properties are cached, since they cannot change while the type is loaded.
+   */
+  private static long structureHash(Class<?> sourceType, Class<?> destinationType,
+      InheritingConfiguration config) {
+    MemberResolutionSettings settings = config.memberResolutionSettings();
+    Long accessorsHash = ACCESSOR_HASHES.get(sourceType, settings);
+    if (accessorsHash == null) {
+      StringBuilder builder = new StringBuilder();
+      appendAccessors(builder, TypeInfoRegistry.typeInfoFor(sourceType, config), config,
+          new HashSet<Class<?>>());
+      accessorsHash = ACCESSOR_HASHES.putIfAbsent(sourceType, settings, hash(builder));
+    }
+    Long mutatorsHash = MUTATOR_HASHES.get(destinationType, settings);
+    if (mutatorsHash == null) {
+      StringBuilder builder = new StringBuilder();
+      appendMutators(builder, TypeInfoRegistry.typeInfoFor(destinationType, config), config,
+          new HashSet<Class<?>>());
+      mutatorsHash = MUTATOR_HASHES.putIfAbsent(destinationType, settings, hash(builder));
+    }
+    return accessorsHash * 31 + mutatorsHash;
+  }
+
+  private static void appendAccessors(StringBuilder builder, TypeInfo<?> typeInfo,
+      InheritingConfiguration config, Set<Class<?>> visited) {
+    if (!visited.add(typeInfo.getType()))
+      return;
+    builder.append(typeInfo.getType().getName()).append('{');
+    for (Map.Entry<String, Accessor> entry : typeInfo.getAccessors(config).entrySet())
+      appendProperty(builder, entry.getKey(), entry.getValue());
+    builder.append('}');
+    for (Accessor accessor : typeInfo.getAccessors(config).values())
+      if (Types.mightContainsProperties(accessor.getType()))
+        appendAccessors(builder, accessor.getTypeInfo(config), config, visited);
+  }
+
+  private static void appendMutators(StringBuilder builder, TypeInfo<?> typeInfo,
+      InheritingConfiguration config, Set<Class<?>> visited) {
+    if (!visited.add(typeInfo.getType()))
+      return;
+    builder.append(typeInfo.getType().getName()).append('{');
+    for (Map.Entry<String, Mutator> entry : typeInfo.getMutators(config).entrySet())
+      appendProperty(builder, entry.getKey(), entry.getValue());
+    builder.append('}');
+    for (Mutator mutator : typeInfo.getMutators(config).values())
+      if (Types.mightContainsProperties(mutator.getType()))
+        appendMutators(builder, mutator.getTypeInfo(config), config, visited);
+  }
+
+  private static void appendProperty(StringBuilder builder, String name, PropertyInfo property) {
+    builder.append(name).append(':').append(property.getGenericType().getTypeName()).append(';');
+  }
+
+  /** 64 bit FNV-1a hash of the {@code chars}. */
+  private static long hash(CharSequence chars) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < chars.length(); i++) {
+      hash ^= chars.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  private static String keyFor(String sourceTypeName, String destinationTypeName,
+      String typeMapName) {
+    return sourceTypeName + '|' + destinationTypeName
+        + (typeMapName == null ? "" : '|' + typeMapName);
+  }
+
+  private static void writeNames(DataOutputStream out, List<? extends PropertyInfo> properties)
+      throws IOException {
+    out.writeInt(properties.size());
+    for (PropertyInfo property : properties)
+      out.writeUTF(property.getName());
+  }
+
+  private static void writeTypePair(DataOutputStream out, TypePair<?, ?> typePair)
+      throws IOException {
+    out.writeUTF(typePair.getSourceType().getName());
+    out.writeUTF(typePair.getDestinationType().getName());
+  }
+
+  private static String[] readTypePair(DataInputStream in) throws IOException {
+    return new String[] { in.readUTF(), in.readUTF() };
+  }
+
+  private static String[] readNames(DataInputStream in) throws IOException {
+    String[] names = new String[in.readInt()];
+    for (int i = 0; i < names.length; i++)
+      names[i] = in.readUTF();
+    return names;
+  }
+}
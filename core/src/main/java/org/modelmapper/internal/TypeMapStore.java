@@ -15,28 +15,57 @@
  */
 package org.modelmapper.internal;
 
+import org.modelmapper.ConfigurationException;
 import org.modelmapper.Converter;
 import org.modelmapper.PropertyMap;
 import org.modelmapper.TypeMap;
+import org.modelmapper.TypePair;
+import org.modelmapper.internal.util.ClassMetadata;
 import org.modelmapper.internal.util.Primitives;
 import org.modelmapper.internal.util.Types;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * @author Jonathan Halterman
  */
 public final class TypeMapStore {
-  private final Map<TypePair<?, ?>, TypeMap<?, ?>> typeMaps = new ConcurrentHashMap<TypePair<?, ?>, TypeMap<?, ?>>();
+  /**
+   * Number of TypeMaps being created by {@link #getOrCreate} on the current thread. A thread that is
+   * creating a TypeMap does not wait for the implicit creations of other threads, so that threads
+   * which create TypeMaps recursively cannot deadlock.
+   */
+  private static final ThreadLocal<int[]> CREATION_DEPTH = new ThreadLocal<int[]>() {
+    @Override
+    protected int[] initialValue() {
+      return new int[1];
+    }
+  };
+
+  private final ConcurrentMap<TypePair<?, ?>, TypeMap<?, ?>> typeMaps = new ConcurrentHashMap<TypePair<?, ?>, TypeMap<?, ?>>();
   private final Map<TypePair<?, ?>, TypeMap<?, ?>> immutableTypeMaps = Collections.unmodifiableMap(typeMaps);
-  private final Object lock = new Object();
+  /** Creations in progress by {@link #getOrCreate}, which complete once the TypeMap is stored */
+  private final ConcurrentMap<TypePair<?, ?>, Creation> creations = new ConcurrentHashMap<TypePair<?, ?>, Creation>();
+  /** Incremented whenever a TypeMap is added to the store */
+  private final AtomicInteger version = new AtomicInteger();
   /** Default configuration */
   private final InheritingConfiguration config;
+  /** Implicit mappings to apply in place of implicit matching, else {@code null} */
+  private volatile TypeMapSnapshot snapshot;
 
   TypeMapStore(InheritingConfiguration config) {
     this.config = config;
@@ -48,16 +77,15 @@ public final class TypeMapStore {
    */
   public <S, D> TypeMap<S, D> create(S source, Class<S> sourceType, Class<D> destinationType,
       String typeMapName, InheritingConfiguration configuration, MappingEngineImpl engine) {
-    synchronized (lock) {
-      TypeMapImpl<S, D> typeMap = new TypeMapImpl<S, D>(sourceType, destinationType, typeMapName,
-          configuration, engine);
-      if (configuration.isImplicitMappingEnabled()
-          && Types.mightContainsProperties(typeMap.getSourceType())
-          && Types.mightContainsProperties(typeMap.getDestinationType()))
-        ImplicitMappingBuilder.build(source, typeMap, config.typeMapStore, config.converterStore);
-      typeMaps.put(TypePair.of(sourceType, destinationType, typeMapName), typeMap);
-      return typeMap;
-    }
+    TypeMapImpl<S, D> typeMap = new TypeMapImpl<S, D>(sourceType, destinationType, typeMapName,
+        configuration, engine);
+    if (configuration.isImplicitMappingEnabled()
+        && Types.mightContainsProperties(typeMap.getSourceType())
+        && Types.mightContainsProperties(typeMap.getDestinationType()))
+      buildImplicitMappings(source, typeMap);
+    typeMaps.put(TypePair.of(sourceType, destinationType, typeMapName), typeMap);
+    version.incrementAndGet();
+    return typeMap;
   }
 
   /**
@@ -66,12 +94,11 @@ public final class TypeMapStore {
    */
   public <S, D> TypeMap<S, D> createEmptyTypeMap(Class<S> sourceType, Class<D> destinationType,
       String typeMapName, InheritingConfiguration configuration, MappingEngineImpl engine) {
-    synchronized (lock) {
-      TypeMapImpl<S, D> typeMap = new TypeMapImpl<S, D>(sourceType, destinationType, typeMapName,
-          configuration, engine);
-      typeMaps.put(TypePair.of(sourceType, destinationType, typeMapName), typeMap);
-      return typeMap;
-    }
+    TypeMapImpl<S, D> typeMap = new TypeMapImpl<S, D>(sourceType, destinationType, typeMapName,
+        configuration, engine);
+    typeMaps.put(TypePair.of(sourceType, destinationType, typeMapName), typeMap);
+    version.incrementAndGet();
+    return typeMap;
   }
 
   public Collection<TypeMap<?, ?>> get() {
@@ -111,36 +138,68 @@ public final class TypeMapStore {
    * Gets or creates a TypeMap. If {@code converter} is null, the TypeMap is configured with
    * implicit mappings, else the {@code converter} is set against the TypeMap.
    * 
+   * <p>
+   * TypeMaps for different type pairs are created concurrently. Threads that request a TypeMap
+   * while another thread is creating it wait for that creation rather than creating a duplicate.
+   * Threads that are creating a TypeMap themselves only wait if they request explicit mappings or a
+   * converter, and otherwise build an implicit TypeMap that is returned without being stored.
+   * 
    * @param propertyMap to add mappings for (nullable)
    * @param converter to set (nullable)
    */
-  @SuppressWarnings("unchecked")
   public <S, D> TypeMap<S, D> getOrCreate(S source, Class<S> sourceType, Class<D> destinationType,
       String typeMapName, PropertyMap<S, D> propertyMap, Converter<S, D> converter,
       MappingEngineImpl engine) {
-    synchronized (lock) {
-      TypeMapImpl<S, D> typeMap = getTypeMap(sourceType, destinationType, typeMapName);
-
-      if (typeMap == null) {
-        typeMap = new TypeMapImpl<S, D>(sourceType, destinationType, typeMapName, config, engine);
-        if (propertyMap != null)
-          typeMap.addMappings(propertyMap);
-        if (converter == null && config.isImplicitMappingEnabled()
-            && Types.mightContainsProperties(typeMap.getSourceType())
-            && Types.mightContainsProperties(typeMap.getDestinationType()))
-          ImplicitMappingBuilder.build(source, typeMap, config.typeMapStore, config.converterStore);
-
-        if (typeMap.isFullMatching()) {
-          typeMaps.put(TypePair.of(sourceType, destinationType, typeMapName), typeMap);
-        }
-      } else if (propertyMap != null) {
-        typeMap.addMappings(propertyMap);
+    TypePair<S, D> typePair = TypePair.of(sourceType, destinationType, typeMapName);
+    int[] creationDepth = CREATION_DEPTH.get();
+    TypeMapImpl<S, D> typeMap = getTypeMap(sourceType, destinationType, typeMapName);
+
+    while (typeMap == null) {
+      Creation creation = creations.get(typePair);
+      if (creation != null && creation.owner != Thread.currentThread()
+          && (creationDepth[0] == 0 || propertyMap != null || converter != null)) {
+        creation.join();
+        typeMap = getTypeMap(sourceType, destinationType, typeMapName);
+        continue;
       }
 
-      if (converter != null)
-        typeMap.setConverter(converter);
-      return typeMap;
+      Creation ownCreation = null;
+      if (creation == null) {
+        ownCreation = new Creation();
+        if (creations.putIfAbsent(typePair, ownCreation) != null)
+          continue;
+      }
+
+      creationDepth[0]++;
+      try {
+        // A creation may have completed between the lookup and registering our own
+        if (ownCreation != null
+            && (typeMap = getTypeMap(sourceType, destinationType, typeMapName)) != null)
+          break;
+
+        TypeMapImpl<S, D> created = build(source, sourceType, destinationType, typeMapName,
+            propertyMap, converter, engine);
+        if (converter != null)
+          created.setConverter(converter);
+        // Duplicates built during another creation are not stored, so that creation's TypeMap wins
+        if (ownCreation != null && created.isFullMatching())
+          typeMap = putIfAbsent(typePair, created);
+        if (typeMap == null || typeMap == created)
+          return created;
+      } finally {
+        creationDepth[0]--;
+        if (ownCreation != null) {
+          creations.remove(typePair, ownCreation);
+          ownCreation.complete(null);
+        }
+      }
     }
+
+    if (propertyMap != null)
+      typeMap.addMappings(propertyMap);
+    if (converter != null)
+      typeMap.setConverter(converter);
+    return typeMap;
   }
 
   /**
@@ -151,11 +210,9 @@ public final class TypeMapStore {
   public void put(TypeMap<?, ?> typeMap) {
     TypePair<?, ?> typePair = TypePair.of(typeMap.getSourceType(),
         typeMap.getDestinationType(), typeMap.getName());
-    synchronized (lock) {
-      if (typeMaps.containsKey(typePair))
-        throw new IllegalArgumentException("TypeMap exists in the store: " + typePair.toString());
-      typeMaps.put(typePair, typeMap);
-    }
+    if (typeMaps.putIfAbsent(typePair, typeMap) != null)
+      throw new IllegalArgumentException("TypeMap exists in the store: " + typePair.toString());
+    version.incrementAndGet();
   }
 
   /**
@@ -166,11 +223,203 @@ public final class TypeMapStore {
   public <S, D> void put(Class<S> sourceType, Class<D> destinationType, TypeMap<S, ? extends D> typeMap) {
     TypePair<S, D> typePair = TypePair.of(sourceType, destinationType,
         typeMap.getName());
-    synchronized (lock) {
-      if (typeMaps.containsKey(typePair))
-        throw new IllegalArgumentException("TypeMap exists in the store: " + typePair.toString());
-      typeMaps.put(typePair, typeMap);
+    if (typeMaps.putIfAbsent(typePair, typeMap) != null)
+      throw new IllegalArgumentException("TypeMap exists in the store: " + typePair.toString());
+    version.incrementAndGet();
+  }
+
+  /**
+   * Sets the {@code snapshot} whose implicit mappings are used for TypeMaps that are subsequently
+   * created without explicit mappings, in place of implicit matching.
+   */
+  public void setSnapshot(TypeMapSnapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  /**
+   * Rebuilds the stale TypeMaps in the background using the {@code executor}. A TypeMap is stale
+   * if the matching settings of its configuration, the converters for its property types or the
+   * TypeMaps it looked up for its property types have changed since it was built, or if a TypeMap
+   * it looked up is rebuilt. Only TypeMaps that were built solely from implicit mappings, and that
+   * have not been modified since, are rebuilt. TypeMaps are rebuilt after the TypeMaps they looked
+   * up, and the mappings of each stale TypeMap are replaced atomically once rebuilt.
+   * 
+   * @return a future of the number of TypeMaps rebuilt, which completes exceptionally with the
+   *         ConfigurationException of the first TypeMap that could not be rebuilt
+   */
+  public CompletableFuture<Integer> rebuildStale(Executor executor) {
+    return CompletableFuture.supplyAsync(new Supplier<Integer>() {
+      @Override
+      public Integer get() {
+        return rebuildStale();
+      }
+    }, executor);
+  }
+
+  /**
+   * Returns a version number that changes whenever a TypeMap is added to the store or rebuilt.
+   */
+  int version() {
+    return version.get();
+  }
+
+  /**
+   * Builds a TypeMap for {@link #getOrCreate}, without storing it.
+   */
+  private <S, D> TypeMapImpl<S, D> build(S source, Class<S> sourceType, Class<D> destinationType,
+      String typeMapName, PropertyMap<S, D> propertyMap, Converter<S, D> converter,
+      MappingEngineImpl engine) {
+    TypeMapImpl<S, D> typeMap = new TypeMapImpl<S, D>(sourceType, destinationType, typeMapName,
+        config, engine);
+    if (propertyMap != null)
+      typeMap.addMappings(propertyMap);
+    if (converter == null && config.isImplicitMappingEnabled()
+        && Types.mightContainsProperties(typeMap.getSourceType())
+        && Types.mightContainsProperties(typeMap.getDestinationType())) {
+      if (propertyMap == null)
+        buildImplicitMappings(source, typeMap);
+      else
+        ImplicitMappingBuilder.build(source, typeMap, config.typeMapStore, config.converterStore);
+    }
+    return typeMap;
+  }
+
+  /**
+   * Adds implicit mappings to the empty {@code typeMap}, from the snapshot if it contains the
+   * TypeMap's type pair, else by matching.
+   */
+  private <S, D> void buildImplicitMappings(S source, TypeMapImpl<S, D> typeMap) {
+    TypeMapSnapshot snapshot = this.snapshot;
+    if (snapshot != null && snapshot.apply(typeMap, this, config.converterStore))
+      return;
+
+    TypeMapDependencies dependencies = ImplicitMappingBuilder.build(source, typeMap, this,
+        config.converterStore);
+    if (typeMap.configuration.valueAccessStore.getFirstSupportedReader(typeMap.getSourceType()) == null)
+      typeMap.setDependencies(dependencies);
+  }
+
+  private int rebuildStale() {
+    Map<TypePair<?, ?>, TypeMapImpl<?, ?>> rebuildable = new LinkedHashMap<TypePair<?, ?>, TypeMapImpl<?, ?>>();
+    Set<TypePair<?, ?>> stale = new LinkedHashSet<TypePair<?, ?>>();
+    for (Map.Entry<TypePair<?, ?>, TypeMap<?, ?>> entry : typeMaps.entrySet()) {
+      if (!(entry.getValue() instanceof TypeMapImpl))
+        continue;
+      TypeMapImpl<?, ?> typeMap = (TypeMapImpl<?, ?>) entry.getValue();
+      TypeMapDependencies dependencies = typeMap.rebuildableDependencies();
+      if (dependencies == null || !entry.getKey().equals(TypePair.of(typeMap.getSourceType(),
+          typeMap.getDestinationType(), typeMap.getName())))
+        continue;
+
+      rebuildable.put(entry.getKey(), typeMap);
+      if (!dependencies.isCurrent(typeMap.configuration, this, config.converterStore))
+        stale.add(entry.getKey());
     }
+
+    // TypeMaps that looked up stale TypeMaps are stale as well
+    for (boolean added = !stale.isEmpty(); added;) {
+      added = false;
+      for (Map.Entry<TypePair<?, ?>, TypeMapImpl<?, ?>> entry : rebuildable.entrySet())
+        if (!stale.contains(entry.getKey()) && dependsOnAny(entry.getValue(), stale))
+          added = stale.add(entry.getKey());
+    }
+
+    List<TypePair<?, ?>> order = new ArrayList<TypePair<?, ?>>(stale.size());
+    Set<TypePair<?, ?>> visited = new HashSet<TypePair<?, ?>>();
+    for (TypePair<?, ?> typePair : stale)
+      orderRebuild(typePair, rebuildable, stale, visited, order);
+
+    int rebuilt = 0;
+    ConfigurationException failure = null;
+    for (TypePair<?, ?> typePair : order) {
+      try {
+        if (rebuild(rebuildable.get(typePair)))
+          rebuilt++;
+      } catch (ConfigurationException e) {
+        if (failure == null)
+          failure = e;
+        else
+          failure.addSuppressed(e);
+      }
+    }
+
+    if (failure != null)
+      throw failure;
+    return rebuilt;
+  }
+
+  /**
+   * Adds the {@code typePair} to the {@code order} after the stale type pairs that its TypeMap
+   * depends on. TypeMaps that depend on each other are ordered arbitrarily.
+   */
+  private static void orderRebuild(TypePair<?, ?> typePair,
+      Map<TypePair<?, ?>, TypeMapImpl<?, ?>> rebuildable, Set<TypePair<?, ?>> stale,
+      Set<TypePair<?, ?>> visited, List<TypePair<?, ?>> order) {
+    if (!visited.add(typePair))
+      return;
+    TypeMapDependencies dependencies = rebuildable.get(typePair).rebuildableDependencies();
+    if (dependencies != null)
+      for (TypePair<?, ?> dependency : stale)
+        if (dependencies.dependsOn(dependency))
+          orderRebuild(dependency, rebuildable, stale, visited, order);
+    order.add(typePair);
+  }
+
+  private static boolean dependsOnAny(TypeMapImpl<?, ?> typeMap, Set<TypePair<?, ?>> typePairs) {
+    TypeMapDependencies dependencies = typeMap.rebuildableDependencies();
+    if (dependencies != null)
+      for (TypePair<?, ?> typePair : typePairs)
+        if (dependencies.dependsOn(typePair))
+          return true;
+    return false;
+  }
+
+  /**
+   * Rebuilds the {@code typeMap}'s implicit mappings into a new TypeMap, whose mappings replace the
+   * {@code typeMap}'s mappings unless it was modified in the meantime.
+   *
+   * @return whether the mappings were replaced
+   */
+  private <S, D> boolean rebuild(TypeMapImpl<S, D> typeMap) {
+    TypeMapDependencies dependencies = typeMap.rebuildableDependencies();
+    if (dependencies == null)
+      return false;
+
+    TypeMapImpl<S, D> rebuilt = new TypeMapImpl<S, D>(typeMap.getSourceType(),
+        typeMap.getDestinationType(), typeMap.getName(), typeMap.configuration,
+        typeMap.getEngine());
+    if (typeMap.configuration.isImplicitMappingEnabled())
+      rebuilt.setDependencies(ImplicitMappingBuilder.build(null, rebuilt, this,
+          config.converterStore));
+    else
+      rebuilt.setDependencies(new TypeMapDependencies(typeMap.configuration));
+
+    if (!typeMap.replaceImplicitMappings(rebuilt, dependencies))
+      return false;
+    version.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Stores the {@code typeMap} unless a TypeMap was stored for the {@code typePair} in the meantime.
+   *
+   * @return the stored TypeMap
+   */
+  @SuppressWarnings("unchecked")
+  private <S, D> TypeMapImpl<S, D> putIfAbsent(TypePair<S, D> typePair, TypeMapImpl<S, D> typeMap) {
+    TypeMap<?, ?> existing = typeMaps.putIfAbsent(typePair, typeMap);
+    if (existing != null)
+      return (TypeMapImpl<S, D>) existing;
+    version.incrementAndGet();
+    return typeMap;
+  }
+
+  /**
+   * A TypeMap creation in progress by {@link #getOrCreate}, which completes once the TypeMap is
+   * stored.
+   */
+  private static final class Creation extends CompletableFuture<Void> {
+    final Thread owner = Thread.currentThread();
   }
 
   private <S, D> List<TypePair<?, ?>> getPrimitiveWrapperTypePairs(Class<S> sourceType, Class<D> destinationType, String typeMapName) {
@@ -192,7 +441,7 @@ public final class TypeMapStore {
     TypePair<S, D> typePair = TypePair.of(sourceType, destinationType, typeMapName);
 
     TypeMapImpl<S, D> typeMap = (TypeMapImpl<S, D>) typeMaps.get(typePair);
-    if (typeMap == null && isAnonymousEnumSubclass(sourceType)) {
+    if (typeMap == null && ClassMetadata.isAnonymousEnumSubclass(sourceType)) {
       typeMap = (TypeMapImpl<S, D>) typeMaps.get(
               TypePair.of((Class<S>) sourceType.getSuperclass(), destinationType, typeMapName)
       );
@@ -201,10 +450,4 @@ public final class TypeMapStore {
     return typeMap;
   }
 
-  private <S> boolean isAnonymousEnumSubclass(Class<S> sourceType) {
-    return sourceType.getSuperclass() != null
-        && sourceType.getSuperclass().isEnum()
-        && sourceType.isAnonymousClass();
-  }
-
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.modelmapper.TypeMap;
+import org.modelmapper.TypePair;
+import org.modelmapper.internal.util.Iterables;
+import org.modelmapper.internal.util.Types;
+import org.modelmapper.spi.Mapping;
+import org.modelmapper.spi.PropertyInfo;
+import org.modelmapper.spi.PropertyMapping;
+
+import net.jodah.typetools.TypeResolver;
+
+/**
+ * Builds TypeMaps for TypePairs concurrently, along with the TypeMaps for their properties that
+ * would otherwise be created the first time they are mapped.
+ */
+public final class TypeMapWarmer {
+  private final InheritingConfiguration config;
+  private final MappingEngineImpl engine;
+  private final Executor executor;
+  private final Listener listener;
+  /**
+   * Number of builds that were submitted and have not completed, plus one until all TypePairs
+   * passed to {@link #warmUp} have been submitted
+   */
+  private final AtomicInteger pending = new AtomicInteger(1);
+  /** Released once no builds are pending */
+  private final CountDownLatch completed = new CountDownLatch(1);
+  private final Set<TypePair<?, ?>> submitted = Collections.newSetFromMap(
+      new ConcurrentHashMap<TypePair<?, ?>, Boolean>());
+
+  /**
+   * Receives the outcome of each build, from the thread that attempted it.
+   */
+  public interface Listener {
+    /**
+     * Called once the TypeMap for the {@code typePair} was built, taking {@code buildNanos}, or
+     * failed to build with the {@code failure}.
+     */
+    void built(TypePair<?, ?> typePair, boolean nested, long buildNanos, RuntimeException failure);
+  }
+
+  private TypeMapWarmer(InheritingConfiguration config, MappingEngineImpl engine,
+      Executor executor, Listener listener) {
+    this.config = config;
+    this.engine = engine;
+    this.executor = executor;
+    this.listener = listener;
+  }
+
+  /**
+   * Builds the TypeMaps for the {@code typePairs} using the {@code executor}, notifying the
+   * {@code listener} of each build, and waits for the builds to complete.
+   */
+  public static void warmUp(Collection<? extends TypePair<?, ?>> typePairs, Executor executor,
+      InheritingConfiguration config, MappingEngineImpl engine, Listener listener) {
+    TypeMapWarmer warmer = new TypeMapWarmer(config, engine, executor, listener);
+    for (TypePair<?, ?> typePair : typePairs)
+      warmer.submit(typePair, false);
+    warmer.complete();
+    warmer.awaitCompletion();
+  }
+
+  private void submit(final TypePair<?, ?> typePair, final boolean nested) {
+    if (!submitted.add(typePair))
+      return;
+
+    pending.incrementAndGet();
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            build(typePair, nested);
+          } finally {
+            complete();
+          }
+        }
+      });
+    } catch (RuntimeException e) {
+      listener.built(typePair, nested, 0, e);
+      complete();
+    }
+  }
+
+  /**
+   * Marks a pending build as completed. Nested builds are submitted before the build that submits
+   * them completes, so the count only drops to zero once every build has completed.
+   */
+  private void complete() {
+    if (pending.decrementAndGet() == 0)
+      completed.countDown();
+  }
+
+  /**
+   * Waits for the pending builds to complete, preserving the interrupt status of the current
+   * thread.
+   */
+  private void awaitCompletion() {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        completed.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+
+  private void build(TypePair<?, ?> typePair, boolean nested) {
+    long start = System.nanoTime();
+    TypeMap<?, ?> typeMap = null;
+    RuntimeException failure = null;
+    try {
+      typeMap = config.typeMapStore.getOrCreate(null, typePair.getSourceType(),
+          typePair.getDestinationType(), typePair.getTypeMapName(), engine);
+      if (typeMap instanceof TypeMapImpl) {
+        TypeMapImpl<?, ?> typeMapImpl = (TypeMapImpl<?, ?>) typeMap;
+        typeMapImpl.pathIndex();
+        if (typeMapImpl.isSimple())
+          typeMapImpl.compiledTypeMap(engine);
+      }
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+    listener.built(typePair, nested, System.nanoTime() - start, failure);
+
+    if (typeMap != null)
+      for (Mapping mapping : typeMap.getMappings())
+        if (mapping instanceof PropertyMapping)
+          submitNested((PropertyMapping) mapping);
+  }
+
+  /**
+   * Submits the TypePair that the engine would create a TypeMap for when mapping the
+   * {@code mapping}'s source property, or its elements, to its destination property.
+   */
+  private void submitNested(PropertyMapping mapping) {
+    if (mapping.getConverter() != null || mapping.isSkipped())
+      return;
+    Class<?> sourceType = mapping.getLastSourceProperty().getType();
+    Class<?> destinationType = mapping.getLastDestinationProperty().getType();
+    if (Iterables.isIterable(sourceType) && Iterables.isIterable(destinationType)) {
+      sourceType = elementTypeOf(mapping.getLastSourceProperty());
+      destinationType = elementTypeOf(mapping.getLastDestinationProperty());
+    }
+    if (Types.mightContainsProperties(sourceType)
+        && Types.mightContainsProperties(destinationType)
+        && config.typeMapStore.get(sourceType, destinationType, null) == null
+        && config.converterStore.getFirstSupported(sourceType, destinationType) == null)
+      submit(TypePair.of(sourceType, destinationType), true);
+  }
+
+  private static Class<?> elementTypeOf(PropertyInfo property) {
+    if (property.getType().isArray())
+      return property.getType().getComponentType();
+    Class<?> elementType = TypeResolver.resolveRawArgument(property.getGenericType(),
+        property.getInitialType());
+    return elementType == TypeResolver.Unknown.class ? Object.class : elementType;
+  }
+}
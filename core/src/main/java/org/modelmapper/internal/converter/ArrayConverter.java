@@ -20,6 +20,7 @@ import java.lang.reflect.GenericArrayType;
 import java.util.Collection;
 
 import java.util.Iterator;
+import org.modelmapper.internal.ParallelCollectionMapper;
 import org.modelmapper.internal.util.Iterables;
 import org.modelmapper.internal.util.Types;
 import org.modelmapper.spi.ConditionalConverter;
@@ -47,6 +48,14 @@ class ArrayConverter implements ConditionalConverter<Object, Object> {
     Object destination = createDestination(context);
 
     Class<?> elementType = getElementType(context);
+    if (ParallelCollectionMapper.appliesTo(context, source)) {
+      Object[] elements = ParallelCollectionMapper.map(context, source,
+          destinationProvided ? destination : null, elementType);
+      for (int i = 0; i < elements.length; i++)
+        Array.set(destination, i, elements[i]);
+      return destination;
+    }
+
     int index = 0;
     for (Iterator<Object> iterator = Iterables.iterator(source); iterator.hasNext(); index++) {
       Object sourceElement = iterator.next();
@@ -15,11 +15,17 @@
  */
 package org.modelmapper.internal.converter;
 
+import org.modelmapper.internal.util.ClassMetadata;
 import org.modelmapper.spi.ConditionalConverter;
 import org.modelmapper.spi.ConditionalConverter.MatchResult;
 
+import java.util.AbstractList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Jonathan Halterman
@@ -33,14 +39,180 @@ public final class ConverterStore {
           new CalendarConverter(), new UuidConverter(),
   };
 
+  /** Maximum number of types that the store holds resolutions for itself */
+  private static final int MAX_TYPES = 1024;
+  /** Maximum number of resolutions per type */
+  private static final int MAX_RESOLUTIONS_PER_TYPE = 256;
+
   private final List<ConditionalConverter<?, ?>> converters;
+  /**
+   * Resolutions made against the current converters. Replaced whenever the converters change, so
+   * that resolutions made against the previous converters are discarded.
+   */
+  private volatile Resolutions resolutions = new Resolutions();
+  private final AtomicInteger version = new AtomicInteger();
+
+  /**
+   * Resolutions by one of their types, then by the other, including resolutions where no converter
+   * matches. Looked up without allocating a key. Resolutions are keyed by raw types, since
+   * converters are matched against raw types. Resolutions for types of class loaders other than
+   * ModelMapper's and its ancestors are stored against those types, by source type if the source
+   * type is of such a class loader, else by destination type, so that they neither keep the types
+   * reachable nor are kept once the types are unloaded. Resolutions between types of two such
+   * class loaders are not cached. Other resolutions are held by the store. The number of types the
+   * store holds resolutions for, and the number of resolutions per type, are bounded, evicting
+   * arbitrary entries once a bound is exceeded, which only costs matching the converters again.
+   */
+  private static final class Resolutions {
+    final ClassValue<ConcurrentMap<Class<?>, Resolution>> bySourceType =
+        new UnloadableResolutions();
+    final ClassValue<ConcurrentMap<Class<?>, Resolution>> byDestinationType =
+        new UnloadableResolutions();
+    final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Resolution>> bySourceTypeHeld =
+        new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Resolution>>();
+
+    /**
+     * Returns the resolutions by destination type that are held for the {@code sourceType}.
+     */
+    ConcurrentMap<Class<?>, Resolution> heldFor(Class<?> sourceType) {
+      ConcurrentMap<Class<?>, Resolution> typeResolutions = bySourceTypeHeld.get(sourceType);
+      if (typeResolutions == null) {
+        ConcurrentMap<Class<?>, Resolution> created = new ConcurrentHashMap<Class<?>, Resolution>();
+        typeResolutions = bySourceTypeHeld.putIfAbsent(sourceType, created);
+        if (typeResolutions == null) {
+          typeResolutions = created;
+          evict(bySourceTypeHeld, sourceType, MAX_TYPES);
+        }
+      }
+      return typeResolutions;
+    }
+  }
+
+  /**
+   * Resolutions stored against types that can be unloaded, else {@code null} for other types.
+   */
+  private static final class UnloadableResolutions
+      extends ClassValue<ConcurrentMap<Class<?>, Resolution>> {
+    @Override
+    protected ConcurrentMap<Class<?>, Resolution> computeValue(Class<?> type) {
+      return ClassMetadata.isUnloadable(type) ? new ConcurrentHashMap<Class<?>, Resolution>()
+          : null;
+    }
+  }
+
+  /**
+   * The converters' match results for a source and destination type.
+   */
+  private static final class Resolution {
+    /** The result of the first converter that does not return {@code MatchResult.NONE} */
+    final MatchResult firstMatchResult;
+    /** The first full match converter, else the first partial match converter, else null */
+    final ConditionalConverter<?, ?> firstSupported;
+    final boolean fullMatch;
+
+    Resolution(MatchResult firstMatchResult, ConditionalConverter<?, ?> firstSupported,
+        boolean fullMatch) {
+      this.firstMatchResult = firstMatchResult;
+      this.firstSupported = firstSupported;
+      this.fullMatch = fullMatch;
+    }
+  }
+
+  /**
+   * Converter list that discards the store's resolutions whenever it is modified, including when
+   * modified through {@link ConverterStore#getConverters()}.
+   */
+  private final class ConverterList extends AbstractList<ConditionalConverter<?, ?>> {
+    private final List<ConditionalConverter<?, ?>> delegate;
+
+    ConverterList(List<ConditionalConverter<?, ?>> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public ConditionalConverter<?, ?> get(int index) {
+      return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+      return delegate.size();
+    }
+
+    @Override
+    public ConditionalConverter<?, ?> set(int index, ConditionalConverter<?, ?> converter) {
+      try {
+        return delegate.set(index, converter);
+      } finally {
+        invalidate();
+      }
+    }
+
+    @Override
+    public void add(int index, ConditionalConverter<?, ?> converter) {
+      try {
+        delegate.add(index, converter);
+      } finally {
+        invalidate();
+      }
+    }
+
+    @Override
+    public ConditionalConverter<?, ?> remove(int index) {
+      try {
+        return delegate.remove(index);
+      } finally {
+        invalidate();
+      }
+    }
+
+    @Override
+    public boolean remove(Object converter) {
+      try {
+        return delegate.remove(converter);
+      } finally {
+        invalidate();
+      }
+    }
+
+    @Override
+    public int indexOf(Object converter) {
+      return delegate.indexOf(converter);
+    }
+
+    @Override
+    public Iterator<ConditionalConverter<?, ?>> iterator() {
+      final Iterator<ConditionalConverter<?, ?>> iterator = delegate.iterator();
+      return new Iterator<ConditionalConverter<?, ?>>() {
+        private ConditionalConverter<?, ?> last;
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public ConditionalConverter<?, ?> next() {
+          return last = iterator.next();
+        }
+
+        @Override
+        public void remove() {
+          if (last == null)
+            throw new IllegalStateException();
+          ConverterList.this.remove(last);
+          last = null;
+        }
+      };
+    }
+  }
 
   public ConverterStore() {
     this(new CopyOnWriteArrayList<>(DEFAULT_CONVERTERS));
   }
 
   ConverterStore(List<ConditionalConverter<?, ?>> converters) {
-    this.converters = converters;
+    this.converters = new ConverterList(converters);
   }
 
   /**
@@ -52,23 +224,36 @@ public final class ConverterStore {
   @SuppressWarnings("unchecked")
   public <S, D> ConditionalConverter<S, D> getFirstSupported(Class<?> sourceType,
       Class<?> destinationType) {
-    ConditionalConverter<S, D> firstPartialMatchConverter = null;
+    return (ConditionalConverter<S, D>) resolve(sourceType, destinationType).firstSupported;
+  }
 
-    for (ConditionalConverter<?, ?> converter : converters) {
-      MatchResult matchResult = converter.match(sourceType, destinationType);
-      if (matchResult == MatchResult.FULL)
-        return (ConditionalConverter<S, D>) converter;
-      if (firstPartialMatchConverter == null
-          && matchResult == MatchResult.PARTIAL)
-        firstPartialMatchConverter = (ConditionalConverter<S, D>) converter;
-    }
-    return firstPartialMatchConverter;
+  /**
+   * Returns the match result of the first converter that supports converting from
+   * {@code sourceType} to {@code destinationType}, else {@code MatchResult.NONE}.
+   */
+  public MatchResult getFirstMatchResult(Class<?> sourceType, Class<?> destinationType) {
+    return resolve(sourceType, destinationType).firstMatchResult;
+  }
+
+  /**
+   * Returns whether any converter fully matches converting from {@code sourceType} to
+   * {@code destinationType}.
+   */
+  public boolean isFullySupported(Class<?> sourceType, Class<?> destinationType) {
+    return resolve(sourceType, destinationType).fullMatch;
   }
 
   public List<ConditionalConverter<?, ?>> getConverters() {
     return converters;
   }
 
+  /**
+   * Returns a version number that changes whenever the converters are modified.
+   */
+  public int version() {
+    return version.get();
+  }
+
   public ConverterStore removeConverter(Class<? extends ConditionalConverter<?, ?>> converterClass) {
     ConditionalConverter<?, ?> matchConverter = getConverterByType(converterClass);
     if (matchConverter != null)
@@ -108,6 +293,69 @@ public final class ConverterStore {
       return this;
   }
 
+  /**
+   * Returns the converters' resolution for the {@code sourceType} and {@code destinationType},
+   * matching the converters in order if it is not yet known.
+   */
+  private Resolution resolve(Class<?> sourceType, Class<?> destinationType) {
+    Resolutions resolutions = this.resolutions;
+    ConcurrentMap<Class<?>, Resolution> typeResolutions = resolutions.bySourceType.get(sourceType);
+    Class<?> key = destinationType;
+    if (typeResolutions != null) {
+      if (destinationType.getClassLoader() != sourceType.getClassLoader()
+          && ClassMetadata.isUnloadable(destinationType))
+        return match(sourceType, destinationType);
+    } else {
+      typeResolutions = resolutions.byDestinationType.get(destinationType);
+      if (typeResolutions != null)
+        key = sourceType;
+      else
+        typeResolutions = resolutions.heldFor(sourceType);
+    }
+
+    Resolution resolution = typeResolutions.get(key);
+    if (resolution == null) {
+      resolution = match(sourceType, destinationType);
+      if (typeResolutions.putIfAbsent(key, resolution) == null)
+        evict(typeResolutions, key, MAX_RESOLUTIONS_PER_TYPE);
+    }
+    return resolution;
+  }
+
+  /**
+   * Evicts entries other than the entry for the {@code retainedKey} until the {@code map} holds at
+   * most {@code maxSize} entries.
+   */
+  private static <K> void evict(ConcurrentMap<K, ?> map, K retainedKey, int maxSize) {
+    for (Iterator<K> keys = map.keySet().iterator(); map.size() > maxSize && keys.hasNext();) {
+      K key = keys.next();
+      if (!key.equals(retainedKey))
+        keys.remove();
+    }
+  }
+
+  private Resolution match(Class<?> sourceType, Class<?> destinationType) {
+    MatchResult firstMatchResult = MatchResult.NONE;
+    ConditionalConverter<?, ?> firstPartialMatchConverter = null;
+
+    for (ConditionalConverter<?, ?> converter : converters) {
+      MatchResult matchResult = converter.match(sourceType, destinationType);
+      if (firstMatchResult == MatchResult.NONE && matchResult != null)
+        firstMatchResult = matchResult;
+      if (matchResult == MatchResult.FULL)
+        return new Resolution(firstMatchResult, converter, true);
+      if (firstPartialMatchConverter == null
+          && matchResult == MatchResult.PARTIAL)
+        firstPartialMatchConverter = converter;
+    }
+    return new Resolution(firstMatchResult, firstPartialMatchConverter, false);
+  }
+
+  private void invalidate() {
+    resolutions = new Resolutions();
+    version.incrementAndGet();
+  }
+
   private ConditionalConverter<?, ?> getConverterByType(Class<? extends ConditionalConverter<?, ?>> converterClass) {
     for (ConditionalConverter<?, ?> converter : converters) {
       if (converter.getClass().equals(converterClass))
@@ -15,6 +15,7 @@
  */
 package org.modelmapper.internal.converter;
 
+import org.modelmapper.internal.util.ClassMetadata;
 import org.modelmapper.spi.ConditionalConverter;
 import org.modelmapper.spi.MappingContext;
 
@@ -46,7 +47,7 @@ class EnumConverter implements ConditionalConverter<Object, Enum<?>> {
         : MatchResult.NONE;
   }
 
-  private boolean isEnum( Class<?> type ) {
-      return type.isAnonymousClass() ? isEnum( type.getSuperclass() ) : type.isEnum();
+  private boolean isEnum(Class<?> type) {
+    return ClassMetadata.isEnum(type);
   }
 }
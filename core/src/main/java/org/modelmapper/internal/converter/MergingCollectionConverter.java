@@ -15,6 +15,7 @@
  */
 package org.modelmapper.internal.converter;
 
+import org.modelmapper.internal.ParallelCollectionMapper;
 import org.modelmapper.internal.util.Iterables;
 import org.modelmapper.internal.util.MappingContextHelper;
 import org.modelmapper.spi.ConditionalConverter;
@@ -46,19 +47,25 @@ public class MergingCollectionConverter implements ConditionalConverter<Object,
     Collection<Object> destination = MappingContextHelper.createCollection(context);
     Class<?> elementType = MappingContextHelper.resolveDestinationGenericType(context);
 
-    int index = 0;
-    for (Iterator<Object> iterator = Iterables.iterator(source); iterator.hasNext(); index++) {
-      Object sourceElement = iterator.next();
-      Object element = null;
-      if (originalDestination != null)
-        element = Iterables.getElement(originalDestination, index);
-      if (sourceElement != null) {
-        MappingContext<?, ?> elementContext = element == null
-            ? context.create(sourceElement, elementType)
-            : context.create(sourceElement, element);
-        element = context.getMappingEngine().map(elementContext);
+    if (ParallelCollectionMapper.appliesTo(context, source)) {
+      for (Object element : ParallelCollectionMapper.map(context, source, originalDestination,
+          elementType))
+        destination.add(element);
+    } else {
+      int index = 0;
+      for (Iterator<Object> iterator = Iterables.iterator(source); iterator.hasNext(); index++) {
+        Object sourceElement = iterator.next();
+        Object element = null;
+        if (originalDestination != null)
+          element = Iterables.getElement(originalDestination, index);
+        if (sourceElement != null) {
+          MappingContext<?, ?> elementContext = element == null
+              ? context.create(sourceElement, elementType)
+              : context.create(sourceElement, element);
+          element = context.getMappingEngine().map(elementContext);
+        }
+        destination.add(element);
       }
-      destination.add(element);
     }
     for (Object element : Iterables.subIterable(originalDestination, sourceLength))
       destination.add(element);
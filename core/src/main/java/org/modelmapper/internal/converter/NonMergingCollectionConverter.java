@@ -15,6 +15,7 @@
  */
 package org.modelmapper.internal.converter;
 
+import org.modelmapper.internal.ParallelCollectionMapper;
 import org.modelmapper.internal.util.Iterables;
 import org.modelmapper.internal.util.MappingContextHelper;
 import org.modelmapper.spi.ConditionalConverter;
@@ -45,6 +46,13 @@ public class NonMergingCollectionConverter implements ConditionalConverter<Objec
     Collection<Object> destination = MappingContextHelper.createCollection(context);
     Class<?> elementType = MappingContextHelper.resolveDestinationGenericType(context);
 
+    if (ParallelCollectionMapper.appliesTo(context, source)) {
+      for (Object element : ParallelCollectionMapper.map(context, source, originalDestination,
+          elementType))
+        destination.add(element);
+      return destination;
+    }
+
     int index = 0;
     for (Iterator<Object> iterator = Iterables.iterator(source); iterator.hasNext(); index++) {
       Object sourceElement = iterator.next();
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.internal.util;
+
+import java.lang.reflect.Modifier;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Facts about a class that are consulted while mapping, computed once per class and cached against
+ * it. Only JDK types are cached against classes, packing the facts into an Integer, so that caching
+ * facts about classes of other class loaders, such as JDK classes, does not keep ModelMapper's own
+ * class loader reachable.
+ */
+public final class ClassMetadata {
+  private static final int PROXIED = 1;
+  private static final int PRIMITIVE = 1 << 1;
+  private static final int ITERABLE = 1 << 2;
+  private static final int MIGHT_CONTAIN_PROPERTIES = 1 << 3;
+  private static final int VALUE_TYPE = 1 << 4;
+  private static final int ENUM = 1 << 5;
+  private static final int ANONYMOUS_ENUM_SUBCLASS = 1 << 6;
+  private static final int UNLOADABLE = 1 << 7;
+
+  private static final ClassValue<Integer> FLAGS = new ClassValue<Integer>() {
+    @Override
+    protected Integer computeValue(Class<?> type) {
+      return Integer.valueOf(flagsOf(type));
+    }
+  };
+  private static final ClassValue<Class<?>> DE_PROXIED_TYPES = new ClassValue<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> type) {
+      return Types.resolveDeProxied(type, isProxied(type));
+    }
+  };
+
+  private ClassMetadata() {
+  }
+
+  private static int flagsOf(Class<?> type) {
+    boolean primitive = Primitives.isPrimitive(type);
+    boolean iterable = type.isArray() || Collection.class.isAssignableFrom(type);
+    boolean mightContainProperties = type != Object.class
+        && type != String.class
+        && type != Date.class
+        && type != Calendar.class
+        && !primitive
+        && !iterable
+        && !Types.isGroovyType(type);
+    boolean valueType = primitive
+        || type == String.class
+        || type.isEnum() && Modifier.isFinal(type.getModifiers());
+    boolean anonymousEnumSubclass = type.isAnonymousClass() && type.getSuperclass() != null
+        && type.getSuperclass().isEnum();
+    boolean enumType = type.isEnum() || type.isAnonymousClass() && type.getSuperclass() != null
+        && isEnum(type.getSuperclass());
+
+    return (Types.resolveProxied(type) ? PROXIED : 0)
+        | (unloadable(type) ? UNLOADABLE : 0)
+        | (primitive ? PRIMITIVE : 0)
+        | (iterable ? ITERABLE : 0)
+        | (mightContainProperties ? MIGHT_CONTAIN_PROPERTIES : 0)
+        | (valueType ? VALUE_TYPE : 0)
+        | (enumType ? ENUM : 0)
+        | (anonymousEnumSubclass ? ANONYMOUS_ENUM_SUBCLASS : 0);
+  }
+
+  private static boolean unloadable(Class<?> type) {
+    ClassLoader typeLoader = type.getClassLoader();
+    if (typeLoader == null)
+      return false;
+    for (ClassLoader loader = ClassMetadata.class.getClassLoader(); loader != null;
+        loader = loader.getParent())
+      if (loader == typeLoader)
+        return false;
+    return true;
+  }
+
+  private static boolean is(Class<?> type, int flag) {
+    return (FLAGS.get(type).intValue() & flag) != 0;
+  }
+
+  /**
+   * Returns the proxied type if the {@code type} is a proxy, else the {@code type} itself.
+   */
+  public static Class<?> getDeProxiedType(Class<?> type) {
+    return DE_PROXIED_TYPES.get(type);
+  }
+
+  public static boolean isProxied(Class<?> type) {
+    return is(type, PROXIED);
+  }
+
+  /**
+   * Returns whether the {@code type} is a primitive or primitive wrapper.
+   */
+  public static boolean isPrimitive(Class<?> type) {
+    return is(type, PRIMITIVE);
+  }
+
+  /**
+   * Returns whether the {@code type} is an array or Collection.
+   */
+  public static boolean isIterable(Class<?> type) {
+    return is(type, ITERABLE);
+  }
+
+  /**
+   * @see Types#mightContainsProperties(Class)
+   */
+  public static boolean mightContainProperties(Class<?> type) {
+    return is(type, MIGHT_CONTAIN_PROPERTIES);
+  }
+
+  /**
+   * @see Types#isValueType(Class)
+   */
+  public static boolean isValueType(Class<?> type) {
+    return is(type, VALUE_TYPE);
+  }
+
+  /**
+   * Returns whether the {@code type} is an enum, or the body of an enum constant.
+   */
+  public static boolean isEnum(Class<?> type) {
+    return is(type, ENUM);
+  }
+
+  /**
+   * Returns whether the {@code type} is the body of an enum constant.
+   */
+  public static boolean isAnonymousEnumSubclass(Class<?> type) {
+    return is(type, ANONYMOUS_ENUM_SUBCLASS);
+  }
+
+  /**
+   * Returns whether the {@code type} can be unloaded while ModelMapper's class loader is reachable,
+   * which is when its class loader is neither ModelMapper's class loader nor one of its ancestors.
+   */
+  public static boolean isUnloadable(Class<?> type) {
+    return is(type, UNLOADABLE);
+  }
+}
@@ -35,7 +35,7 @@ public final class Iterables {
    * @return {@code true} if the type is an iterable, otherwise, return {@code false} .
    */
   public static boolean isIterable(Class<?> type) {
-    return type.isArray() || Collection.class.isAssignableFrom(type);
+    return ClassMetadata.isIterable(type);
   }
 
   /**
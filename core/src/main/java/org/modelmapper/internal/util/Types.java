@@ -26,8 +26,6 @@ import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
-import java.util.Calendar;
-import java.util.Date;
 
 /**
  * Utilities for working with types.
@@ -53,25 +51,33 @@ public final class Types {
    */
   @SuppressWarnings("unchecked")
   public static <T> Class<T> deProxy(Class<?> type) {
+    return (Class<T>) ClassMetadata.getDeProxiedType(type);
+  }
+
+  public static boolean isProxied(Class<?> type) {
+    return ClassMetadata.isProxied(type);
+  }
+
+  static Class<?> resolveDeProxied(Class<?> type, boolean proxied) {
     // Ignore JDK proxies
     if (type.isInterface())
-      return (Class<T>) type;
+      return type;
 
-    if (isProxied(type)) {
+    if (proxied) {
       final Class<?> superclass = type.getSuperclass();
       if (!superclass.equals(Object.class) && !superclass.equals(Proxy.class))
-        return (Class<T>) superclass;
+        return superclass;
       else {
         Class<?>[] interfaces = type.getInterfaces();
         if (interfaces.length > 0)
-          return (Class<T>) interfaces[0];
+          return interfaces[0];
       }
     }
 
-    return (Class<T>) type;
+    return type;
   }
 
-  public static boolean isProxied(Class<?> type) {
+  static boolean resolveProxied(Class<?> type) {
     if (type.getName().contains("$ByteBuddy$"))
       return true;
     if (type.getName().contains("$$EnhancerBy"))
@@ -191,13 +197,15 @@ public final class Types {
    * Returns whether the type might contains properties or not.
    */
   public static boolean mightContainsProperties(Class<?> type) {
-    return type != Object.class
-        && type != String.class
-        && type != Date.class
-        && type != Calendar.class
-        && !Primitives.isPrimitive(type)
-        && !Iterables.isIterable(type)
-        && !Types.isGroovyType(type);
+    return ClassMetadata.mightContainProperties(type);
+  }
+
+  /**
+   * Returns whether values of the {@code type} are primitives, primitive wrappers, Strings or enum
+   * constants without a body, and therefore always have the {@code type} at runtime.
+   */
+  public static boolean isValueType(Class<?> type) {
+    return ClassMetadata.isValueType(type);
   }
 
   public static boolean isInternalType(Class<?> type) {
@@ -19,6 +19,10 @@ package org.modelmapper.spi;
  * Identifies source to destination property matches by comparing source and destination type, property
  * and property type names.
  * 
+ * <p>
+ * Implementations may also implement {@link SourcePropertyFilter} to rule out source properties
+ * before they are matched.
+ * 
  * @author Jonathan Halterman
  */
 public interface MatchingStrategy {
@@ -21,6 +21,9 @@ import java.util.List;
  * Encapsulates property name information to be use for determining whether a hierarchy of source
  * and destination properties match.
  *
+ * <p>
+ * Instances provided by ModelMapper may also implement {@link TokenMatchMemo}.
+ *
  *  @author Jonathan Halterman
  */
 public interface PropertyNameInfo {
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spi;
+
+import java.util.List;
+
+/**
+ * Optional extension of {@link MatchingStrategy} for strategies that can rule out a source property
+ * by its name tokens alone. When the configured matching strategy also implements this interface,
+ * ModelMapper skips matching a ruled out source property, and, if
+ * {@link #isEverySourcePropertyMatched()}, the properties nested beneath it, against a destination
+ * property hierarchy.
+ * 
+ * <p>
+ * A filter must only rule out source properties that {@link MatchingStrategy#matches} would never
+ * match, otherwise implicit mappings that the strategy would have matched are silently dropped.
+ */
+public interface SourcePropertyFilter {
+  /**
+   * Determines whether a source property at the {@code sourceIndex} of a source property hierarchy
+   * can be matched to a destination property hierarchy.
+   * 
+   * @param sourceTokens the name tokens of the source property
+   * @param sourceIndex the index of the source property within its hierarchy
+   * @param destinationTokens the name tokens of each property in the destination hierarchy
+   * @return false if no source hierarchy with the source property at {@code sourceIndex} can be
+   *         matched to the destination hierarchy, else true
+   */
+  boolean canMatch(Tokens sourceTokens, int sourceIndex, List<Tokens> destinationTokens);
+
+  /**
+   * Indicates whether every property of a source hierarchy must be matched for the hierarchy to
+   * match, in which case source properties nested beneath a property that
+   * {@link #canMatch(Tokens, int, List) cannot match} cannot be matched either.
+   * 
+   * @return true if every source property must be matched else false
+   */
+  boolean isEverySourcePropertyMatched();
+}
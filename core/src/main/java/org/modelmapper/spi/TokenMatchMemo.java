@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.modelmapper.spi;
+
+/**
+ * Optional extension of {@link PropertyNameInfo} that memoizes the results of matching source
+ * property tokens to destination property tokens for the duration of a TypeMap build. Since the
+ * same property names are matched against each other many times during a build, a
+ * {@link MatchingStrategy} may use the memo of a {@code PropertyNameInfo} that implements this
+ * interface rather than comparing the tokens again.
+ * 
+ * <p>
+ * The memoized results are opaque to ModelMapper and are only read back by the matching strategy
+ * that stored them. Tokens are compared by identity, as ModelMapper shares the Tokens of each
+ * property name across a build.
+ */
+public interface TokenMatchMemo {
+  /**
+   * Returns the match results memoized for the {@code sourceTokens} and {@code destinationTokens}.
+   * 
+   * @param sourceTokens the tokens of a source property name
+   * @param destinationTokens the tokens of a destination property name
+   * @return the memoized match results, else {@code null} if none were memoized
+   */
+  int[] getTokenMatches(Tokens sourceTokens, Tokens destinationTokens);
+
+  /**
+   * Memoizes the {@code matches} for the {@code sourceTokens} and {@code destinationTokens}.
+   * 
+   * @param sourceTokens the tokens of a source property name
+   * @param destinationTokens the tokens of a destination property name
+   * @param matches the match results to memoize
+   */
+  void putTokenMatches(Tokens sourceTokens, Tokens destinationTokens, int[] matches);
+}
@@ -82,6 +82,20 @@ public class TypeMapTest extends AbstractTest {
     assertEquals(personMap.getMappings().size(), 3);
   }
 
+  public void shouldReturnSnapshotOfMappings() {
+    TypeMap<Person, PersonDTO> personMap = modelMapper.createTypeMap(Person.class, PersonDTO.class);
+    List<Mapping> mappings = personMap.getMappings();
+
+    personMap.addMappings(new PropertyMap<Person, PersonDTO>() {
+      protected void configure() {
+        map().setEmployerName(source.getEmployer());
+      }
+    });
+
+    assertEquals(mappings.size(), 1);
+    assertEquals(personMap.getMappings().size(), 2);
+  }
+
   public void shouldOverrideMappings() {
     TypeMap<Person, PersonDTO> personMap = modelMapper.createTypeMap(Person.class, PersonDTO.class);
     assertEquals(personMap.getMappings().size(), 1);
@@ -2,12 +2,83 @@ package org.modelmapper.convention;
 
 import static org.modelmapper.convention.InexactMatcher.matchTokens;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.modelmapper.spi.PropertyInfo;
+import org.modelmapper.spi.PropertyNameInfo;
+import org.modelmapper.spi.TokenMatchMemo;
 import org.modelmapper.spi.Tokens;
 import org.testng.annotations.Test;
 
 @Test
 public class InexactMatcherTest {
+  static class MemoizingPropertyNameInfo implements PropertyNameInfo, TokenMatchMemo {
+    final Tokens source;
+    final Tokens destination;
+    final Map<Tokens, int[]> matches = new IdentityHashMap<Tokens, int[]>();
+
+    MemoizingPropertyNameInfo(Tokens source, Tokens destination) {
+      this.source = source;
+      this.destination = destination;
+    }
+
+    public List<PropertyInfo> getDestinationProperties() {
+      return Collections.emptyList();
+    }
+
+    public List<Tokens> getDestinationPropertyTokens() {
+      return Arrays.asList(destination);
+    }
+
+    public Tokens getSourceClassTokens() {
+      return Tokens.of();
+    }
+
+    public List<PropertyInfo> getSourceProperties() {
+      return Collections.emptyList();
+    }
+
+    public List<Tokens> getSourcePropertyTokens() {
+      return Arrays.asList(source);
+    }
+
+    public List<Tokens> getSourcePropertyTypeTokens() {
+      return Collections.emptyList();
+    }
+
+    public int[] getTokenMatches(Tokens sourceTokens, Tokens destinationTokens) {
+      return sourceTokens == source ? matches.get(destinationTokens) : null;
+    }
+
+    public void putTokenMatches(Tokens sourceTokens, Tokens destinationTokens, int[] matches) {
+      this.matches.put(destinationTokens, matches);
+    }
+  }
+
+  public void shouldMemoizeTokenMatches() {
+    MemoizingPropertyNameInfo propertyNameInfo = new MemoizingPropertyNameInfo(
+        Tokens.of("customer", "name"), Tokens.of("customer", "name"));
+    assertTrue(new StandardMatchingStrategy.Matcher(propertyNameInfo).match());
+    assertEquals(propertyNameInfo.matches.get(propertyNameInfo.destination), new int[] { 1, 1 });
+
+    propertyNameInfo.matches.put(propertyNameInfo.destination, new int[] { 0, 0 });
+    assertFalse(new StandardMatchingStrategy.Matcher(propertyNameInfo).match());
+  }
+
+  public void shouldMatchEmptyTokens() {
+    assertEquals(matchTokens(Tokens.of(""), Tokens.of(""), 0), 0);
+    assertEquals(matchTokens(Tokens.of("", "name"), Tokens.of("", "name"), 0), 2);
+    assertEquals(matchTokens(Tokens.of("name", ""), Tokens.of("name"), 0), 1);
+    assertEquals(matchTokens(Tokens.of("a", "", "b"), Tokens.of("ab"), 0), 0);
+  }
+
   public void shouldMatchTokens() {
     // Positive
     assertEquals(
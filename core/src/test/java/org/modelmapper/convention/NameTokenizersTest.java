@@ -2,6 +2,8 @@ package org.modelmapper.convention;
 
 import static org.testng.Assert.assertEquals;
 
+import java.util.regex.Pattern;
+
 import org.testng.annotations.Test;
 
 /**
@@ -21,6 +23,15 @@ public class NameTokenizersTest {
     assertEquals(NameTokenizers.CAMEL_CASE.tokenize("", null), new String[] { "" });
   }
 
+  public void testCamelCaseTokenizerMatchesRegexTokenization() {
+    Pattern camelCase = Pattern.compile(
+        "(?<=[A-Z])(?=[A-Z][a-z])|(?<=[^A-Z])(?=[A-Z])|(?<=[A-Za-z])(?=[^A-Za-z])");
+    String[] names = { "a", "A", "URLName", "getHTTPResponse", "address2City", "line12Zip",
+        "_foo", "foo_", "foo_bar", "FOO", "fooBAR", "x1y2Z3", "\u00e9t\u00e9Date", "a$b", "ABc1" };
+    for (String name : names)
+      assertEquals(NameTokenizers.CAMEL_CASE.tokenize(name, null), camelCase.split(name), name);
+  }
+
   public void testUnderscoreTokenizer() {
     assertEquals(NameTokenizers.UNDERSCORE.tokenize("abc_Def_G", null), new String[] { "abc",
         "Def", "G" });
@@ -0,0 +1,163 @@
+package org.modelmapper.functional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.modelmapper.ConfigurationException;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.spi.Mapping;
+import org.modelmapper.spi.MatchingStrategy;
+import org.modelmapper.spi.PropertyNameInfo;
+import org.modelmapper.spi.SourcePropertyFilter;
+import org.modelmapper.spi.Tokens;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Asserts that filtering source properties by name yields the same mappings as matching every
+ * source property.
+ */
+@Test(groups = "functional")
+public class SourcePropertyFiltering {
+  static class Order {
+    String orderNumber;
+    String customerName;
+    Customer customer;
+    Address billingAddress;
+    Address shippingAddress;
+  }
+
+  static class Customer {
+    String name;
+    String firstName;
+    Address address;
+    Contact contact;
+  }
+
+  static class Contact {
+    String email;
+    String phoneNumber;
+    Address address;
+  }
+
+  static class Address {
+    String street;
+    String city;
+    String zipCode;
+  }
+
+  static class OrderDTO {
+    String orderNumber;
+    String customerName;
+    String customerFirstName;
+    String customerAddressCity;
+    String billingaddressstreet;
+    String billingAddressZipcode;
+    String shippingCity;
+    String contactEmail;
+    String customerContactAddressZipCode;
+    String phone;
+    String email;
+    AddressDTO shippingAddress;
+    CustomerDTO customer;
+  }
+
+  static class AddressDTO {
+    String street;
+    String city;
+  }
+
+  static class CustomerDTO {
+    String name;
+    String contactPhoneNumber;
+    AddressDTO address;
+  }
+
+  /**
+   * Delegates to a matching strategy, hiding that it can filter source properties.
+   */
+  static class UnfilteredMatchingStrategy implements MatchingStrategy {
+    private final MatchingStrategy delegate;
+
+    UnfilteredMatchingStrategy(MatchingStrategy delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isExact() {
+      return delegate.isExact();
+    }
+
+    @Override
+    public boolean matches(PropertyNameInfo propertyNameInfo) {
+      return delegate.matches(propertyNameInfo);
+    }
+  }
+
+  /**
+   * Delegates to the standard matching strategy, ruling out source properties named customer.
+   */
+  static class CustomerFilteringMatchingStrategy extends UnfilteredMatchingStrategy implements
+      SourcePropertyFilter {
+    CustomerFilteringMatchingStrategy() {
+      super(MatchingStrategies.STANDARD);
+    }
+
+    @Override
+    public boolean canMatch(Tokens sourceTokens, int sourceIndex, List<Tokens> destinationTokens) {
+      return !(sourceTokens.size() == 1 && sourceTokens.token(0).equalsIgnoreCase("customer"));
+    }
+
+    @Override
+    public boolean isEverySourcePropertyMatched() {
+      return true;
+    }
+  }
+
+  @DataProvider
+  Object[][] strategies() {
+    return new Object[][] { { MatchingStrategies.STANDARD, false },
+        { MatchingStrategies.STANDARD, true }, { MatchingStrategies.LOOSE, false },
+        { MatchingStrategies.LOOSE, true }, { MatchingStrategies.STRICT, false },
+        { MatchingStrategies.STRICT, true } };
+  }
+
+  @Test(dataProvider = "strategies")
+  public void shouldMatchAsWithoutFiltering(MatchingStrategy strategy, boolean ambiguityIgnored) {
+    assertEquals(mappings(strategy, ambiguityIgnored),
+        mappings(new UnfilteredMatchingStrategy(strategy), ambiguityIgnored));
+  }
+
+  public void shouldSkipSourcePropertiesRuledOutByCustomStrategy() {
+    List<String> mappings = mappings(new CustomerFilteringMatchingStrategy(), true);
+
+    assertFalse(mappings.isEmpty());
+    for (String mapping : mappings)
+      assertFalse(mapping.contains("Order.customer."), mapping);
+    assertTrue(mappings(MatchingStrategies.STANDARD, true).toString().contains("Order.customer."));
+  }
+
+  private static List<String> mappings(MatchingStrategy strategy, boolean ambiguityIgnored) {
+    ModelMapper modelMapper = new ModelMapper();
+    modelMapper.getConfiguration()
+        .setFieldMatchingEnabled(true)
+        .setFieldAccessLevel(AccessLevel.PACKAGE_PRIVATE)
+        .setAmbiguityIgnored(ambiguityIgnored)
+        .setMatchingStrategy(strategy);
+
+    List<String> mappings = new ArrayList<String>();
+    try {
+      for (Mapping mapping : modelMapper.createTypeMap(Order.class, OrderDTO.class).getMappings())
+        mappings.add(mapping.toString());
+    } catch (ConfigurationException e) {
+      mappings.add(e.getMessage());
+    }
+    return mappings;
+  }
+}
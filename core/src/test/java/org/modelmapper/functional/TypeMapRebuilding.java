@@ -0,0 +1,201 @@
+package org.modelmapper.functional;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.Executor;
+
+import org.modelmapper.AbstractConverter;
+import org.modelmapper.AbstractTest;
+import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.spi.MatchingStrategy;
+import org.modelmapper.spi.PropertyNameInfo;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional")
+public class TypeMapRebuilding extends AbstractTest {
+  private static final Executor CALLER_RUNS = new Executor() {
+    @Override
+    public void execute(Runnable command) {
+      command.run();
+    }
+  };
+
+  public static class Order {
+    Customer customer = new Customer();
+    Address address = new Address();
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+  }
+
+  public static class Customer {
+    public String getName() {
+      return "joe";
+    }
+  }
+
+  public static class Address {
+    public String getStreet() {
+      return "main";
+    }
+  }
+
+  public static class OrderDTO {
+    String customerName;
+    Location address;
+
+    public void setCustomerName(String customerName) {
+      this.customerName = customerName;
+    }
+
+    public void setAddress(Location address) {
+      this.address = address;
+    }
+  }
+
+  public static class Location {
+    String street;
+
+    public void setStreet(String street) {
+      this.street = street;
+    }
+  }
+
+  public static class Item {
+    public String getName() {
+      return "widget";
+    }
+  }
+
+  public static class ItemDTO {
+    String name;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  static class AddressConverter extends AbstractConverter<Address, Location> {
+    @Override
+    protected Location convert(Address source) {
+      Location location = new Location();
+      location.street = "converted " + source.getStreet();
+      return location;
+    }
+  }
+
+  private int rebuild() {
+    return modelMapper.rebuildStaleTypeMaps(CALLER_RUNS).join();
+  }
+
+  public void shouldRebuildTypeMapsAffectedByConverterChanges() {
+    assertEquals(modelMapper.map(new Order(), OrderDTO.class).address.street, "main");
+    modelMapper.map(new Item(), ItemDTO.class);
+    TypeMap<Item, ItemDTO> itemTypeMap = modelMapper.getTypeMap(Item.class, ItemDTO.class);
+
+    modelMapper.addConverter(new AddressConverter());
+    assertEquals(modelMapper.map(new Order(), OrderDTO.class).address.street, "main");
+
+    assertEquals(rebuild(), 1);
+    assertEquals(modelMapper.map(new Order(), OrderDTO.class).address.street, "converted main");
+    assertSame(modelMapper.getTypeMap(Item.class, ItemDTO.class), itemTypeMap);
+    assertEquals(rebuild(), 0);
+  }
+
+  public void shouldRebuildTypeMapsAffectedByMatchingStrategyChanges() {
+    assertEquals(modelMapper.map(new Order(), OrderDTO.class).customerName, "joe");
+    TypeMap<Order, OrderDTO> typeMap = modelMapper.getTypeMap(Order.class, OrderDTO.class);
+
+    modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+    assertEquals(rebuild(), 1);
+
+    assertSame(modelMapper.getTypeMap(Order.class, OrderDTO.class), typeMap);
+    assertNull(modelMapper.map(new Order(), OrderDTO.class).customerName);
+  }
+
+  public void shouldKeepModificationsOfRebuiltTypeMaps() {
+    modelMapper.map(new Order(), OrderDTO.class);
+    TypeMap<Order, OrderDTO> typeMap = modelMapper.getTypeMap(Order.class, OrderDTO.class);
+    modelMapper.addConverter(new AddressConverter());
+    assertEquals(rebuild(), 1);
+
+    typeMap.addMappings(new PropertyMap<Order, OrderDTO>() {
+      @Override
+      protected void configure() {
+        skip().setCustomerName(null);
+      }
+    });
+
+    OrderDTO dto = modelMapper.map(new Order(), OrderDTO.class);
+    assertNull(dto.customerName);
+    assertEquals(dto.address.street, "converted main");
+  }
+
+  public void shouldNotRebuildTypeMapsModifiedWhileRebuilding() {
+    modelMapper.map(new Order(), OrderDTO.class);
+    final TypeMap<Order, OrderDTO> typeMap = modelMapper.getTypeMap(Order.class, OrderDTO.class);
+    modelMapper.getConfiguration().setMatchingStrategy(new MatchingStrategy() {
+      boolean modified;
+
+      @Override
+      public boolean isExact() {
+        return MatchingStrategies.STANDARD.isExact();
+      }
+
+      @Override
+      public boolean matches(PropertyNameInfo propertyNameInfo) {
+        if (!modified) {
+          modified = true;
+          typeMap.addMappings(new PropertyMap<Order, OrderDTO>() {
+            @Override
+            protected void configure() {
+              skip().setCustomerName(null);
+            }
+          });
+        }
+        return MatchingStrategies.STANDARD.matches(propertyNameInfo);
+      }
+    });
+
+    assertEquals(rebuild(), 0);
+    assertSame(modelMapper.getTypeMap(Order.class, OrderDTO.class), typeMap);
+    assertNull(modelMapper.map(new Order(), OrderDTO.class).customerName);
+  }
+
+  public void shouldRebuildTypeMapsAffectedByAddedTypeMaps() {
+    modelMapper.map(new Order(), OrderDTO.class);
+    modelMapper.addMappings(new PropertyMap<Address, Location>() {
+      @Override
+      protected void configure() {
+        map().setStreet("fixed");
+      }
+    });
+
+    assertEquals(rebuild(), 1);
+    assertEquals(modelMapper.map(new Order(), OrderDTO.class).address.street, "fixed");
+  }
+
+  public void shouldNotRebuildModifiedTypeMaps() {
+    modelMapper.map(new Order(), OrderDTO.class);
+    TypeMap<Order, OrderDTO> typeMap = modelMapper.getTypeMap(Order.class, OrderDTO.class);
+    typeMap.addMappings(new PropertyMap<Order, OrderDTO>() {
+      @Override
+      protected void configure() {
+        skip().setCustomerName(null);
+      }
+    });
+
+    modelMapper.addConverter(new AddressConverter());
+    assertEquals(rebuild(), 0);
+    assertSame(modelMapper.getTypeMap(Order.class, OrderDTO.class), typeMap);
+  }
+}
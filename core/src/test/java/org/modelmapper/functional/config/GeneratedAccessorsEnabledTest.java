@@ -0,0 +1,145 @@
+package org.modelmapper.functional.config;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import org.modelmapper.AbstractTest;
+import org.modelmapper.CacheStatistics;
+import org.modelmapper.MappingException;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class GeneratedAccessorsEnabledTest extends AbstractTest {
+  static class Source {
+    private String name;
+    private int age;
+    private Address address;
+
+    public String getName() {
+      return name;
+    }
+
+    private int getAge() {
+      return age;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+  }
+
+  static class Address {
+    String street;
+
+    public String getStreet() {
+      return street;
+    }
+  }
+
+  static class Destination {
+    private String name;
+    private int age;
+    private String addressStreet;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    void setAge(int age) {
+      this.age = age;
+    }
+
+    public void setAddressStreet(String addressStreet) {
+      this.addressStreet = addressStreet;
+    }
+  }
+
+  static class FailingSource {
+    public String getName() {
+      throw new IllegalStateException("boom");
+    }
+  }
+
+  static class NameDestination {
+    String name;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  static class Shared {
+    public String getValue() {
+      return "shared";
+    }
+  }
+
+  static class SharedDTO {
+    String value;
+
+    public void setValue(String value) {
+      this.value = value;
+    }
+  }
+
+  @BeforeMethod
+  public void setUp() {
+    modelMapper.getConfiguration()
+        .setGeneratedAccessorsEnabled(true)
+        .setMethodAccessLevel(AccessLevel.PRIVATE);
+  }
+
+  public void shouldMapThroughGeneratedAccessors() {
+    Source source = new Source();
+    source.name = "joe";
+    source.age = 42;
+    source.address = new Address();
+    source.address.street = "main";
+
+    Destination destination = modelMapper.map(source, Destination.class);
+
+    assertEquals(destination.name, "joe");
+    assertEquals(destination.age, 42);
+    assertEquals(destination.addressStreet, "main");
+  }
+
+  public void shouldMapNullToPrimitiveDefaults() {
+    Destination destination = modelMapper.map(new Source(), Destination.class);
+
+    assertEquals(destination.name, null);
+    assertEquals(destination.age, 0);
+    assertEquals(destination.addressStreet, null);
+  }
+
+  public void shouldWrapExceptionsThrownByGeneratedAccessors() {
+    try {
+      modelMapper.map(new FailingSource(), NameDestination.class);
+      fail();
+    } catch (MappingException e) {
+      Throwable cause = e;
+      while (cause.getCause() != null && cause.getCause() != cause)
+        cause = cause.getCause();
+      assertTrue(cause instanceof IllegalStateException);
+      assertEquals(cause.getMessage(), "boom");
+    }
+  }
+
+  public void shouldNotShareAccessorsWithReflectiveConfiguration() {
+    assertEquals(new ModelMapper().map(new Shared(), SharedDTO.class).value, "shared");
+    long generated = generatedInvokers();
+
+    assertEquals(modelMapper.map(new Shared(), SharedDTO.class).value, "shared");
+    assertTrue(generatedInvokers() > generated);
+  }
+
+  private static long generatedInvokers() {
+    for (CacheStatistics statistics : ModelMapper.getCacheStatistics())
+      if (statistics.getName().equals("GeneratedInvoker"))
+        return statistics.getHitCount();
+    throw new AssertionError();
+  }
+}
@@ -0,0 +1,200 @@
+package org.modelmapper.functional.config;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import org.modelmapper.AbstractTest;
+import org.modelmapper.Conditions;
+import org.modelmapper.Converter;
+import org.modelmapper.MappingException;
+import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.MappingContext;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class TypeMapCompilationTest extends AbstractTest {
+  enum Color {
+    RED, GREEN
+  }
+
+  static class Source {
+    String name;
+    int age;
+    String count;
+    Color color;
+    Integer score;
+
+    public String getName() {
+      return name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public String getCount() {
+      return count;
+    }
+
+    public Color getColor() {
+      return color;
+    }
+
+    public Integer getScore() {
+      return score;
+    }
+  }
+
+  static class Destination {
+    String name;
+    long age;
+    int count;
+    String color;
+    int score;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public void setAge(long age) {
+      this.age = age;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public void setColor(String color) {
+      this.color = color;
+    }
+
+    public void setScore(int score) {
+      this.score = score;
+    }
+  }
+
+  @BeforeMethod
+  public void setUp() {
+    modelMapper.getConfiguration().setTypeMapCompilationEnabled(true);
+  }
+
+  private static Source createSource() {
+    Source source = new Source();
+    source.name = "joe";
+    source.age = 42;
+    source.count = "7";
+    source.color = Color.GREEN;
+    source.score = 3;
+    return source;
+  }
+
+  public void shouldMapAndConvertValues() {
+    Destination destination = modelMapper.map(createSource(), Destination.class);
+
+    assertEquals(destination.name, "joe");
+    assertEquals(destination.age, 42L);
+    assertEquals(destination.count, 7);
+    assertEquals(destination.color, "GREEN");
+    assertEquals(destination.score, 3);
+  }
+
+  public void shouldMapNullValues() {
+    Destination destination = new Destination();
+    destination.name = "bob";
+    destination.score = 5;
+
+    modelMapper.map(new Source(), destination);
+
+    assertNull(destination.name);
+    assertNull(destination.color);
+    assertEquals(destination.score, 0);
+  }
+
+  public void shouldSkipNullValues() {
+    modelMapper.getConfiguration().setSkipNullEnabled(true);
+    Destination destination = new Destination();
+    destination.name = "bob";
+    destination.score = 5;
+
+    modelMapper.map(new Source(), destination);
+
+    assertEquals(destination.name, "bob");
+    assertEquals(destination.score, 5);
+  }
+
+  public void shouldMapExplicitlyCompiledTypeMap() {
+    modelMapper.getConfiguration().setTypeMapCompilationEnabled(false);
+    TypeMap<Source, Destination> typeMap = modelMapper.createTypeMap(Source.class,
+        Destination.class);
+
+    assertSame(typeMap.compile(), typeMap);
+    Destination destination = typeMap.map(createSource());
+
+    assertEquals(destination.name, "joe");
+    assertEquals(destination.count, 7);
+  }
+
+  public void shouldReportConversionErrors() {
+    Source source = createSource();
+    source.count = "seven";
+
+    try {
+      modelMapper.map(source, Destination.class);
+      fail();
+    } catch (MappingException e) {
+      assertEquals(e.getErrorMessages().size(), 1);
+    }
+  }
+
+  public void shouldFallBackForUnsupportedFeatures() {
+    modelMapper.createTypeMap(Source.class, Destination.class)
+        .setPropertyCondition(Conditions.isNotNull());
+    Destination destination = new Destination();
+    destination.name = "bob";
+
+    modelMapper.map(new Source(), destination);
+
+    assertEquals(destination.name, "bob");
+  }
+
+  public void shouldRecompileWhenTypeMapChanges() {
+    TypeMap<Source, Destination> typeMap = modelMapper.createTypeMap(Source.class,
+        Destination.class);
+    assertEquals(modelMapper.map(createSource(), Destination.class).name, "joe");
+
+    typeMap.addMappings(new PropertyMap<Source, Destination>() {
+      @Override
+      protected void configure() {
+        using(new Converter<String, String>() {
+          public String convert(MappingContext<String, String> context) {
+            return context.getSource().toUpperCase();
+          }
+        }).map(source.getName()).setName(null);
+      }
+    });
+
+    assertEquals(modelMapper.map(createSource(), Destination.class).name, "JOE");
+  }
+
+  public void shouldRecompileWhenConvertersChange() {
+    assertEquals(modelMapper.map(createSource(), Destination.class).name, "joe");
+
+    modelMapper.getConfiguration().getConverters().add(0, new ConditionalConverter<String, String>() {
+      public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+        return sourceType == String.class && destinationType == String.class ? MatchResult.FULL
+            : MatchResult.NONE;
+      }
+
+      public String convert(MappingContext<String, String> context) {
+        return context.getSource() == null ? null : context.getSource().toUpperCase();
+      }
+    });
+
+    assertEquals(modelMapper.map(createSource(), Destination.class).name, "JOE");
+  }
+}
@@ -0,0 +1,155 @@
+package org.modelmapper.functional.iterable;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.modelmapper.AbstractTest;
+import org.modelmapper.MappingException;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.MappingContext;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional")
+public class BatchMapping extends AbstractTest {
+  public static class Source {
+    String value;
+
+    Source(String value) {
+      this.value = value;
+    }
+  }
+
+  public static class SubSource extends Source {
+    String extra;
+
+    SubSource(String value, String extra) {
+      super(value);
+      this.extra = extra;
+    }
+  }
+
+  public static class Dest {
+    Integer value;
+    String extra;
+  }
+
+  public void shouldMapAll() {
+    List<Dest> dests = modelMapper.mapAll(
+        new LinkedHashSet<Source>(Arrays.asList(new Source("1"), new Source("2"))), Dest.class);
+
+    assertEquals(dests.size(), 2);
+    assertEquals(dests.get(0).value, Integer.valueOf(1));
+    assertEquals(dests.get(1).value, Integer.valueOf(2));
+  }
+
+  public void shouldMapAllMixedSourceTypesAndNulls() {
+    List<Dest> dests = modelMapper.mapAll(
+        Arrays.asList(new Source("1"), null, new SubSource("2", "x"), new Source("3")), Dest.class);
+
+    assertEquals(dests.size(), 4);
+    assertEquals(dests.get(0).value, Integer.valueOf(1));
+    assertNull(dests.get(1));
+    assertEquals(dests.get(2).value, Integer.valueOf(2));
+    assertEquals(dests.get(2).extra, "x");
+    assertEquals(dests.get(3).value, Integer.valueOf(3));
+    assertNull(dests.get(3).extra);
+  }
+
+  public void shouldMapAllUsingConverter() {
+    List<Integer> values = modelMapper.mapAll(Arrays.asList("1", "2"), Integer.class);
+
+    assertEquals(values, Arrays.asList(1, 2));
+  }
+
+  public void shouldMapStreamLazily() {
+    final AtomicInteger pulled = new AtomicInteger();
+    Stream<Source> sources = Stream.of(new Source("1"), new Source("2"), new Source("3"))
+        .peek(s -> pulled.incrementAndGet());
+    Stream<Dest> dests = modelMapper.mapStream(sources, Dest.class);
+    assertEquals(pulled.get(), 0);
+
+    Iterator<Dest> iterator = dests.iterator();
+    assertEquals(iterator.next().value, Integer.valueOf(1));
+    assertEquals(pulled.get(), 1);
+  }
+
+  public void shouldMapParallelStreamInOrder() {
+    List<Source> sources = new ArrayList<Source>();
+    for (int i = 0; i < 1000; i++)
+      sources.add(new Source(String.valueOf(i)));
+
+    List<Integer> values = modelMapper.mapStream(sources.parallelStream(), Dest.class)
+        .map(d -> d.value)
+        .collect(Collectors.toList());
+
+    assertEquals(values, IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+  }
+
+  public void shouldMapIterator() {
+    Iterator<Dest> dests = modelMapper.mapIterator(
+        Arrays.asList(new Source("1"), null).iterator(), Dest.class);
+
+    assertEquals(dests.next().value, Integer.valueOf(1));
+    assertNull(dests.next());
+    assertEquals(dests.hasNext(), false);
+  }
+
+  public void shouldResolveConvertersAddedWhileIterating() {
+    Iterator<Integer> values = modelMapper.mapIterator(Arrays.asList("1", "2").iterator(),
+        Integer.class);
+    assertEquals(values.next(), Integer.valueOf(1));
+
+    modelMapper.getConfiguration().getConverters().add(0,
+        new ConditionalConverter<String, Integer>() {
+          @Override
+          public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+            return sourceType == String.class && destinationType == Integer.class ? MatchResult.FULL
+                : MatchResult.NONE;
+          }
+
+          @Override
+          public Integer convert(MappingContext<String, Integer> context) {
+            return Integer.valueOf(context.getSource()) * 10;
+          }
+        });
+
+    assertEquals(values.next(), Integer.valueOf(20));
+  }
+
+  public void shouldMapInto() {
+    Dest dest1 = new Dest();
+    Dest dest2 = new Dest();
+    dest2.extra = "y";
+
+    modelMapper.mapInto(Arrays.asList(new Source("1"), new Source("2")),
+        Arrays.asList(dest1, dest2));
+
+    assertEquals(dest1.value, Integer.valueOf(1));
+    assertEquals(dest2.value, Integer.valueOf(2));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowOnMapIntoWithDifferentSizes() {
+    modelMapper.mapInto(Arrays.asList(new Source("1")), Arrays.asList(new Dest(), new Dest()));
+  }
+
+  public void shouldThrowOnElementMappingError() {
+    try {
+      modelMapper.mapAll(Arrays.asList(new Source("1"), new Source("a")), Dest.class);
+      fail();
+    } catch (MappingException e) {
+      assertEquals(e.getErrorMessages().size(), 1);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package org.modelmapper.functional.parallel;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.modelmapper.AbstractConverter;
+import org.modelmapper.AbstractTest;
+import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional")
+public class ConcurrentTypeMapCreation extends AbstractTest {
+  static final int THREADS = 8;
+
+  public static class Order {
+    String name = "order";
+    Customer customer = new Customer();
+
+    public Customer getCustomer() {
+      return customer;
+    }
+  }
+
+  public static class Customer {
+    String name = "customer";
+    Order order;
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  public static class OrderDTO {
+    String name;
+    CustomerDTO customer;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class CustomerDTO {
+    String name;
+    OrderDTO order;
+  }
+
+  private <T> List<T> runConcurrently(final Callable<T> task) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<T>> futures = new ArrayList<Future<T>>();
+      for (int i = 0; i < THREADS; i++)
+        futures.add(executor.submit(new Callable<T>() {
+          @Override
+          public T call() throws Exception {
+            start.await();
+            return task.call();
+          }
+        }));
+      start.countDown();
+
+      List<T> results = new ArrayList<T>();
+      for (Future<T> future : futures)
+        results.add(future.get());
+      return results;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void shouldCreateOneTypeMapPerTypePair() throws Exception {
+    List<TypeMap<Order, OrderDTO>> typeMaps = runConcurrently(
+        new Callable<TypeMap<Order, OrderDTO>>() {
+          @Override
+          public TypeMap<Order, OrderDTO> call() {
+            return modelMapper.typeMap(Order.class, OrderDTO.class);
+          }
+        });
+
+    for (TypeMap<Order, OrderDTO> typeMap : typeMaps)
+      assertSame(typeMap, typeMaps.get(0));
+    assertEquals(modelMapper.getTypeMaps().size(), 1);
+  }
+
+  public void shouldSetConverterBeforeStoringTypeMap() throws Exception {
+    final AbstractConverter<Order, OrderDTO> converter = new AbstractConverter<Order, OrderDTO>() {
+      @Override
+      protected OrderDTO convert(Order source) {
+        OrderDTO dto = new OrderDTO();
+        dto.name = "converted";
+        return dto;
+      }
+    };
+
+    List<TypeMap<Order, OrderDTO>> typeMaps = runConcurrently(
+        new Callable<TypeMap<Order, OrderDTO>>() {
+          @Override
+          public TypeMap<Order, OrderDTO> call() {
+            modelMapper.addConverter(converter, Order.class, OrderDTO.class);
+            TypeMap<Order, OrderDTO> typeMap = modelMapper.getTypeMap(Order.class, OrderDTO.class);
+            assertSame(typeMap.getConverter(), converter);
+            return typeMap;
+          }
+        });
+
+    for (TypeMap<Order, OrderDTO> typeMap : typeMaps)
+      assertSame(typeMap, typeMaps.get(0));
+    assertEquals(modelMapper.map(new Order(), OrderDTO.class).name, "converted");
+  }
+
+  public void shouldMapCyclicTypesConcurrently() throws Exception {
+    List<OrderDTO> dtos = runConcurrently(new Callable<OrderDTO>() {
+      @Override
+      public OrderDTO call() {
+        Order order = new Order();
+        order.customer.order = order;
+        return modelMapper.map(order, OrderDTO.class);
+      }
+    });
+
+    for (OrderDTO dto : dtos) {
+      assertEquals(dto.customer.name, "customer");
+      assertSame(dto.customer.order, dto);
+    }
+  }
+
+  public void shouldCreateNestedTypeMapWhileCreatingTypeMap() {
+    TypeMap<Order, OrderDTO> typeMap = modelMapper.addMappings(new PropertyMap<Order, OrderDTO>() {
+      @Override
+      protected void configure() {
+        modelMapper.typeMap(Customer.class, CustomerDTO.class);
+        map().setName(source.getCustomer().getName());
+      }
+    });
+
+    assertEquals(typeMap.map(new Order()).name, "customer");
+    assertEquals(modelMapper.getTypeMaps().size(), 2);
+  }
+}
@@ -0,0 +1,248 @@
+package org.modelmapper.functional.parallel;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.modelmapper.AbstractTest;
+import org.modelmapper.MappingException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional")
+public class ParallelCollectionMapping extends AbstractTest {
+  static final int SIZE = 1000;
+
+  public static class Item {
+    String value;
+
+    Item() {
+    }
+
+    Item(String value) {
+      this.value = value;
+    }
+  }
+
+  public static class ItemDTO {
+    static final Set<Thread> threads = Collections.newSetFromMap(
+        new ConcurrentHashMap<Thread, Boolean>());
+    /** Threads that mapped each value */
+    static final Map<Integer, Thread> mappedBy = new ConcurrentHashMap<Integer, Thread>();
+    int value;
+
+    public ItemDTO() {
+      threads.add(Thread.currentThread());
+    }
+
+    public void setValue(int value) {
+      this.value = value;
+      mappedBy.put(value, Thread.currentThread());
+    }
+  }
+
+  /** Maps each submitted chunk to completion in a new thread before returning */
+  static class ThreadPerChunkExecutor implements Executor {
+    final List<Thread> threads = new ArrayList<Thread>();
+
+    @Override
+    public void execute(Runnable command) {
+      Thread thread = new Thread(command);
+      threads.add(thread);
+      thread.start();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  public static class Outer {
+    List<Item> items = new ArrayList<Item>();
+  }
+
+  public static class OuterDTO {
+    List<ItemDTO> items;
+  }
+
+  public static class Root {
+    List<Outer> outers = new ArrayList<Outer>();
+  }
+
+  public static class RootDTO {
+    List<OuterDTO> outers;
+  }
+
+  public static class Source {
+    List<Item> items = new ArrayList<Item>();
+    Item[] array;
+  }
+
+  public static class Dest {
+    List<ItemDTO> items;
+    ItemDTO[] array;
+  }
+
+  @BeforeMethod
+  public void setUp() {
+    ItemDTO.threads.clear();
+    ItemDTO.mappedBy.clear();
+    modelMapper.getConfiguration().setParallelCollectionThreshold(100);
+  }
+
+  private static Source sourceOf(int size) {
+    Source source = new Source();
+    for (int i = 0; i < size; i++)
+      source.items.add(i == 5 ? null : new Item(String.valueOf(i)));
+    source.array = source.items.toArray(new Item[0]);
+    return source;
+  }
+
+  public void shouldMapInOrder() {
+    Dest dest = modelMapper.map(sourceOf(SIZE), Dest.class);
+
+    assertEquals(dest.items.size(), SIZE);
+    assertEquals(dest.array.length, SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      if (i == 5) {
+        assertNull(dest.items.get(i));
+        assertNull(dest.array[i]);
+      } else {
+        assertEquals(dest.items.get(i).value, i);
+        assertEquals(dest.array[i].value, i);
+      }
+    }
+  }
+
+  public void shouldMapChunksClaimedByExecutor() {
+    ThreadPerChunkExecutor executor = new ThreadPerChunkExecutor();
+    modelMapper.getConfiguration().setParallelCollectionExecutor(executor)
+        .setParallelCollectionParallelism(1);
+    Source source = sourceOf(SIZE);
+    source.array = null;
+
+    Dest dest = modelMapper.map(source, Dest.class);
+
+    assertEquals(dest.items.size(), SIZE);
+    assertEquals(dest.items.get(SIZE - 1).value, SIZE - 1);
+    // The calling thread maps the first of 4 chunks, and a thread per chunk maps each other chunk
+    assertEquals(executor.threads.size(), 3);
+    for (int i = 0; i < SIZE; i++)
+      if (i != 5)
+        assertEquals(ItemDTO.mappedBy.get(i),
+            i < SIZE / 4 ? Thread.currentThread() : executor.threads.get(i / (SIZE / 4) - 1));
+  }
+
+  public void shouldMapChunksNotClaimedByExecutor() {
+    final List<Runnable> submitted = new ArrayList<Runnable>();
+    modelMapper.getConfiguration().setParallelCollectionExecutor(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        submitted.add(command);
+      }
+    }).setParallelCollectionParallelism(2);
+    Source source = sourceOf(SIZE);
+    source.items = null;
+
+    Dest dest = modelMapper.map(source, Dest.class);
+
+    assertEquals(dest.array.length, SIZE);
+    assertEquals(dest.array[SIZE - 1].value, SIZE - 1);
+    assertEquals(submitted.size(), 7);
+    for (Runnable chunk : submitted)
+      chunk.run();
+    assertEquals(new HashSet<Thread>(ItemDTO.mappedBy.values()),
+        Collections.singleton(Thread.currentThread()));
+  }
+
+  @Test(timeOut = 20000)
+  public void shouldMapNestedCollectionsWithBoundedExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      modelMapper.getConfiguration().setParallelCollectionExecutor(executor)
+          .setParallelCollectionThreshold(10);
+      Root root = new Root();
+      for (int i = 0; i < 200; i++) {
+        Outer outer = new Outer();
+        for (int j = 0; j < 200; j++)
+          outer.items.add(new Item(String.valueOf(j)));
+        root.outers.add(outer);
+      }
+
+      RootDTO dest = modelMapper.map(root, RootDTO.class);
+
+      assertEquals(dest.outers.size(), 200);
+      assertEquals(dest.outers.get(199).items.size(), 200);
+      assertEquals(dest.outers.get(199).items.get(199).value, 199);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void shouldMergeOntoProvidedListElements() {
+    Dest dest = new Dest();
+    dest.items = new ArrayList<ItemDTO>();
+    for (int i = 0; i <= SIZE; i++)
+      dest.items.add(new ItemDTO());
+    ItemDTO first = dest.items.get(0);
+    ItemDTO last = dest.items.get(SIZE);
+    Source source = sourceOf(SIZE);
+    source.array = null;
+
+    modelMapper.map(source, dest);
+
+    assertEquals(dest.items.size(), SIZE + 1);
+    assertSame(dest.items.get(0), first);
+    assertEquals(dest.items.get(0).value, 0);
+    assertEquals(dest.items.get(SIZE - 1).value, SIZE - 1);
+    assertSame(dest.items.get(SIZE), last);
+  }
+
+  public void shouldMapSequentiallyBelowThreshold() {
+    Dest dest = modelMapper.map(sourceOf(50), Dest.class);
+
+    assertEquals(dest.items.size(), 50);
+    assertEquals(ItemDTO.threads, Collections.singleton(Thread.currentThread()));
+  }
+
+  public void shouldMapOntoProvidedArrayElements() {
+    Dest dest = new Dest();
+    dest.array = new ItemDTO[SIZE];
+    ItemDTO first = new ItemDTO();
+    dest.array[0] = first;
+
+    modelMapper.map(sourceOf(SIZE), dest);
+
+    assertSame(dest.array[0], first);
+    assertEquals(dest.array[0].value, 0);
+    assertEquals(dest.array[SIZE - 1].value, SIZE - 1);
+  }
+
+  public void shouldAggregateErrorsOfAllChunks() {
+    Source source = sourceOf(SIZE);
+    source.items.set(1, new Item("a"));
+    source.items.set(SIZE - 1, new Item("b"));
+    source.array = null;
+
+    try {
+      modelMapper.map(source, Dest.class);
+      fail();
+    } catch (MappingException e) {
+      assertEquals(e.getErrorMessages().size(), 2);
+    }
+  }
+}
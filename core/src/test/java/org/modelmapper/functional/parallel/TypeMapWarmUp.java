@@ -0,0 +1,133 @@
+package org.modelmapper.functional.parallel;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.modelmapper.AbstractTest;
+import org.modelmapper.TypePair;
+import org.modelmapper.WarmUpReport;
+import org.testng.annotations.Test;
+
+@Test(groups = "functional")
+public class TypeMapWarmUp extends AbstractTest {
+  public static class Order {
+    String id;
+    List<Address> addresses;
+  }
+
+  public static class Address {
+    String street;
+  }
+
+  public static class OrderDTO {
+    String id;
+    AddressDTO[] addresses;
+  }
+
+  public static class AddressDTO {
+    String street;
+  }
+
+  public static class Customer {
+    String name;
+  }
+
+  public static class CustomerDTO {
+    String name;
+  }
+
+  public void shouldBuildTypeMapsAndNestedTypeMaps() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      WarmUpReport report = modelMapper.warmUp(Arrays.asList(
+          TypePair.of(Order.class, OrderDTO.class), TypePair.of(Customer.class, CustomerDTO.class),
+          TypePair.of(Customer.class, CustomerDTO.class, "named")), executor);
+
+      Map<TypePair<?, ?>, WarmUpReport.Entry> entries =
+          new HashMap<TypePair<?, ?>, WarmUpReport.Entry>();
+      for (WarmUpReport.Entry entry : report.getEntries())
+        entries.put(entry.getTypePair(), entry);
+
+      assertEquals(entries.size(), 4);
+      assertTrue(entries.get(TypePair.of(Address.class, AddressDTO.class)).isNested());
+      assertFalse(entries.get(TypePair.of(Order.class, OrderDTO.class)).isNested());
+      assertTrue(report.getFailures().isEmpty());
+      assertTrue(report.getElapsedTime(TimeUnit.NANOSECONDS) > 0);
+      assertNotNull(modelMapper.getTypeMap(Order.class, OrderDTO.class));
+      assertNotNull(modelMapper.getTypeMap(Address.class, AddressDTO.class));
+      assertNotNull(modelMapper.getTypeMap(Customer.class, CustomerDTO.class, "named"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void shouldReportFailures() {
+    WarmUpReport report = modelMapper.warmUp(
+        Arrays.asList(TypePair.of(Order.class, OrderDTO.class)), new Executor() {
+          @Override
+          public void execute(Runnable command) {
+            throw new RejectedExecutionException();
+          }
+        });
+
+    assertEquals(report.getFailures().size(), 1);
+  }
+
+  public void shouldWaitForMoreBuildsThanAPhaserCanRegister() {
+    final int count = 70000;
+    List<TypePair<?, ?>> typePairs = new ArrayList<TypePair<?, ?>>(count);
+    for (int i = 0; i < count; i++)
+      typePairs.add(TypePair.of(Customer.class, CustomerDTO.class, "customer" + i));
+
+    final ExecutorService delegate = Executors.newSingleThreadExecutor();
+    final CountDownLatch allSubmitted = new CountDownLatch(1);
+    final AtomicInteger submitted = new AtomicInteger();
+    try {
+      WarmUpReport report = modelMapper.warmUp(typePairs, new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+          if (submitted.incrementAndGet() == count)
+            allSubmitted.countDown();
+          delegate.execute(new Runnable() {
+            @Override
+            public void run() {
+              try {
+                allSubmitted.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              command.run();
+            }
+          });
+        }
+      });
+
+      assertEquals(report.getEntries().size(), count);
+      assertTrue(report.getFailures().isEmpty());
+    } finally {
+      delegate.shutdown();
+    }
+  }
+
+  public void shouldIdentifyUnnamedTypeMapByNullName() {
+    assertEquals(TypePair.of(Order.class, OrderDTO.class, null),
+        TypePair.of(Order.class, OrderDTO.class));
+    assertFalse(TypePair.of(Order.class, OrderDTO.class, "named")
+        .equals(TypePair.of(Order.class, OrderDTO.class)));
+  }
+}
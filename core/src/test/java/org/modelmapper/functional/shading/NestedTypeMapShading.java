@@ -0,0 +1,121 @@
+package org.modelmapper.functional.shading;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import org.modelmapper.AbstractTest;
+import org.modelmapper.PropertyMap;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that the descendants of a shaded path are shaded, but not the paths of nested TypeMaps.
+ */
+@Test(groups = "functional")
+public class NestedTypeMapShading extends AbstractTest {
+  static class Order {
+    Customer customer;
+    String street = "abc";
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public String getStreet() {
+      return street;
+    }
+  }
+
+  static class Customer {
+    Address address;
+    String name;
+
+    public Address getAddress() {
+      return address;
+    }
+
+    public void setAddress(Address address) {
+      this.address = address;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  static class Address {
+    String street;
+
+    public String getStreet() {
+      return street;
+    }
+
+    public void setStreet(String street) {
+      this.street = street;
+    }
+  }
+
+  static class OrderDTO {
+    CustomerDTO customer;
+
+    public CustomerDTO getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(CustomerDTO customer) {
+      this.customer = customer;
+    }
+  }
+
+  static class CustomerDTO {
+    AddressDTO address;
+    String name;
+
+    public AddressDTO getAddress() {
+      return address;
+    }
+
+    public void setAddress(AddressDTO address) {
+      this.address = address;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  static class AddressDTO {
+    String street;
+
+    public void setStreet(String street) {
+      this.street = street;
+    }
+  }
+
+  public void shouldShadeDescendantsOfNullNestedSource() {
+    modelMapper.addMappings(new PropertyMap<Order, OrderDTO>() {
+      @Override
+      protected void configure() {
+        map(source.getCustomer()).setCustomer(null);
+        map().getCustomer().getAddress().setStreet(source.getStreet());
+      }
+    });
+
+    OrderDTO dto = modelMapper.map(new Order(), OrderDTO.class);
+
+    assertNull(dto.customer);
+  }
+
+  public void shouldNotShadePathsOfOtherTypeMaps() {
+    Order order = new Order();
+    order.customer = new Customer();
+    order.customer.address = new Address();
+    order.customer.address.street = "main";
+    OrderDTO dto = modelMapper.map(order, OrderDTO.class);
+
+    assertEquals(dto.customer.address.street, "main");
+  }
+}
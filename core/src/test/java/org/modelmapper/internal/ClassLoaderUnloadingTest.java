@@ -0,0 +1,165 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.UUID;
+
+import net.bytebuddy.ByteBuddy;
+import net.jodah.typetools.TypeResolver;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.internal.converter.ConverterStore;
+import org.modelmapper.internal.util.ClassMetadata;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objenesis.Objenesis;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that ModelMapper's shared caches do not keep a class loader that contains ModelMapper
+ * reachable once it is discarded, such as when a web application is redeployed.
+ */
+@Test
+public class ClassLoaderUnloadingTest {
+  public static class Bean {
+    UUID id = UUID.randomUUID();
+    String count = "1";
+
+    public UUID getId() {
+      return id;
+    }
+
+    public String getCount() {
+      return count;
+    }
+  }
+
+  public static class BeanDTO {
+    UUID id;
+    Integer count;
+
+    public void setId(UUID id) {
+      this.id = id;
+    }
+
+    public void setCount(Integer count) {
+      this.count = count;
+    }
+  }
+
+  public static class MapBean implements Runnable {
+    public void run() {
+      new ModelMapper().map(new Bean(), BeanDTO.class);
+    }
+  }
+
+  public static class ConvertValue implements Runnable {
+    public void run() {
+      new ModelMapper().map("1", Integer.class);
+    }
+  }
+
+  public static class DescribeClass implements Runnable {
+    public void run() {
+      ClassMetadata.isIterable(String.class);
+    }
+  }
+
+  @DataProvider
+  public Object[][] tasks() {
+    return new Object[][] { { MapBean.class }, { ConvertValue.class }, { DescribeClass.class } };
+  }
+
+  @Test(dataProvider = "tasks")
+  public void shouldNotPreventClassLoaderFromBeingCollected(Class<? extends Runnable> task)
+      throws Exception {
+    WeakReference<ClassLoader> loader = runIsolated(task);
+    for (int i = 0; i < 50 && loader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertNull(loader.get());
+  }
+
+  public void shouldNotPreventMappedClassLoaderFromBeingCollected() throws Exception {
+    ModelMapper modelMapper = new ModelMapper();
+    WeakReference<ClassLoader> loader = mapIsolated(modelMapper);
+    modelMapper = null;
+    for (int i = 0; i < 50 && loader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertNull(loader.get());
+  }
+
+  public void shouldNotPreventConvertedClassLoaderFromBeingCollected() throws Exception {
+    ModelMapper modelMapper = new ModelMapper();
+    WeakReference<ClassLoader> loader = resolveConvertersIsolated(modelMapper);
+    for (int i = 0; i < 50 && loader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertNull(loader.get());
+    assertEquals(modelMapper.map("1", Integer.class), Integer.valueOf(1));
+  }
+
+  /**
+   * Resolves the {@code modelMapper}'s converters to and from a class of a discarded class loader
+   * that does not contain ModelMapper.
+   */
+  private static WeakReference<ClassLoader> resolveConvertersIsolated(ModelMapper modelMapper)
+      throws Exception {
+    URLClassLoader loader = new URLClassLoader(
+        new URL[] { locationOf(ClassLoaderUnloadingTest.class) },
+        ClassLoader.getSystemClassLoader().getParent());
+    Class<?> beanType = loader.loadClass(Bean.class.getName());
+    ConverterStore converterStore = ((InheritingConfiguration) modelMapper.getConfiguration())
+        .converterStore;
+    converterStore.getFirstSupported(beanType, String.class);
+    converterStore.getFirstSupported(String.class, beanType);
+    converterStore.getFirstSupported(beanType, BeanDTO.class);
+    loader.close();
+    return new WeakReference<ClassLoader>(loader);
+  }
+
+  /**
+   * Maps an instance of a class from a discarded class loader that does not contain ModelMapper.
+   */
+  private static WeakReference<ClassLoader> mapIsolated(ModelMapper modelMapper) throws Exception {
+    URLClassLoader loader = new URLClassLoader(
+        new URL[] { locationOf(ClassLoaderUnloadingTest.class) },
+        ClassLoader.getSystemClassLoader().getParent());
+    Object bean = loader.loadClass(Bean.class.getName()).newInstance();
+    BeanDTO dto = modelMapper.map(bean, BeanDTO.class);
+    assertEquals(dto.count, Integer.valueOf(1));
+    loader.close();
+    return new WeakReference<ClassLoader>(loader);
+  }
+
+  /**
+   * Runs the {@code task} within a discarded class loader that loads ModelMapper and its
+   * dependencies itself.
+   */
+  private static WeakReference<ClassLoader> runIsolated(Class<? extends Runnable> task)
+      throws Exception {
+    URLClassLoader loader = new URLClassLoader(new URL[] { locationOf(ModelMapper.class),
+        locationOf(ClassLoaderUnloadingTest.class), locationOf(ByteBuddy.class),
+        locationOf(TypeResolver.class), locationOf(ClassReader.class), locationOf(ClassNode.class),
+        locationOf(Objenesis.class) }, ClassLoader.getSystemClassLoader().getParent());
+    ((Runnable) loader.loadClass(task.getName()).newInstance()).run();
+    loader.close();
+    return new WeakReference<ClassLoader>(loader);
+  }
+
+  private static URL locationOf(Class<?> type) {
+    return type.getProtectionDomain().getCodeSource().getLocation();
+  }
+}
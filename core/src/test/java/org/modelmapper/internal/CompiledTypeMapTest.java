@@ -0,0 +1,104 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.modelmapper.AbstractTest;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.MappingContext;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class CompiledTypeMapTest extends AbstractTest {
+  static class Source {
+    String name = "joe";
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  static class Destination {
+    String name;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  static class Order {
+    String id;
+
+    public String getId() {
+      return id;
+    }
+  }
+
+  static class OrderDTO {
+    String id;
+
+    public void setId(String id) {
+      this.id = id;
+    }
+  }
+
+  static class UpperCaseConverter implements ConditionalConverter<Object, String> {
+    final Class<?> sourceType;
+
+    UpperCaseConverter(Class<?> sourceType) {
+      this.sourceType = sourceType;
+    }
+
+    public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+      return sourceType == this.sourceType && destinationType == String.class ? MatchResult.FULL
+          : MatchResult.NONE;
+    }
+
+    public String convert(MappingContext<Object, String> context) {
+      return context.getSource() == null ? null : context.getSource().toString().toUpperCase();
+    }
+  }
+
+  private TypeMapImpl<Source, Destination> typeMap;
+
+  @BeforeMethod
+  public void setUp() {
+    modelMapper.getConfiguration().setTypeMapCompilationEnabled(true);
+    typeMap = (TypeMapImpl<Source, Destination>) modelMapper.createTypeMap(Source.class,
+        Destination.class);
+  }
+
+  private CompiledTypeMap<Source, Destination> compiledTypeMap() {
+    return typeMap.compiledTypeMap(typeMap.getEngine());
+  }
+
+  public void shouldKeepPlanWhenUnrelatedTypeMapIsAdded() {
+    CompiledTypeMap<Source, Destination> compiledTypeMap = compiledTypeMap();
+    assertNotNull(compiledTypeMap);
+
+    modelMapper.createTypeMap(Order.class, OrderDTO.class);
+
+    assertSame(compiledTypeMap(), compiledTypeMap);
+    assertEquals(modelMapper.map(new Source(), Destination.class).name, "joe");
+  }
+
+  public void shouldKeepPlanWhenUnrelatedConverterIsAdded() {
+    CompiledTypeMap<Source, Destination> compiledTypeMap = compiledTypeMap();
+
+    modelMapper.getConfiguration().getConverters().add(0, new UpperCaseConverter(Order.class));
+
+    assertSame(compiledTypeMap(), compiledTypeMap);
+  }
+
+  public void shouldRecompileWhenResolvedConverterChanges() {
+    CompiledTypeMap<Source, Destination> compiledTypeMap = compiledTypeMap();
+
+    modelMapper.getConfiguration().getConverters().add(0, new UpperCaseConverter(String.class));
+
+    assertNotSame(compiledTypeMap(), compiledTypeMap);
+    assertEquals(modelMapper.map(new Source(), Destination.class).name, "JOE");
+  }
+}
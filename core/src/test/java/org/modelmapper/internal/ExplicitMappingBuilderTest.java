@@ -229,6 +229,25 @@ public class ExplicitMappingBuilderTest {
     assertEquals(mappings.size(), 1);
   }
 
+  static class DeepPropertyMap extends PropertyMap<Person, PersonDTO> {
+    protected void configure() {
+      map().getAddress().setStreet(source.getAddress().getStreetName());
+      skip().setEmployerName(null);
+    }
+  }
+
+  public void shouldBuildMappingsForPreviouslyVisitedPropertyMapClass() {
+    for (int i = 0; i < 2; i++) {
+      ExplicitMappingBuilder<Person, PersonDTO> builder = new ExplicitMappingBuilder<Person, PersonDTO>(
+          Person.class, PersonDTO.class, configuration);
+      Map<String, MappingImpl> mappings = Mappings.groupByLastMemberName(builder.build(new DeepPropertyMap()));
+
+      assertEquals(mappings.size(), 2);
+      assertEquals(((PropertyMapping) mappings.get("setStreet")).getSourceProperties().size(), 2);
+      assertTrue(mappings.get("setEmployerName").isSkipped());
+    }
+  }
+
   public void shouldBuildSkippedMappings() {
     Map<String, MappingImpl> mappings = Mappings.groupByLastMemberName(builder.build(new PropertyMap<Person, PersonDTO>() {
       protected void configure() {
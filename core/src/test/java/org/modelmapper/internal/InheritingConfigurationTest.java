@@ -2,9 +2,12 @@ package org.modelmapper.internal;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.spi.ConstructorInjector;
 import org.testng.annotations.Test;
 
 /**
@@ -52,6 +55,45 @@ public class InheritingConfigurationTest {
     assertFalse(config1.equals(config2));
   }
 
+  public void shouldNotDeriveEqualityFromMemberResolutionSettings() {
+    InheritingConfiguration config1 = new InheritingConfiguration();
+    InheritingConfiguration config2 = new InheritingConfiguration();
+    config2.setGeneratedAccessorsEnabled(true);
+
+    assertNotEquals(config1.memberResolutionSettings(), config2.memberResolutionSettings());
+    assertEquals(config1, config2);
+    assertEquals(config1.hashCode(), config2.hashCode());
+  }
+
+  public void shouldReuseMemberResolutionSettingsUntilChanged() {
+    InheritingConfiguration config = new InheritingConfiguration();
+    MemberResolutionSettings settings = config.memberResolutionSettings();
+    assertSame(config.memberResolutionSettings(), settings);
+    config.setSkipNullEnabled(true);
+    assertSame(config.memberResolutionSettings(), settings);
+
+    config.setFieldMatchingEnabled(true);
+    assertNotEquals(config.memberResolutionSettings(), settings);
+    settings = config.memberResolutionSettings();
+    config.getConstructorInjectors().add(ConstructorInjector.forClass(Injected.class));
+    assertNotEquals(config.memberResolutionSettings(), settings);
+  }
+
+  public void shouldReuseInheritedMemberResolutionSettingsUntilParentChanged() {
+    InheritingConfiguration parent = new InheritingConfiguration();
+    InheritingConfiguration config = new InheritingConfiguration(parent, true);
+    MemberResolutionSettings settings = config.memberResolutionSettings();
+    assertSame(config.memberResolutionSettings(), settings);
+
+    parent.setMethodAccessLevel(AccessLevel.PRIVATE);
+    assertNotEquals(config.memberResolutionSettings(), settings);
+    settings = config.memberResolutionSettings();
+    assertSame(config.memberResolutionSettings(), settings);
+    config.setFieldMatchingEnabled(true);
+    assertNotEquals(config.memberResolutionSettings(), settings);
+    assertEquals(config.memberResolutionSettings(), config.memberResolutionSettings());
+  }
+
   public void testFullMatchingRequiredDefaultsToFalse() {
 	  InheritingConfiguration config = new InheritingConfiguration();
 	  assertFalse(config.isFullTypeMatchingRequired());
@@ -81,4 +123,9 @@ public class InheritingConfigurationTest {
       config.setDeepCopyEnabled(false);
       assertFalse(config.isDeepCopyEnabled());
   }
+
+  public static class Injected {
+    public Injected(String name) {
+    }
+  }
 }
@@ -0,0 +1,154 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.modelmapper.MappingException;
+import org.modelmapper.internal.PropertyInfoImpl.FieldPropertyInfo;
+import org.modelmapper.internal.PropertyInfoImpl.MethodAccessor;
+import org.testng.annotations.Test;
+
+@Test
+public class InvokerFactoryTest {
+  static class Bean {
+    private long value;
+    private String name;
+
+    private long getValue() {
+      return value;
+    }
+
+    void setValue(long value) {
+      this.value = value;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Bean setName(String name) {
+      this.name = name;
+      return this;
+    }
+
+    String getFailure() {
+      throw new IllegalStateException();
+    }
+
+    static String getStatic() {
+      return null;
+    }
+  }
+
+  static class FieldBean {
+    static String shared;
+    private long value;
+    private String name;
+  }
+
+  public void shouldGenerateGetterForPrivateMethod() throws Exception {
+    Bean bean = new Bean();
+    bean.value = 5L;
+
+    Function<Object, Object> getter = InvokerFactory.getterFor(Bean.class.getDeclaredMethod("getValue"));
+
+    assertNotNull(getter);
+    assertEquals(getter.apply(bean), 5L);
+  }
+
+  public void shouldGenerateSetterForPrimitiveParameter() throws Exception {
+    Bean bean = new Bean();
+
+    BiConsumer<Object, Object> setter = InvokerFactory.setterFor(
+        Bean.class.getDeclaredMethod("setValue", long.class));
+
+    assertNotNull(setter);
+    setter.accept(bean, 7L);
+    assertEquals(bean.value, 7L);
+  }
+
+  public void shouldGenerateSetterForFluentMethod() throws Exception {
+    Bean bean = new Bean();
+
+    BiConsumer<Object, Object> setter = InvokerFactory.setterFor(
+        Bean.class.getDeclaredMethod("setName", String.class));
+
+    assertNotNull(setter);
+    setter.accept(bean, "joe");
+    assertEquals(bean.name, "joe");
+  }
+
+  public void shouldNotGenerateInvokerForStaticMethod() throws Exception {
+    assertNull(InvokerFactory.getterFor(Bean.class.getDeclaredMethod("getStatic")));
+  }
+
+  public void shouldGenerateFieldGetterAndSetter() throws Exception {
+    FieldBean bean = new FieldBean();
+    Field field = FieldBean.class.getDeclaredField("value");
+    field.setAccessible(true);
+
+    Function<Object, Object> getter = InvokerFactory.getterFor(field);
+    BiConsumer<Object, Object> setter = InvokerFactory.setterFor(field);
+
+    assertNotNull(getter);
+    assertNotNull(setter);
+    setter.accept(bean, 7L);
+    assertEquals(bean.value, 7L);
+    assertEquals(getter.apply(bean), 7L);
+  }
+
+  public void shouldNotGenerateInvokerForStaticField() throws Exception {
+    Field field = FieldBean.class.getDeclaredField("shared");
+    field.setAccessible(true);
+
+    assertNull(InvokerFactory.getterFor(field));
+    assertNull(InvokerFactory.setterFor(field));
+  }
+
+  public void shouldAccessFieldsThroughGeneratedAndReflectiveInvokersAlike() throws Exception {
+    Field field = FieldBean.class.getDeclaredField("name");
+    for (boolean generated : new boolean[] { true, false }) {
+      FieldPropertyInfo property = new FieldPropertyInfo(FieldBean.class, field, "name", generated);
+      FieldBean bean = new FieldBean();
+      property.setValue(bean, "joe");
+      assertEquals(property.getValue(bean), "joe");
+
+      try {
+        property.setValue(bean, 5L);
+        fail();
+      } catch (MappingException e) {
+        assertNotNull(e.getErrorMessages().iterator().next().getCause());
+      }
+    }
+  }
+
+  public void shouldCountFallbackForClassOfPackageNotOpenToModelMapper() throws Exception {
+    long fallbacks = InvokerFactory.getStatistics().getMissCount();
+
+    assertNull(InvokerFactory.getterFor(Thread.class.getMethod("getName")));
+    assertEquals(InvokerFactory.getStatistics().getMissCount(), fallbacks + 1);
+  }
+
+  public void shouldReportFailuresOfGeneratedAndReflectiveInvokersAlike() throws Exception {
+    Method method = Bean.class.getDeclaredMethod("getFailure");
+    for (boolean generated : new boolean[] { true, false }) {
+      try {
+        new MethodAccessor(Bean.class, method, "failure", generated).getValue(new Bean());
+        fail();
+      } catch (MappingException e) {
+        Throwable cause = e.getErrorMessages().iterator().next().getCause();
+        assertTrue(cause instanceof InvocationTargetException);
+        assertTrue(cause.getCause() instanceof IllegalStateException);
+      }
+    }
+  }
+}
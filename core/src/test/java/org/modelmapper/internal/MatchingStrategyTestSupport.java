@@ -7,7 +7,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 
-import org.modelmapper.config.Configuration;
 import org.modelmapper.spi.MatchingStrategy;
 import org.modelmapper.spi.PropertyInfo;
 import org.modelmapper.spi.PropertyType;
@@ -18,7 +17,7 @@ import org.modelmapper.spi.PropertyType;
  * @author Jonathan Halterman
  */
 public class MatchingStrategyTestSupport {
-  protected final Configuration configuration;
+  protected final InheritingConfiguration configuration;
 
   public MatchingStrategyTestSupport() {
     configuration = new InheritingConfiguration();
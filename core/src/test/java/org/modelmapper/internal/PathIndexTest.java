@@ -0,0 +1,101 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
+import org.testng.annotations.Test;
+
+@Test
+public class PathIndexTest {
+  static class Source {
+    Customer customer;
+
+    public Customer getCustomer() {
+      return customer;
+    }
+  }
+
+  static class Customer {
+    String name;
+    Address address;
+
+    public String getName() {
+      return name;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+
+    public void setAddress(Address address) {
+      this.address = address;
+    }
+  }
+
+  static class Address {
+    String street;
+
+    public String getStreet() {
+      return street;
+    }
+
+    public void setStreet(String street) {
+      this.street = street;
+    }
+  }
+
+  static class Destination {
+    Customer customer = new Customer();
+    String customerName;
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(Customer customer) {
+      this.customer = customer;
+    }
+
+    public void setCustomerName(String customerName) {
+      this.customerName = customerName;
+    }
+  }
+
+  public void shouldAssignIdsInPathOrder() {
+    ModelMapper modelMapper = new ModelMapper();
+    TypeMap<Source, Destination> typeMap = modelMapper.createTypeMap(Source.class,
+        Destination.class);
+    PathIndex pathIndex = ((TypeMapImpl<Source, Destination>) typeMap).pathIndex();
+
+    for (int i = 1; i < pathIndex.size(); i++)
+      assertEquals(pathIndex.paths[i - 1].compareTo(pathIndex.paths[i]) < 0, true);
+    for (int i = 0; i < pathIndex.mappings.length; i++) {
+      int[] destinationPathIds = pathIndex.destinationPathIds[i];
+      assertEquals(pathIndex.paths[destinationPathIds[destinationPathIds.length - 1]],
+          pathIndex.mappings[i].getPath());
+    }
+  }
+
+  public void shouldShareIdsBetweenSourceAndDestinationPaths() {
+    ModelMapper modelMapper = new ModelMapper();
+    TypeMap<Source, Destination> typeMap = modelMapper.createTypeMap(Source.class,
+        Destination.class);
+    typeMap.addMappings(new PropertyMap<Source, Destination>() {
+      @Override
+      protected void configure() {
+        map().getCustomer().getAddress().setStreet(source.getCustomer().getAddress().getStreet());
+      }
+    });
+    PathIndex pathIndex = ((TypeMapImpl<Source, Destination>) typeMap).pathIndex();
+
+    int index = -1;
+    for (int i = 0; i < pathIndex.mappings.length; i++)
+      if (pathIndex.mappings[i].getPath().equals("customer.address.street."))
+        index = i;
+
+    assertEquals(pathIndex.sourcePathIds[index], pathIndex.destinationPathIds[index]);
+    assertEquals(pathIndex.paths[pathIndex.sourcePathIds[index][1]], "customer.address.");
+  }
+}
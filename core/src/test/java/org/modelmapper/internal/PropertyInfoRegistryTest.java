@@ -2,6 +2,12 @@ package org.modelmapper.internal;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.modelmapper.AbstractTest;
 import org.testng.annotations.Test;
@@ -61,6 +67,32 @@ public class PropertyInfoRegistryTest extends AbstractTest {
     assertTrue(longGetId1 == longGetId2);
   }
 
+  static class Concurrent {
+    public String getValue() {
+      return null;
+    }
+  }
+
+  public void shouldResolveSamePropertyInfoConcurrently() throws Exception {
+    final Method getValue = Concurrent.class.getMethod("getValue");
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Accessor>> futures = new ArrayList<Future<Accessor>>();
+      for (int i = 0; i < 8; i++)
+        futures.add(executor.submit(new Callable<Accessor>() {
+          public Accessor call() {
+            return PropertyInfoRegistry.accessorFor(Concurrent.class, getValue,
+                modelMapper.getConfiguration(), "value");
+          }
+        }));
+
+      for (Future<Accessor> future : futures)
+        assertSame(future.get(), futures.get(0).get());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   public void shouldOvercomeHashCollision() throws Exception {
     // "AaAa".hashCode() == "BBBB".hashCode()
     Method methodAaAa = ForHashCollision.class.getMethod("AaAa");
@@ -2,7 +2,10 @@ package org.modelmapper.internal;
 
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.util.List;
 import java.util.Map;
@@ -46,4 +49,18 @@ public class ProxyFactoryTest {
     A2 a2 = ProxyFactory.proxyFor(A2.class, interceptor, null);
     assertNotNull(a2);
   }
+
+  public void shouldReuseProxyClassesWithPerInstanceHandlers() throws Exception {
+    InvocationHandler interceptor1 = mock(InvocationHandler.class);
+    InvocationHandler interceptor2 = mock(InvocationHandler.class);
+    A1 proxy1 = ProxyFactory.proxyFor(A1.class, interceptor1, null);
+    A1 proxy2 = ProxyFactory.proxyFor(A1.class, interceptor2, null);
+
+    assertNotSame(proxy1, proxy2);
+    assertSame(proxy1.getClass(), proxy2.getClass());
+    Field field = proxy1.getClass().getDeclaredField("$mmHandler");
+    field.setAccessible(true);
+    assertSame(field.get(proxy1), interceptor1);
+    assertSame(field.get(proxy2), interceptor2);
+  }
 }
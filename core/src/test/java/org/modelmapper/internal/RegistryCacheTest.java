@@ -0,0 +1,77 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+import org.modelmapper.CacheStatistics;
+import org.modelmapper.internal.util.ClassMetadata;
+import org.testng.annotations.Test;
+
+@Test
+public class RegistryCacheTest {
+  public void shouldBoundTypes() {
+    RegistryCache<String, String> cache = new RegistryCache<String, String>("BoundedTypes", 2, 8);
+    cache.putIfAbsent(String.class, "a", "1");
+    cache.putIfAbsent(String.class, "b", "2");
+    cache.putIfAbsent(Integer.class, "a", "3");
+    cache.putIfAbsent(Long.class, "a", "4");
+
+    int cached = 0;
+    for (Class<?> type : new Class<?>[] { String.class, Integer.class, Long.class })
+      if (cache.get(type, "a") != null)
+        cached++;
+    CacheStatistics statistics = cache.getStatistics();
+
+    assertEquals(cached, 2);
+    assertEquals(cache.get(Long.class, "a"), "4");
+    assertEquals(statistics.getSize() + statistics.getEvictionCount(), 4);
+  }
+
+  public void shouldBoundEntriesPerType() {
+    RegistryCache<String, String> cache = new RegistryCache<String, String>("BoundedEntries", 2, 2);
+    cache.putIfAbsent(String.class, "a", "1");
+    cache.putIfAbsent(String.class, "b", "2");
+    cache.putIfAbsent(String.class, "c", "3");
+
+    assertEquals(cache.get(String.class, "c"), "3");
+    assertEquals(cache.getStatistics().getEvictionCount(), 1);
+    assertNull(cache.get(Integer.class, "a"));
+  }
+
+  public void shouldEvictLeastRecentlyUsedTypes() {
+    RegistryCache<String, String> cache = new RegistryCache<String, String>("LruTypes", 3, 8);
+    cache.putIfAbsent(String.class, "a", "1");
+    cache.putIfAbsent(Integer.class, "a", "2");
+    cache.putIfAbsent(Short.class, "a", "3");
+    cache.get(String.class, "a");
+    cache.putIfAbsent(Long.class, "a", "4");
+
+    assertEquals(cache.get(String.class, "a"), "1");
+    assertNull(cache.get(Integer.class, "a"));
+    assertEquals(cache.get(Short.class, "a"), "3");
+    assertEquals(cache.get(Long.class, "a"), "4");
+  }
+
+  public void shouldEvictLeastRecentlyUsedEntries() {
+    RegistryCache<String, String> cache = new RegistryCache<String, String>("LruEntries", 2, 4);
+    cache.putIfAbsent(String.class, "a", "1");
+    cache.putIfAbsent(String.class, "b", "2");
+    cache.putIfAbsent(String.class, "c", "3");
+    cache.putIfAbsent(String.class, "d", "4");
+    cache.get(String.class, "a");
+    cache.putIfAbsent(String.class, "e", "5");
+
+    assertEquals(cache.getStatistics().getEvictionCount(), 2);
+    assertEquals(cache.get(String.class, "a"), "1");
+    assertEquals(cache.get(String.class, "d"), "4");
+    assertEquals(cache.get(String.class, "e"), "5");
+    assertNull(cache.get(String.class, "b"));
+    assertNull(cache.get(String.class, "c"));
+  }
+
+  public void shouldHoldClassesOfModelMapperClassLoaderAndAncestors() {
+    assertFalse(ClassMetadata.isUnloadable(String.class));
+    assertFalse(ClassMetadata.isUnloadable(RegistryCacheTest.class));
+  }
+}
@@ -0,0 +1,136 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+@Test
+public class SimpleTypeMapTest {
+  private ModelMapper modelMapper;
+
+  enum Color {
+    RED
+  }
+
+  static class Source {
+    String name = "joe";
+    int age = 42;
+    Color color = Color.RED;
+    Address address = new Address();
+
+    public String getName() {
+      return name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public Color getColor() {
+      return color;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+  }
+
+  static class Address {
+    String street = "main";
+
+    public String getStreet() {
+      return street;
+    }
+  }
+
+  static class FlatDestination {
+    String name;
+    Long age;
+    String color;
+    String addressStreet;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public void setAge(Long age) {
+      this.age = age;
+    }
+
+    public void setColor(String color) {
+      this.color = color;
+    }
+
+    public void setAddressStreet(String addressStreet) {
+      this.addressStreet = addressStreet;
+    }
+  }
+
+  static class NestedDestination {
+    String name;
+    Address address;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public void setAddress(Address address) {
+      this.address = address;
+    }
+  }
+
+  @BeforeMethod
+  public void setUp() {
+    modelMapper = new ModelMapper();
+  }
+
+  public void shouldMapSimpleTypeMap() {
+    TypeMap<Source, FlatDestination> typeMap = modelMapper.createTypeMap(Source.class,
+        FlatDestination.class);
+
+    assertTrue(((TypeMapImpl<Source, FlatDestination>) typeMap).isSimple());
+    FlatDestination destination = modelMapper.map(new Source(), FlatDestination.class);
+    assertEquals(destination.name, "joe");
+    assertEquals(destination.age, Long.valueOf(42));
+    assertEquals(destination.color, "RED");
+    assertEquals(destination.addressStreet, "main");
+  }
+
+  public void shouldNotBeSimpleWithNestedDestination() {
+    TypeMap<Source, NestedDestination> typeMap = modelMapper.createTypeMap(Source.class,
+        NestedDestination.class);
+
+    assertFalse(((TypeMapImpl<Source, NestedDestination>) typeMap).isSimple());
+  }
+
+  public void shouldNotBeSimpleAfterConditionIsSet() {
+    TypeMap<Source, FlatDestination> typeMap = modelMapper.createTypeMap(Source.class,
+        FlatDestination.class);
+    assertTrue(((TypeMapImpl<Source, FlatDestination>) typeMap).isSimple());
+
+    typeMap.setPropertyCondition(Conditions.isNotNull());
+
+    assertFalse(((TypeMapImpl<Source, FlatDestination>) typeMap).isSimple());
+  }
+
+  public void shouldMapNullsForSimpleTypeMap() {
+    modelMapper.createTypeMap(Source.class, FlatDestination.class);
+    Source source = new Source();
+    source.name = null;
+    source.address = null;
+    FlatDestination destination = new FlatDestination();
+    destination.name = "bob";
+    destination.addressStreet = "elm";
+
+    modelMapper.map(source, destination);
+
+    assertEquals(destination.name, null);
+    assertEquals(destination.addressStreet, null);
+  }
+}
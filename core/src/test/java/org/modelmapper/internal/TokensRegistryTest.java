@@ -0,0 +1,39 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.modelmapper.convention.NameTokenizers;
+import org.modelmapper.spi.NameableType;
+import org.modelmapper.spi.Tokens;
+import org.testng.annotations.Test;
+
+@Test
+public class TokensRegistryTest {
+  public void shouldReuseTokensPerTokenizerAndName() {
+    TokensRegistry tokensRegistry = new TokensRegistry();
+    Tokens tokens = tokensRegistry.tokensFor(NameTokenizers.CAMEL_CASE, "customerAddress",
+        NameableType.GENERIC);
+
+    assertEquals(tokens.toString(), "[customer, Address]");
+    assertSame(tokensRegistry.tokensFor(NameTokenizers.CAMEL_CASE, "customerAddress",
+        NameableType.GENERIC), tokens);
+    assertNotSame(tokensRegistry.tokensFor(NameTokenizers.UNDERSCORE, "customerAddress",
+        NameableType.GENERIC), tokens);
+  }
+
+  public void shouldBoundTokensAndKeepRecentlyUsedTokens() {
+    TokensRegistry tokensRegistry = new TokensRegistry(4);
+    Tokens tokens = tokensRegistry.tokensFor(NameTokenizers.CAMEL_CASE, "customerAddress",
+        NameableType.GENERIC);
+
+    for (int i = 0; i < 100; i++) {
+      tokensRegistry.tokensFor(NameTokenizers.CAMEL_CASE, "name" + i, NameableType.GENERIC);
+      assertSame(tokensRegistry.tokensFor(NameTokenizers.CAMEL_CASE, "customerAddress",
+          NameableType.GENERIC), tokens);
+      assertTrue(tokensRegistry.size() <= 10, String.valueOf(tokensRegistry.size()));
+    }
+  }
+}
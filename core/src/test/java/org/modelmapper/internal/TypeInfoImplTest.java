@@ -15,6 +15,7 @@ import org.testng.annotations.Test;
  */
 @Test
 public class TypeInfoImplTest {
+  InheritingConfiguration config;
   TypeInfo<Person> personInfo;
 
   static class Person {
@@ -31,7 +32,7 @@ public class TypeInfoImplTest {
 
   @BeforeClass
   public void setupClass() {
-    InheritingConfiguration config = new InheritingConfiguration();
+    config = new InheritingConfiguration();
     config.setFieldMatchingEnabled(true);
     config.setFieldAccessLevel(AccessLevel.PACKAGE_PRIVATE);
     config.setMethodAccessLevel(AccessLevel.PACKAGE_PRIVATE);
@@ -42,7 +43,7 @@ public class TypeInfoImplTest {
    * Ensures that accessors and mutators are linear.
    */
   public void shouldProduceAccessors() {
-    List<Mutator> mutators = new ArrayList<Mutator>(personInfo.getMutators().values());
+    List<Mutator> mutators = new ArrayList<Mutator>(personInfo.getMutators(config).values());
     List<String> orderMutators = new ArrayList<String>();
     orderMutators.add(mutators.get(0).getMember().getName()); 
     orderMutators.add(mutators.get(1).getMember().getName());                           
@@ -53,7 +54,7 @@ public class TypeInfoImplTest {
   }
 
   public void shouldProduceMutators() {
-    List<Accessor> accessors = new ArrayList<Accessor>(personInfo.getAccessors().values());
+    List<Accessor> accessors = new ArrayList<Accessor>(personInfo.getAccessors(config).values());
     List<String> orderAccessors = new ArrayList<String>();
     for (int i = 0; i < accessors.size(); i++) {
       orderAccessors.add(accessors.get(i).getMember().getName()); 
@@ -2,9 +2,19 @@ package org.modelmapper.internal;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
+
+import org.modelmapper.CacheStatistics;
+import org.modelmapper.ModelMapper;
 import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.spi.NameTransformer;
+import org.modelmapper.spi.NameableType;
 import org.testng.annotations.Test;
 
 /**
@@ -24,6 +34,95 @@ public class TypeInfoRegistryTest {
     assertTrue(typeInfo1 != typeInfo2);
   }
 
+  static class Shared {
+  }
+
+  public void shouldShareTypeInfoAcrossCopiesDifferingInOtherSettings() {
+    InheritingConfiguration config = new InheritingConfiguration();
+    InheritingConfiguration copy = (InheritingConfiguration) config.copy();
+    copy.setSkipNullEnabled(true);
+    copy.setMatchingStrategy(MatchingStrategies.STRICT);
+    copy.setAmbiguityIgnored(true);
+
+    assertSame(TypeInfoRegistry.typeInfoFor(Shared.class, copy),
+        TypeInfoRegistry.typeInfoFor(Shared.class, config));
+  }
+
+  static class Mutated {
+  }
+
+  public void shouldNotBeAffectedByLaterConfigurationChanges() {
+    InheritingConfiguration config = new InheritingConfiguration();
+    TypeInfo<Mutated> typeInfo = TypeInfoRegistry.typeInfoFor(Mutated.class, config);
+    config.setFieldMatchingEnabled(true);
+
+    assertNotSame(TypeInfoRegistry.typeInfoFor(Mutated.class, config), typeInfo);
+    assertSame(TypeInfoRegistry.typeInfoFor(Mutated.class, new InheritingConfiguration()), typeInfo);
+  }
+
+  public static class Retained {
+    String name;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+  }
+
+  public void shouldNotRetainConfigurations() throws Exception {
+    InheritingConfiguration config = new InheritingConfiguration();
+    TypeInfo<Retained> typeInfo = TypeInfoRegistry.typeInfoFor(Retained.class, config);
+    assertEquals(typeInfo.getAccessors(config).size(), 1);
+    assertEquals(typeInfo.getMutators(config).size(), 1);
+    WeakReference<InheritingConfiguration> reference = new WeakReference<InheritingConfiguration>(
+        config);
+    config = null;
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertNull(reference.get());
+    assertSame(TypeInfoRegistry.typeInfoFor(Retained.class, new InheritingConfiguration()),
+        typeInfo);
+  }
+
+  static class Evicted {
+  }
+
+  public void shouldBoundConfigurationsPerType() {
+    CacheStatistics before = typeInfoStatistics();
+    InheritingConfiguration config = new InheritingConfiguration();
+    TypeInfo<Evicted> typeInfo = TypeInfoRegistry.typeInfoFor(Evicted.class, config);
+    assertTrue(TypeInfoRegistry.typeInfoFor(Evicted.class, config) == typeInfo);
+
+    for (int i = 0; i < 40; i++) {
+      InheritingConfiguration other = new InheritingConfiguration();
+      other.setSourceNameTransformer(new NameTransformer() {
+        public String transform(String name, NameableType nameableType) {
+          return name;
+        }
+      });
+      TypeInfoRegistry.typeInfoFor(Evicted.class, other);
+    }
+
+    CacheStatistics after = typeInfoStatistics();
+    assertTrue(after.getHitCount() > before.getHitCount());
+    assertTrue(after.getMissCount() >= before.getMissCount() + 41);
+    assertTrue(after.getEvictionCount() >= before.getEvictionCount() + 9);
+  }
+
+  private static CacheStatistics typeInfoStatistics() {
+    for (CacheStatistics statistics : ModelMapper.getCacheStatistics())
+      if (statistics.getName().equals("TypeInfo"))
+        return statistics;
+    throw new AssertionError("No TypeInfo cache");
+  }
+
   public void shouldHashCorrectly2() {
     Class<?> type = Byte.class;
     InheritingConfiguration conf1 = new InheritingConfiguration() {
@@ -0,0 +1,244 @@
+package org.modelmapper.internal;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+
+import org.modelmapper.AbstractConverter;
+import org.modelmapper.AbstractTest;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.convention.NameTransformers;
+import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.MappingContext;
+import org.modelmapper.spi.MatchingStrategy;
+import org.modelmapper.spi.PropertyNameInfo;
+import org.testng.annotations.Test;
+
+@Test
+public class TypeMapSnapshotTest extends AbstractTest {
+  private static final Executor CALLER_RUNS = new Executor() {
+    @Override
+    public void execute(Runnable command) {
+      command.run();
+    }
+  };
+
+  public static class Order {
+    String id = "1";
+    Customer customer = new Customer();
+  }
+
+  public static class Customer {
+    String name = "joe";
+    Address address = new Address();
+  }
+
+  public static class Address {
+    String city = "seattle";
+  }
+
+  public static class OrderDTO {
+    String id;
+    String customerName;
+    String customerAddressCity;
+
+    public void setId(String id) {
+      this.id = id;
+    }
+  }
+
+  private static ModelMapper newModelMapper() {
+    ModelMapper modelMapper = new ModelMapper();
+    modelMapper.getConfiguration()
+        .setFieldMatchingEnabled(true)
+        .setFieldAccessLevel(AccessLevel.PACKAGE_PRIVATE)
+        .setMatchingStrategy(MatchingStrategies.STANDARD);
+    return modelMapper;
+  }
+
+  /**
+   * Loads the snapshot from the {@code input} into the {@code modelMapper}.
+   */
+  private static TypeMapSnapshot loadSnapshot(ModelMapper modelMapper, InputStream input)
+      throws IOException {
+    TypeMapSnapshot snapshot = TypeMapSnapshot.read(input);
+    ((InheritingConfiguration) modelMapper.getConfiguration()).typeMapStore.setSnapshot(snapshot);
+    return snapshot;
+  }
+
+  private static TypeMapSnapshot loadSnapshot(ModelMapper modelMapper, byte[] snapshot)
+      throws IOException {
+    return loadSnapshot(modelMapper, new ByteArrayInputStream(snapshot));
+  }
+
+  private byte[] saveSnapshot(ModelMapper modelMapper, int expectedTypeMaps) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertEquals(modelMapper.saveSnapshot(output), expectedTypeMaps);
+    return output.toByteArray();
+  }
+
+  private static void assertMapped(OrderDTO dto) {
+    assertEquals(dto.id, "1");
+    assertEquals(dto.customerName, "joe");
+    assertEquals(dto.customerAddressCity, "seattle");
+  }
+
+  public void shouldSkipMatchingForSnapshotTypeMaps() throws IOException {
+    ModelMapper saved = newModelMapper();
+    saved.map(new Order(), OrderDTO.class);
+    byte[] snapshot = saveSnapshot(saved, 1);
+
+    ModelMapper loaded = newModelMapper();
+    TypeMapSnapshot loadedSnapshot = loadSnapshot(loaded, snapshot);
+
+    assertMapped(loaded.map(new Order(), OrderDTO.class));
+    assertEquals(loadedSnapshot.appliedCount(), 1);
+    assertEquals(loaded.getTypeMap(Order.class, OrderDTO.class).getMappings().size(),
+        saved.getTypeMap(Order.class, OrderDTO.class).getMappings().size());
+    loaded.validate();
+  }
+
+  public void shouldMatchWhenConfigurationChanged() throws IOException {
+    ModelMapper saved = newModelMapper();
+    saved.map(new Order(), OrderDTO.class);
+    byte[] snapshot = saveSnapshot(saved, 1);
+
+    ModelMapper loaded = newModelMapper();
+    loaded.getConfiguration().setAmbiguityIgnored(true);
+    TypeMapSnapshot loadedSnapshot = loadSnapshot(loaded, snapshot);
+
+    assertMapped(loaded.map(new Order(), OrderDTO.class));
+    assertEquals(loadedSnapshot.appliedCount(), 0);
+  }
+
+  public static class Shipment {
+    Customer customer = new Customer();
+  }
+
+  public static class ShipmentDTO {
+    CustomerDTO customer;
+  }
+
+  public static class CustomerDTO {
+    String name;
+  }
+
+  public void shouldMatchWhenLookedUpTypeMapsChanged() throws IOException {
+    ModelMapper saved = newModelMapper();
+    saved.map(new Shipment(), ShipmentDTO.class);
+    byte[] snapshot = saveSnapshot(saved, 1);
+
+    ModelMapper loaded = newModelMapper();
+    loaded.addConverter(new AbstractConverter<Customer, CustomerDTO>() {
+      @Override
+      protected CustomerDTO convert(Customer source) {
+        CustomerDTO dto = new CustomerDTO();
+        dto.name = "converted";
+        return dto;
+      }
+    }, Customer.class, CustomerDTO.class);
+    TypeMapSnapshot loadedSnapshot = loadSnapshot(loaded, snapshot);
+
+    assertEquals(loaded.map(new Shipment(), ShipmentDTO.class).customer.name, "converted");
+    assertEquals(loadedSnapshot.appliedCount(), 0);
+  }
+
+  public void shouldRebuildSnapshotTypeMapsWhenStale() throws IOException {
+    ModelMapper saved = newModelMapper();
+    saved.map(new Shipment(), ShipmentDTO.class);
+    byte[] snapshot = saveSnapshot(saved, 1);
+
+    ModelMapper loaded = newModelMapper();
+    TypeMapSnapshot loadedSnapshot = loadSnapshot(loaded, snapshot);
+    assertEquals(loaded.map(new Shipment(), ShipmentDTO.class).customer.name, "joe");
+    assertEquals(loadedSnapshot.appliedCount(), 1);
+
+    loaded.addConverter(new AbstractConverter<Customer, CustomerDTO>() {
+      @Override
+      protected CustomerDTO convert(Customer source) {
+        CustomerDTO dto = new CustomerDTO();
+        dto.name = "converted";
+        return dto;
+      }
+    }, Customer.class, CustomerDTO.class);
+    assertEquals(loaded.rebuildStaleTypeMaps(CALLER_RUNS).join().intValue(), 1);
+    assertEquals(loaded.map(new Shipment(), ShipmentDTO.class).customer.name, "converted");
+  }
+
+  static class TypeConverter implements ConditionalConverter<Object, String> {
+    final Class<?> sourceType;
+
+    TypeConverter(Class<?> sourceType) {
+      this.sourceType = sourceType;
+    }
+
+    public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+      return sourceType == this.sourceType && destinationType == String.class ? MatchResult.FULL
+          : MatchResult.NONE;
+    }
+
+    public String convert(MappingContext<Object, String> context) {
+      return "converted";
+    }
+  }
+
+  public void shouldNotSaveTypeMapsWithCustomConverters() throws IOException {
+    ModelMapper saved = newModelMapper();
+    saved.getConfiguration().getConverters().add(0, new TypeConverter(Customer.class));
+    saved.map(new Order(), OrderDTO.class);
+
+    saveSnapshot(saved, 0);
+  }
+
+  public void shouldNotSaveTypeMapsWithCustomMatchingSettings() throws IOException {
+    ModelMapper saved = newModelMapper();
+    saved.getConfiguration().setMatchingStrategy(new MatchingStrategy() {
+      public boolean isExact() {
+        return false;
+      }
+
+      public boolean matches(PropertyNameInfo propertyNameInfo) {
+        return MatchingStrategies.STANDARD.matches(propertyNameInfo);
+      }
+    });
+    saved.map(new Order(), OrderDTO.class);
+
+    saveSnapshot(saved, 0);
+  }
+
+  public void shouldMatchWhenCustomMatchingSettingsAreUsed() throws IOException {
+    ModelMapper saved = newModelMapper();
+    saved.map(new Order(), OrderDTO.class);
+    byte[] snapshot = saveSnapshot(saved, 1);
+
+    ModelMapper loaded = newModelMapper();
+    loaded.getConfiguration().setSourceNameTransformer(NameTransformers.builder("get"));
+    TypeMapSnapshot loadedSnapshot = loadSnapshot(loaded, snapshot);
+
+    assertMapped(loaded.map(new Order(), OrderDTO.class));
+    assertEquals(loadedSnapshot.appliedCount(), 0);
+  }
+
+  public void shouldNotSaveTypeMapsWithExplicitMappings() throws IOException {
+    modelMapper.addMappings(new PropertyMap<Order, OrderDTO>() {
+      @Override
+      protected void configure() {
+        skip().setId(null);
+      }
+    });
+
+    saveSnapshot(modelMapper, 0);
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void shouldRejectInvalidSnapshot() throws IOException {
+    modelMapper.loadSnapshot(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+  }
+}
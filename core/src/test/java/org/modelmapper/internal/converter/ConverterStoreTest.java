@@ -1,12 +1,17 @@
 package org.modelmapper.internal.converter;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 
 import org.modelmapper.spi.ConditionalConverter;
+import org.modelmapper.spi.ConditionalConverter.MatchResult;
 import org.modelmapper.spi.MappingContext;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -108,6 +113,56 @@ public class ConverterStoreTest {
     assertSame(anotherFull, store.getFirstSupported(Object.class, Object.class));
   }
 
+  public void shouldMemoizeResolutionsUntilConvertersChange() {
+    final int[] matches = new int[1];
+    ConditionalConverter<?, ?> countingConverter = new ConditionalConverter<Object, Object>() {
+      public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+        matches[0]++;
+        return MatchResult.PARTIAL;
+      }
+
+      public Object convert(MappingContext<Object, Object> context) {
+        return null;
+      }
+    };
+
+    store = new ConverterStore(new ArrayList<ConditionalConverter<?, ?>>(
+        Arrays.asList(noneMatchConverter, countingConverter)));
+    assertSame(countingConverter, store.getFirstSupported(Object.class, Object.class));
+    assertSame(countingConverter, store.getFirstSupported(Object.class, Object.class));
+    assertEquals(store.getFirstMatchResult(Object.class, Object.class), MatchResult.PARTIAL);
+    assertFalse(store.isFullySupported(Object.class, Object.class));
+    assertEquals(matches[0], 1);
+
+    store.getConverters().add(0, fullMatchConverter);
+    assertSame(fullMatchConverter, store.getFirstSupported(Object.class, Object.class));
+    assertTrue(store.isFullySupported(Object.class, Object.class));
+
+    store.getConverters().remove(fullMatchConverter);
+    assertSame(countingConverter, store.getFirstSupported(Object.class, Object.class));
+    assertEquals(matches[0], 2);
+  }
+
+  public void shouldMemoizeUnsupportedTypes() {
+    final int[] matches = new int[1];
+    ConditionalConverter<?, ?> countingConverter = new ConditionalConverter<Object, Object>() {
+      public MatchResult match(Class<?> sourceType, Class<?> destinationType) {
+        matches[0]++;
+        return MatchResult.NONE;
+      }
+
+      public Object convert(MappingContext<Object, Object> context) {
+        return null;
+      }
+    };
+
+    store = new ConverterStore(Collections.<ConditionalConverter<?, ?>>singletonList(countingConverter));
+    assertNull(store.getFirstSupported(String.class, Integer.class));
+    assertNull(store.getFirstSupported(String.class, Integer.class));
+    assertNull(store.getFirstSupported(String.class, Long.class));
+    assertEquals(matches[0], 2);
+  }
+
   public void shouldSelectNull() {
     store = new ConverterStore(Collections.<ConditionalConverter<?, ?>>singletonList(noneMatchConverter));
     assertNull(store.getFirstSupported(Object.class, Object.class));
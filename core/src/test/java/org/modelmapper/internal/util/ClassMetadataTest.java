@@ -0,0 +1,54 @@
+package org.modelmapper.internal.util;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import org.testng.annotations.Test;
+
+@Test
+public class ClassMetadataTest {
+  enum Plain {
+    A
+  }
+
+  enum WithBody {
+    A {
+      @Override
+      int value() {
+        return 1;
+      }
+    };
+
+    abstract int value();
+  }
+
+  static class Foo {
+  }
+
+  public void shouldDescribeEnums() {
+    Class<?> body = WithBody.A.getClass();
+
+    assertTrue(ClassMetadata.isEnum(Plain.class));
+    assertTrue(ClassMetadata.isValueType(Plain.class));
+    assertTrue(ClassMetadata.isEnum(body));
+    assertTrue(ClassMetadata.isAnonymousEnumSubclass(body));
+    assertFalse(ClassMetadata.isAnonymousEnumSubclass(WithBody.class));
+    assertFalse(ClassMetadata.isEnum(Foo.class));
+  }
+
+  public void shouldDescribeTypes() {
+    assertTrue(ClassMetadata.isPrimitive(int.class));
+    assertTrue(ClassMetadata.isValueType(Integer.class));
+    assertTrue(ClassMetadata.isIterable(int[].class));
+    assertTrue(ClassMetadata.isIterable(ArrayList.class));
+    assertFalse(ClassMetadata.mightContainProperties(ArrayList.class));
+    assertFalse(ClassMetadata.mightContainProperties(Date.class));
+    assertTrue(ClassMetadata.mightContainProperties(Foo.class));
+    assertFalse(ClassMetadata.isProxied(Foo.class));
+    assertEquals(ClassMetadata.getDeProxiedType(Foo.class), Foo.class);
+  }
+}